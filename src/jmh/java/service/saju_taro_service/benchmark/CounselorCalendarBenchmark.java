@@ -0,0 +1,147 @@
+package service.saju_taro_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.dto.schedule.CalendarSlotRow;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse.DaySchedule;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse.TimeSlot;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 월 달력 구성 벤치마크 (스케줄 1천/1만 건, 절반 예약)
+ * - legacy: 스케줄/예약 따로 조회 → 스케줄마다 예약 목록 anyMatch (USER) → 날짜/예약 맵 재구성 (기존 방식)
+ * - singlePass: 스케줄 점유 상태 프로젝션(CalendarSlotRow)을 한 번 훑어 구성 (현재 방식)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CounselorCalendarBenchmark {
+
+    @Param({"1000", "10000"})
+    int slots;
+
+    @Param({"USER", "COUNSELOR"})
+    String role;
+
+    private final YearMonth month = YearMonth.of(2030, 1);
+    private final LocalDate start = month.atDay(1);
+    private final LocalDate end = month.atEndOfMonth();
+    private final Long counselorId = 1L;
+
+    private List<Schedule> schedules;
+    private List<Reservation> reservations;
+    private List<CalendarSlotRow> rows;
+
+    @Setup
+    public void setUp() {
+        User counselor = User.builder().id(counselorId).nickname("bench").build();
+        long stepMinutes = month.lengthOfMonth() * 24L * 60 / slots;
+        schedules = new ArrayList<>(slots);
+        reservations = new ArrayList<>();
+        rows = new ArrayList<>(slots);
+        for (int i = 0; i < slots; i++) {
+            LocalDateTime startTime = start.atStartOfDay().plusMinutes(i * stepMinutes);
+            boolean reserved = i % 2 == 0;
+            Schedule schedule = Schedule.builder()
+                    .id((long) i + 1)
+                    .counselor(counselor)
+                    .startTime(startTime)
+                    .endTime(startTime.plusMinutes(Math.min(30, stepMinutes)))
+                    .isAvailable(!reserved)
+                    .build();
+            schedules.add(schedule);
+            Long reservationId = null;
+            if (reserved) {
+                reservationId = (long) reservations.size() + 1;
+                reservations.add(Reservation.builder()
+                        .id(reservationId)
+                        .counselor(counselor)
+                        .schedule(schedule)
+                        .reservationTime(startTime)
+                        .build());
+            }
+            rows.add(new CalendarSlotRow(schedule.getId(), schedule.getStartTime(), schedule.getEndTime(),
+                    schedule.isAvailable()));
+        }
+        // 기존 조회는 예약을 시간 역순으로 받음
+        Collections.reverse(reservations);
+    }
+
+    @Benchmark
+    public CounselorCalendarResponse legacy() {
+        List<Schedule> filtered;
+        if ("USER".equals(role)) {
+            filtered = schedules.stream()
+                    .filter(s -> reservations.stream()
+                            .anyMatch(r -> r.getSchedule() != null && r.getSchedule().getId().equals(s.getId())))
+                    .sorted(Comparator.comparing(Schedule::getStartTime))
+                    .toList();
+        } else {
+            filtered = schedules.stream()
+                    .sorted(Comparator.comparing(Schedule::getStartTime))
+                    .toList();
+        }
+        return legacyFrom(filtered, reservations, start, end, role);
+    }
+
+    @Benchmark
+    public CounselorCalendarResponse singlePass() {
+        return CounselorCalendarResponse.from(counselorId, rows, start, end, role);
+    }
+
+    // 변경 전 CounselorCalendarResponse.from (비교 기준)
+    private static CounselorCalendarResponse legacyFrom(List<Schedule> schedules, List<Reservation> reservations,
+                                                        LocalDate start, LocalDate end, String role) {
+        Map<LocalDate, List<Schedule>> schedulesByDate = schedules.stream()
+                .collect(Collectors.groupingBy(s -> s.getStartTime().toLocalDate()));
+        Set<LocalDate> reservedDates = reservations.stream()
+                .filter(r -> r.getReservationTime() != null)
+                .map(r -> r.getReservationTime().toLocalDate())
+                .collect(Collectors.toSet());
+        Map<Long, Reservation> reservationByScheduleId = reservations.stream()
+                .filter(r -> r.getSchedule() != null)
+                .collect(Collectors.toMap(r -> r.getSchedule().getId(), r -> r, (a, b) -> a));
+
+        List<DaySchedule> days = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            List<TimeSlot> slots = schedulesByDate.getOrDefault(date, Collections.emptyList())
+                    .stream()
+                    .map(s -> {
+                        boolean hasReservationForSlot = reservationByScheduleId.get(s.getId()) != null;
+                        return TimeSlot.builder()
+                                .startTime(s.getStartTime().toLocalTime().toString())
+                                .endTime(s.getEndTime().toLocalTime().toString())
+                                .available(s.isAvailable())
+                                .status(role.equals("USER")
+                                        ? (hasReservationForSlot ? "회색표시" : null)
+                                        : (hasReservationForSlot ? "예약됨" : "가능"))
+                                .build();
+                    })
+                    .filter(ts -> ts.getStatus() != null)
+                    .sorted(Comparator.comparing(TimeSlot::getStartTime))
+                    .toList();
+            days.add(DaySchedule.builder()
+                    .date(date)
+                    .hasReservation(reservedDates.contains(date))
+                    .schedules(slots)
+                    .build());
+        }
+        return CounselorCalendarResponse.builder()
+                .counselorId(schedules.isEmpty() ? null : schedules.get(0).getCounselor().getId())
+                .month(start.getYear() + "-" + String.format("%02d", start.getMonthValue()))
+                .days(days)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package service.saju_taro_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import service.saju_taro_service.domain.common.BaseTimeEntity;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.review.Review;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.profile.ProfileResponse;
+import service.saju_taro_service.dto.reservation.ReservationResponse;
+import service.saju_taro_service.dto.review.ReviewResponse;
+import service.saju_taro_service.dto.schedule.CalendarSlotRow;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse;
+import service.saju_taro_service.dto.schedule.DayAvailability;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ✅ 응답 DTO 변환 벤치마크 (조회 API 한 번에 해당하는 객체 그래프 기준)
+ * - 예약 목록 100건 / 상담사 프로필 + 후기 50건 / 월 달력 (슬롯 300개, 비트맵·스케줄 프로젝션 두 경로)
+ * 할당량은 ./gradlew jmh (기본 -prof gc) 결과의 gc.alloc.rate.norm 으로 확인
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private static final int RESERVATIONS = 100;
+    private static final int REVIEWS = 50;
+    private static final int CALENDAR_SLOTS = 300;
+
+    private final YearMonth month = YearMonth.of(2030, 1);
+    private final LocalDateTime now = LocalDateTime.of(2029, 12, 20, 14, 30);
+
+    private List<Reservation> reservations;
+    private List<Review> reviews;
+    private Map<Long, User> reviewers;
+    private Profile profile;
+    private List<CalendarSlotRow> calendarRows;
+    private Map<LocalDate, DayAvailability> calendarDays;
+    private User counselor;
+
+    @Setup
+    public void setUp() {
+        counselor = user(1L, "상담사", UserRole.COUNSELOR);
+        ServiceItem item = new ServiceItem();
+        item.setId(1L);
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+
+        reservations = new ArrayList<>(RESERVATIONS);
+        reviews = new ArrayList<>(REVIEWS);
+        reviewers = new HashMap<>();
+        for (int i = 0; i < RESERVATIONS; i++) {
+            User user = user(100L + i, "사용자" + i, UserRole.USER);
+            Reservation reservation = Reservation.builder()
+                    .id((long) i + 1)
+                    .user(user)
+                    .counselor(counselor)
+                    .serviceItem(item)
+                    .reservationTime(now.plusHours(i))
+                    .reservationStatus(i % 3 == 0 ? ReservationStatus.COMPLETED : ReservationStatus.RESERVED)
+                    .note(i % 2 == 0 ? "첫 상담입니다" : null)
+                    .build();
+            reservations.add(reservation);
+            if (i < REVIEWS) {
+                Review review = Review.builder()
+                        .id((long) i + 1)
+                        .user(user)
+                        .counselor(counselor)
+                        .reservation(reservation)
+                        .rating(3 + i % 3)
+                        .comment("상담이 정말 도움이 되었습니다. 다음에도 예약할게요! #" + i)
+                        .build();
+                audited(review, now.minusDays(i));
+                reviews.add(review);
+                reviewers.put(user.getId(), user);
+            }
+        }
+
+        profile = Profile.builder()
+                .id(1L)
+                .counselor(counselor)
+                .bio("15년 경력의 타로 상담사입니다.")
+                .experience("타로 마스터 과정 수료, 방송 출연 다수")
+                .imageUrl("/images/profile/1.png")
+                .build();
+        profile.updateTags(List.of("연애", "진로", "재물", "궁합"));
+        profile.updateServiceTypes(List.of(ServiceType.TAROT, ServiceType.SAJU));
+        audited(profile, now.minusYears(1));
+
+        // 월 달력: 하루 10슬롯 (10:00~15:00, 30분), 세 슬롯 중 하나 예약
+        calendarRows = new ArrayList<>(CALENDAR_SLOTS);
+        Map<LocalDate, List<Schedule>> schedulesByDate = new LinkedHashMap<>();
+        long id = 1;
+        for (int day = 1; day <= month.lengthOfMonth() && calendarRows.size() < CALENDAR_SLOTS; day++) {
+            LocalDate date = month.atDay(day);
+            List<Schedule> daySchedules = schedulesByDate.computeIfAbsent(date, d -> new ArrayList<>());
+            for (int slot = 0; slot < 10 && calendarRows.size() < CALENDAR_SLOTS; slot++, id++) {
+                LocalDateTime start = date.atTime(10, 0).plusMinutes(30L * slot);
+                boolean booked = id % 3 == 0;
+                daySchedules.add(Schedule.builder().id(id).counselor(counselor)
+                        .startTime(start).endTime(start.plusMinutes(30)).isAvailable(!booked).build());
+                calendarRows.add(new CalendarSlotRow(id, start, start.plusMinutes(30), !booked));
+            }
+        }
+        calendarDays = new LinkedHashMap<>();
+        for (int day = 1; day <= month.lengthOfMonth(); day++) {
+            LocalDate date = month.atDay(day);
+            calendarDays.put(date, DayAvailability.of(date, schedulesByDate.getOrDefault(date, List.of())));
+        }
+    }
+
+    @Benchmark
+    public List<ReservationResponse> reservationList() {
+        return reservations.stream().map(ReservationResponse::fromEntity).toList();
+    }
+
+    @Benchmark
+    public List<ReviewResponse> reviewList() {
+        return reviews.stream().map(r -> ReviewResponse.fromEntity(r, reviewers.get(r.getUser().getId()))).toList();
+    }
+
+    @Benchmark
+    public ProfileResponse profileWithReviews() {
+        List<ReviewResponse> reviewList = reviews.stream()
+                .map(r -> ReviewResponse.fromEntity(r, reviewers.get(r.getUser().getId())))
+                .toList();
+        return ProfileResponse.fromEntity(profile, 4.2, reviewList.size(), reviewList);
+    }
+
+    @Benchmark
+    public CounselorCalendarResponse calendarFromRows() {
+        return CounselorCalendarResponse.from(counselor.getId(), calendarRows,
+                month.atDay(1), month.atEndOfMonth(), "COUNSELOR");
+    }
+
+    @Benchmark
+    public CounselorCalendarResponse calendarFromDays() {
+        return CounselorCalendarResponse.fromDays(counselor.getId(), calendarDays, month.atDay(1), "COUNSELOR");
+    }
+
+    private static User user(Long id, String name, UserRole role) {
+        return User.builder()
+                .id(id).name(name).nickname(name).email(name + "@bench.com")
+                .phone("010-1234-5678").userRole(role)
+                .build();
+    }
+
+    // createdAt 은 감사(auditing) 리스너가 채우는 값이라 setter 가 없음
+    private static void audited(BaseTimeEntity entity, LocalDateTime createdAt) {
+        try {
+            Field field = BaseTimeEntity.class.getDeclaredField("createdAt");
+            field.setAccessible(true);
+            field.set(entity, createdAt);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package service.saju_taro_service.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.auth.oauth2.AccessToken;
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import service.saju_taro_service.SajuTaroServiceApplication;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.global.util.JwtPrincipal;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.ServiceItemRepository;
+import service.saju_taro_service.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.authentication;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * ✅ 예약 동시성 부하 테스트 (./gradlew loadTest)
+ * 실제 컨트롤러(/api/reservations)부터 DB 까지 전체 경로를 MockMvc 로 동시에 호출
+ *
+ * 시나리오
+ * - 단일 슬롯 몰림: 모든 사용자가 같은 스케줄 하나를 동시에 예약 → 성공 1건
+ * - 다중 슬롯 분산: 같은 상담사의 여러 스케줄에 무작위 예약 → 성공 = 슬롯 수
+ * - 예약/취소 혼합: 예약 성공자의 절반이 바로 취소 → 풀린 슬롯을 다른 사용자가 다시 예약
+ *
+ * 옵션 (-D): loadtest.users(1000), loadtest.threads(100), loadtest.slots(100),
+ *           loadtest.mixed-slots(20), loadtest.mixed-rounds(3)
+ */
+@SpringBootTest(classes = SajuTaroServiceApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@Import(LoadTestConfig.class)
+class BookingLoadTest {
+
+    static {
+        // FirebaseConfig 는 앱이 이미 있으면 초기화를 건너뜀 → 실제 인증 파일 없이 기동
+        if (FirebaseApp.getApps().isEmpty()) {
+            FirebaseApp.initializeApp(FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.create(new AccessToken("loadtest", null)))
+                    .setProjectId("loadtest")
+                    .build());
+        }
+    }
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+    private static final int THREADS = Integer.getInteger("loadtest.threads", 100);
+    private static final int SLOTS = Integer.getInteger("loadtest.slots", 100);
+    private static final int MIXED_SLOTS = Integer.getInteger("loadtest.mixed-slots", 20);
+    private static final int MIXED_ROUNDS = Integer.getInteger("loadtest.mixed-rounds", 3);
+
+    @MockBean
+    FirebaseMessaging firebaseMessaging;
+    @MockBean
+    JavaMailSender mailSender;
+
+    @Autowired
+    MockMvc mockMvc;
+    @Autowired
+    ObjectMapper objectMapper;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ScheduleRepository scheduleRepository;
+    @Autowired
+    ServiceItemRepository serviceItemRepository;
+    @Autowired
+    LoadTestConfig.ClaimTimer claimTimer;
+    @PersistenceContext
+    EntityManager em;
+
+    @Value("${loadtest.report-dir:#{null}}")
+    String reportDir;
+
+    @BeforeEach
+    void stubMail() {
+        when(mailSender.createMimeMessage()).thenAnswer(inv -> new MimeMessage((Session) null));
+    }
+
+    @Test
+    @DisplayName("✅ 단일 슬롯 몰림 - 정확히 1건 성공, 중복 예약 0")
+    void singleSlotStampede() throws Exception {
+        Fixture f = fixture("stampede", 1);
+        LoadReport report = run(f, (user, rnd) -> book(user, f, f.schedules.get(0)));
+
+        assertThat(report.count("book", 200)).isEqualTo(1);
+        assertThat(report.violations()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 다중 슬롯 분산 - 슬롯 수만큼 성공, 중복 예약 0")
+    void manySlotSpread() throws Exception {
+        Fixture f = fixture("spread", SLOTS);
+        LoadReport report = run(f, (user, rnd) -> book(user, f, f.schedules.get(rnd.nextInt(f.schedules.size()))));
+
+        assertThat(report.count("book", 200)).isLessThanOrEqualTo(SLOTS);
+        assertThat(report.violations()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 예약/취소 혼합 - 취소로 풀린 슬롯 재예약, 중복 예약 0")
+    void mixedCancelAndBook() throws Exception {
+        Fixture f = fixture("mixed", MIXED_SLOTS);
+        LoadReport report = run(f, (user, rnd) -> {
+            for (int round = 0; round < MIXED_ROUNDS; round++) {
+                Schedule schedule = f.schedules.get(rnd.nextInt(f.schedules.size()));
+                Long reservationId = book(user, f, schedule);
+                if (reservationId != null && rnd.nextBoolean()) {
+                    perform(f.report, "cancel", put("/api/reservations/{id}/cancel", reservationId).with(as(user)));
+                }
+            }
+        });
+
+        assertThat(report.violations()).isZero();
+    }
+
+    // ==================== 실행 / 측정 ====================
+
+    @FunctionalInterface
+    interface VirtualUser {
+        void act(User user, ThreadLocalRandom rnd) throws Exception;
+    }
+
+    private LoadReport run(Fixture f, VirtualUser action) throws Exception {
+        claimTimer.reset();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (User user : f.users) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                action.act(user, ThreadLocalRandom.current());
+                return null;
+            }));
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+        long wall = System.nanoTime() - began;
+        pool.shutdown();
+
+        f.report.finish(wall, claimTimer.samples(), countViolations(f.counselor.getId()));
+        System.out.println(f.report.render());
+        f.report.writeTo(reportDir);
+        return f.report;
+    }
+
+    /** 예약 요청 → 성공 시 예약 ID */
+    private Long book(User user, Fixture f, Schedule schedule) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of(
+                "counselorId", f.counselor.getId(),
+                "serviceItemId", f.serviceItem.getId(),
+                "scheduleId", schedule.getId(),
+                "reservationTime", schedule.getStartTime().toString()));
+        MvcResult result = perform(f.report, "book", post("/api/reservations")
+                .with(as(user))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+        if (result.getResponse().getStatus() != 200) return null;
+        return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asLong();
+    }
+
+    private MvcResult perform(LoadReport report, String operation,
+                              RequestBuilder request) throws Exception {
+        long t0 = System.nanoTime();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        report.record(operation, result.getResponse().getStatus(), System.nanoTime() - t0);
+        return result;
+    }
+
+    private static RequestPostProcessor as(User user) {
+        JwtPrincipal principal = new JwtPrincipal(user.getId(), user.getUserRole().name());
+        return authentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    /**
+     * 중복 예약 위반 건수
+     * - 한 스케줄에 취소되지 않은 예약이 2건 이상
+     * - 취소되지 않은 예약이 있는데 스케줄이 다시 예약 가능 상태 (다음 요청이 또 점유 가능)
+     */
+    private long countViolations(Long counselorId) {
+        long duplicated = em.createQuery("""
+                        SELECT r.schedule.id FROM Reservation r
+                        WHERE r.counselor.id = :cid AND r.reservationStatus <> :cancelled AND r.schedule IS NOT NULL
+                        GROUP BY r.schedule.id HAVING COUNT(r) > 1
+                        """, Long.class)
+                .setParameter("cid", counselorId)
+                .setParameter("cancelled", ReservationStatus.CANCELLED)
+                .getResultList().size();
+        long reopened = em.createQuery("""
+                        SELECT COUNT(r) FROM Reservation r
+                        WHERE r.counselor.id = :cid AND r.reservationStatus <> :cancelled AND r.schedule.isAvailable = true
+                        """, Long.class)
+                .setParameter("cid", counselorId)
+                .setParameter("cancelled", ReservationStatus.CANCELLED)
+                .getSingleResult();
+        return duplicated + reopened;
+    }
+
+    // ==================== 테스트 데이터 ====================
+
+    private record Fixture(User counselor, List<User> users, ServiceItem serviceItem,
+                           List<Schedule> schedules, LoadReport report) {
+    }
+
+    private Fixture fixture(String prefix, int slotCount) {
+        String title = prefix + " (users=" + USERS + ", threads=" + THREADS + ", slots=" + slotCount
+                + (prefix.equals("mixed") ? ", rounds=" + MIXED_ROUNDS : "") + ")";
+        User counselor = userRepository.save(newUser(prefix, 0, UserRole.COUNSELOR));
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= USERS; i++) {
+            users.add(newUser(prefix, i, UserRole.USER));
+        }
+        users = userRepository.saveAll(users);
+
+        ServiceItem item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        item = serviceItemRepository.save(item);
+
+        LocalDateTime first = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < slotCount; i++) {
+            LocalDateTime start = first.plusMinutes(30L * i);
+            schedules.add(Schedule.builder().counselor(counselor).startTime(start).endTime(start.plusMinutes(30)).build());
+        }
+        schedules = scheduleRepository.saveAll(schedules);
+        return new Fixture(counselor, users, item, schedules, new LoadReport(title));
+    }
+
+    private static final AtomicInteger PHONE_SEQ = new AtomicInteger();
+
+    private User newUser(String prefix, int seq, UserRole role) {
+        return User.builder()
+                .name(prefix + seq)
+                .nickname(prefix + seq)
+                .email(prefix + seq + "@loadtest.com")
+                .password("pw")
+                .phone("010-" + String.format("%08d", PHONE_SEQ.incrementAndGet()))
+                .userRole(role)
+                .build();
+    }
+}
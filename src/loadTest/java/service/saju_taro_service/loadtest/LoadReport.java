@@ -0,0 +1,101 @@
+package service.saju_taro_service.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 시나리오별 부하 테스트 결과 집계
+ * - 요청 종류(book/cancel)별 응답 코드 건수, 지연시간 p50/p99
+ * - 전체 처리량, 스케줄 점유 UPDATE 대기 시간, 중복 예약 위반 건수
+ */
+public class LoadReport {
+
+    private final String scenario;
+    private final Map<String, ConcurrentLinkedQueue<Long>> latencies = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    private long wallNanos;
+    private List<Long> claimSamples = List.of();
+    private long violations;
+
+    public LoadReport(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public void record(String operation, int status, long nanos) {
+        latencies.computeIfAbsent(operation, k -> new ConcurrentLinkedQueue<>()).add(nanos);
+        statusCounts.computeIfAbsent(operation + " " + status, k -> new LongAdder()).increment();
+    }
+
+    public void finish(long wallNanos, List<Long> claimSamples, long violations) {
+        this.wallNanos = wallNanos;
+        this.claimSamples = claimSamples;
+        this.violations = violations;
+    }
+
+    public long count(String operation, int status) {
+        LongAdder adder = statusCounts.get(operation + " " + status);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long violations() {
+        return violations;
+    }
+
+    public String render() {
+        StringBuilder sb = new StringBuilder();
+        long total = latencies.values().stream().mapToLong(ConcurrentLinkedQueue::size).sum();
+        sb.append("=== ").append(scenario).append(" ===\n");
+        sb.append(String.format(Locale.ROOT, "requests            %d in %.0f ms → %.1f req/s%n",
+                total, wallNanos / 1e6, total / (wallNanos / 1e9)));
+        for (String op : new TreeMap<>(latencies).keySet()) {
+            List<Long> sorted = sorted(latencies.get(op));
+            sb.append(String.format(Locale.ROOT, "%-8s latency     p50 %.1f ms  p99 %.1f ms  max %.1f ms%n",
+                    op, percentile(sorted, 50) / 1e6, percentile(sorted, 99) / 1e6, sorted.get(sorted.size() - 1) / 1e6));
+        }
+        new TreeMap<>(statusCounts).forEach((key, n) ->
+                sb.append(String.format(Locale.ROOT, "  %-18s %d%n", key, n.sum())));
+        List<Long> claims = sorted(claimSamples);
+        if (!claims.isEmpty()) {
+            long sum = claims.stream().mapToLong(Long::longValue).sum();
+            sb.append(String.format(Locale.ROOT, "lock-wait (claim)   total %.0f ms  avg %.2f ms  p99 %.1f ms  (%d claims)%n",
+                    sum / 1e6, sum / 1e6 / claims.size(), percentile(claims, 99) / 1e6, claims.size()));
+        }
+        sb.append("double-booking      ").append(violations).append(" violation(s)\n");
+        return sb.toString();
+    }
+
+    public void writeTo(String dir) {
+        if (dir == null) return;
+        try {
+            Path path = Path.of(dir);
+            Files.createDirectories(path);
+            Files.writeString(path.resolve("booking.txt"), render() + "\n",
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            System.err.println("⚠️ 부하 테스트 리포트 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private static List<Long> sorted(java.util.Collection<Long> values) {
+        List<Long> list = new ArrayList<>(values);
+        Collections.sort(list);
+        return list;
+    }
+
+    private static long percentile(List<Long> sorted, int p) {
+        if (sorted.isEmpty()) return 0;
+        int index = (int) Math.ceil(p / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,94 @@
+package service.saju_taro_service.loadtest;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * ✅ 부하 테스트용 빈
+ * - Redis 없이 돌 수 있도록 선점(hold)을 메모리 Map 으로 대체 (SET NX 와 같은 의미)
+ * - 스케줄 점유 UPDATE 에 걸린 시간을 기록 → 경합 시 대부분 행 잠금 대기 시간
+ */
+@TestConfiguration
+public class LoadTestConfig {
+
+    @Bean
+    @Primary
+    SlotHoldService inMemorySlotHoldService() {
+        return new InMemorySlotHoldService();
+    }
+
+    @Bean
+    static ClaimTimer claimTimer() {
+        return new ClaimTimer();
+    }
+
+    static class InMemorySlotHoldService extends SlotHoldService {
+        private final Map<Long, Long> holds = new ConcurrentHashMap<>();
+
+        InMemorySlotHoldService() {
+            super(null);
+        }
+
+        @Override
+        public boolean hold(Long scheduleId, Long reservationId) {
+            if (holds.putIfAbsent(scheduleId, reservationId) != null) return false;
+            releaseOnRollback(scheduleId, reservationId);
+            return true;
+        }
+
+        @Override
+        public boolean isHeld(Long scheduleId, Long reservationId) {
+            return reservationId.equals(holds.get(scheduleId));
+        }
+
+        @Override
+        public void release(Long scheduleId, Long reservationId) {
+            if (scheduleId != null) holds.remove(scheduleId, reservationId);
+        }
+    }
+
+    /**
+     * ScheduleRepository.claimIfAvailable 호출 시간 측정 (나노초)
+     */
+    public static class ClaimTimer implements BeanPostProcessor {
+        private final ConcurrentLinkedQueue<Long> samples = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof ScheduleRepository target)) return bean;
+            return Proxy.newProxyInstance(ScheduleRepository.class.getClassLoader(),
+                    new Class<?>[]{ScheduleRepository.class},
+                    (proxy, method, args) -> {
+                        boolean timed = method.getName().equals("claimIfAvailable");
+                        long start = System.nanoTime();
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        } finally {
+                            if (timed) samples.add(System.nanoTime() - start);
+                        }
+                    });
+        }
+
+        public void reset() {
+            samples.clear();
+        }
+
+        public List<Long> samples() {
+            return new ArrayList<>(samples);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package service.saju_taro_service.controller.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import service.saju_taro_service.global.cache.TwoTierCacheManager;
+
+@Tag(name = "Admin API", description = "관리자 전용 기능 (결제, 승인, 통계 등)")
+@RestController
+@RequestMapping("/api/admin/cache")
+@RequiredArgsConstructor
+public class AdminCacheController {
+        private final TwoTierCacheManager cacheManager;
+
+        /** ✅ 캐시별 적중/미스 통계 */
+        @Operation(summary = "캐시 적중률 조회", description = """
+                        상담사 목록/상세/프로필 캐시의 로컬(L1)·Redis(L2) 적중 횟수와 미스 횟수를 조회합니다.
+                        애플리케이션 인스턴스별 누적 값입니다.
+                        """)
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                                        {
+                                          "counselor-list": { "localHits": 1520, "redisHits": 40, "misses": 12, "hitRate": 0.992, "localSize": 6 },
+                                          "counselor-detail": { "localHits": 830, "redisHits": 95, "misses": 51, "hitRate": 0.948, "localSize": 48 },
+                                          "counselor-profile": { "localHits": 610, "redisHits": 70, "misses": 44, "hitRate": 0.939, "localSize": 40 }
+                                        }
+                                        """))),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음", content = @Content)
+        })
+        @GetMapping("/stats")
+        public ResponseEntity<?> getCacheStats() {
+                return ResponseEntity.ok(cacheManager.stats());
+        }
+}
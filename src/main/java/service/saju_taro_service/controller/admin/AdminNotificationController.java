@@ -0,0 +1,42 @@
+package service.saju_taro_service.controller.admin;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import service.saju_taro_service.service.notification.NotificationPipelineMonitor;
+
+@Tag(name = "Admin API", description = "관리자 전용 기능 (결제, 승인, 통계 등)")
+@RestController
+@RequestMapping("/api/admin/notifications")
+@RequiredArgsConstructor
+public class AdminNotificationController {
+        private final NotificationPipelineMonitor pipelineMonitor;
+
+        /** ✅ 알림 채널별 발송 단계 통계 */
+        @Operation(summary = "알림 발송 단계 통계 조회", description = """
+                        아웃박스 릴레이(채널별 행 처리, 내부 알림 저장 포함) / FCM / 이메일 단계별 대기열 크기, 거절 수, 처리·실패 수를 조회합니다.
+                        애플리케이션 인스턴스별 누적 값입니다.
+                        """)
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                                        {
+                                          "relay": { "workers": 2, "active": 1, "queued": 0, "queueCapacity": 100, "dispatched": 1520, "failed": 3, "rejected": 0 },
+                                          "push": { "workers": 1, "queued": 12, "queueCapacity": 10000, "accepted": 1490, "rejected": 0, "batches": 61, "errors": 0, "failed": 7 },
+                                          "email": { "workers": 2, "queued": 40, "queueCapacity": 1000, "accepted": 1400, "rejected": 25, "batches": 90, "errors": 0, "failed": 2 }
+                                        }
+                                        """))),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음", content = @Content)
+        })
+        @GetMapping("/stats")
+        public ResponseEntity<?> getNotificationStats() {
+                return ResponseEntity.ok(pipelineMonitor.stats());
+        }
+}
@@ -10,11 +10,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import service.saju_taro_service.service.admin.AdminDashBoardService;
 import service.saju_taro_service.service.payment.PaymentService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+
+import java.util.Map;
 
 @Tag(name = "Admin API", description = "관리자 전용 기능 (결제, 승인, 통계 등)")
 @RestController
@@ -23,6 +27,7 @@ import service.saju_taro_service.service.payment.PaymentService;
 public class AdminPaymentController {
         private final PaymentService paymentService;
         private final AdminDashBoardService dashBoardService;
+        private final DailyStatsService dailyStatsService;
 
         /** ✅ 전체 결제내역 조회 */
         @Operation(summary = "전체 결제 내역 조회", description = """
@@ -113,4 +118,26 @@ public class AdminPaymentController {
                                                 java.time.LocalDate.parse(endDate)));
         }
 
+        /** ✅ 통계 롤업 재계산 (수동 보정) */
+        @Operation(summary = "통계 롤업 재계산", description = """
+                        특정 기간(startDate ~ endDate)의 daily_stats 롤업을 원본 결제/예약/후기 데이터 기준으로 다시 계산합니다.
+                        수동 보정에 사용합니다. (과거 이력은 기동 시 1회 자동 백필, 최근 7일은 매일 새벽 자동 보정)
+                        응답의 rows 는 값이 바뀐 롤업 행 수입니다.
+                        """)
+        @ApiResponses(value = {
+                        @ApiResponse(responseCode = "200", description = "재계산 성공", content = @Content(mediaType = "application/json", schema = @Schema(example = """
+                                        { "startDate": "2025-01-01", "endDate": "2025-10-26", "rows": 1240 }
+                                        """))),
+                        @ApiResponse(responseCode = "400", description = "유효하지 않은 날짜 형식", content = @Content),
+                        @ApiResponse(responseCode = "403", description = "관리자 권한 없음", content = @Content)
+        })
+        @PostMapping("/stats/reconcile")
+        public ResponseEntity<?> reconcileStats(
+                        @Parameter(description = "재계산 시작일 (YYYY-MM-DD)", example = "2025-01-01") @RequestParam String startDate,
+                        @Parameter(description = "재계산 종료일 (YYYY-MM-DD)", example = "2025-10-26") @RequestParam String endDate) {
+                int rows = dailyStatsService.reconcile(
+                                java.time.LocalDate.parse(startDate),
+                                java.time.LocalDate.parse(endDate));
+                return ResponseEntity.ok(Map.of("startDate", startDate, "endDate", endDate, "rows", rows));
+        }
 }
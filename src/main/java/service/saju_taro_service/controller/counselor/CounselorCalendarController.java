@@ -8,12 +8,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import service.saju_taro_service.global.exception.CustomException;
 import service.saju_taro_service.global.exception.ErrorCode;
 import service.saju_taro_service.global.util.SecurityUtil;
 import service.saju_taro_service.service.counselor.CounselorCalendarService;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+
+import java.time.LocalDate;
 
 @Tag(name = "Counselor Calendar API", description = "상담사 달력 조회 (월 단위 일정/예약 현황)")
 @RestController
@@ -21,6 +25,7 @@ import service.saju_taro_service.service.counselor.CounselorCalendarService;
 @RequiredArgsConstructor
 public class CounselorCalendarController {
     private final CounselorCalendarService counselorCalendarService;
+    private final AvailabilityRuleService availabilityRuleService;
 
     /** ✅ 달력 조회 (월 단위) */
     @Operation(
@@ -73,6 +78,35 @@ public class CounselorCalendarController {
         return ResponseEntity.ok(counselorCalendarService.getCalendar(counselorId, year, month, role));
     }
 
+    /** ✅ 예약 가능 슬롯 조회 (기간) */
+    @Operation(
+            summary = "예약 가능 슬롯 조회",
+            description = """
+                    기간(최대 62일) 내 예약 가능한 슬롯을 시작 시간 순으로 조회합니다.  
+                    직접 등록된 스케줄은 scheduleId, 반복 규칙으로 계산된 슬롯은 ruleId 가 채워집니다.  
+                    ruleId 슬롯은 예약 요청 시 scheduleId 대신 ruleId 와 reservationTime(슬롯 시작 시각)을 보내면 됩니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                                    [
+                                      { "scheduleId": 101, "ruleId": null, "startTime": "2025-11-03T09:00:00", "endTime": "2025-11-03T10:00:00" },
+                                      { "scheduleId": null, "ruleId": 3, "startTime": "2025-11-03T10:00:00", "endTime": "2025-11-03T10:30:00" }
+                                    ]
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 기간", content = @Content)
+    })
+    @GetMapping("/{counselorId}/availability")
+    public ResponseEntity<?> getAvailability(
+            @Parameter(description = "조회할 상담사 ID", example = "5")
+            @PathVariable Long counselorId,
+            @Parameter(description = "시작 날짜", example = "2025-11-01")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료 날짜 (포함)", example = "2025-11-30")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(availabilityRuleService.getAvailableSlots(counselorId, from, to));
+    }
 }
-
-
@@ -16,6 +16,7 @@ import service.saju_taro_service.global.util.SecurityUtil;
 import service.saju_taro_service.service.profile.ProfileService;
 import service.saju_taro_service.service.profile.UploadService;
 
+import java.util.List;
 import java.util.Map;
 
 @Tag(name = "Profile API", description = "상담사 프로필 등록, 조회, 이미지 업로드 및 태그 검색 기능")
@@ -73,7 +74,8 @@ public class ProfileController {
             summary = "상담사 프로필 조회",
             description = """
                     상담사 ID를 기준으로 프로필 상세 정보를 조회합니다.  
-                    자기소개, 태그, 후기, 평점 등을 함께 반환합니다.
+                    자기소개, 태그, 후기, 평점 등을 함께 반환합니다.  
+                    후기는 최신순으로 reviewPage / reviewSize 만큼만 포함됩니다. (reviewSize 최대 50)
                     """
     )
     @ApiResponses(value = {
@@ -103,8 +105,10 @@ public class ProfileController {
     @GetMapping("/{counselorId}")
     public ResponseEntity<?> getProfile(
             @Parameter(description = "상담사 ID", example = "5")
-            @PathVariable Long counselorId) {
-        return ResponseEntity.ok(profileService.getProfile(counselorId));
+            @PathVariable Long counselorId,
+            @Parameter(description = "후기 페이지 번호", example = "0") @RequestParam(defaultValue = "0") int reviewPage,
+            @Parameter(description = "페이지당 후기 수", example = "10") @RequestParam(defaultValue = "10") int reviewSize) {
+        return ResponseEntity.ok(profileService.getProfile(counselorId, reviewPage, reviewSize));
     }
 
     // ✅ 프로필 이미지
@@ -135,12 +139,40 @@ public class ProfileController {
         return ResponseEntity.ok(Map.of("imageUrl", imageUrl));
     }
 
+    // ✅ 태그 자동완성
+    @Operation(
+            summary = "태그 자동완성 / 태그별 상담사 수",
+            description = """
+                    입력한 접두어로 시작하는 태그와 해당 태그를 가진 상담사 수를 반환합니다.  
+                    상담사 수 내림차순으로 정렬되며, 접두어를 비우면 전체 태그 중 상위 limit 개를 반환합니다. (limit 최대 50)
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                                    [
+                                      { "tag": "연애", "count": 42 },
+                                      { "tag": "연애운", "count": 7 }
+                                    ]
+                                    """)))
+    })
+    @GetMapping("/tags")
+    public ResponseEntity<?> suggestTags(
+            @Parameter(description = "태그 접두어", example = "연")
+            @RequestParam(required = false) String prefix,
+            @Parameter(description = "최대 개수", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(profileService.suggestTags(prefix, limit));
+    }
+
     // ✅ 태그 검색
     @Operation(
             summary = "태그 기반 상담사 검색",
             description = """
                     특정 태그(예: '연애', '심리', '진로')로 상담사를 검색합니다.  
-                    해당 태그를 가진 상담사 리스트를 반환합니다.
+                    태그는 여러 개 지정할 수 있습니다. (예: ?tag=연애&tag=진로)  
+                    match=any 이면 하나라도 가진 상담사, match=all 이면 모두 가진 상담사를 반환합니다.
                     """
     )
     @ApiResponses(value = {
@@ -168,9 +200,11 @@ public class ProfileController {
     })
     @GetMapping("/search")
     public ResponseEntity<?> searchByTag(
-            @Parameter(description = "검색할 태그명", example = "연애")
-            @RequestParam String tag) {
-        return ResponseEntity.ok(profileService.searchByTag(tag));
+            @Parameter(description = "검색할 태그명 (여러 개 가능)", example = "연애")
+            @RequestParam List<String> tag,
+            @Parameter(description = "검색 방식 (any / all)", example = "any")
+            @RequestParam(defaultValue = "any") String match) {
+        return ResponseEntity.ok(profileService.searchByTag(tag, match));
     }
 
 }
@@ -8,17 +8,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import service.saju_taro_service.dto.schedule.AvailabilityRuleRequest;
+import service.saju_taro_service.dto.schedule.ScheduleBulkRequest;
 import service.saju_taro_service.dto.schedule.ScheduleRequest;
+import service.saju_taro_service.global.util.SecurityUtil;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
 import service.saju_taro_service.service.scheduleService.ScheduleService;
 
+import java.time.LocalDate;
+
 @Tag(name = "Schedule API", description = "상담사 스케줄 등록, 조회, 삭제 기능")
 @RestController
 @RequestMapping("/api/schedules")
 @RequiredArgsConstructor
 public class ScheduleController {
     private final ScheduleService scheduleService;
+    private final AvailabilityRuleService availabilityRuleService;
 
     /** ✅ 상담사 스케줄 등록 */
     @Operation(
@@ -55,6 +63,45 @@ public class ScheduleController {
         return ResponseEntity.ok(scheduleService.createSchedule(req));
     }
 
+    /** ✅ 상담사 스케줄 일괄 등록 */
+    @Operation(
+            summary = "상담사 스케줄 일괄 등록",
+            description = """
+                    여러 시간대를 한 번에 등록합니다. (최대 2000개)  
+                    기존 스케줄 또는 같은 요청 안의 다른 슬롯과 겹치는 슬롯은 건너뛰고 conflicts 에 사유와 함께 반환합니다.  
+                    끝과 시작이 맞닿은 연속 슬롯(예: 14:00~14:30, 14:30~15:00)은 겹치지 않는 것으로 봅니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일괄 등록 완료 (일부 충돌 포함 가능)",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                                    {
+                                      "requested": 3,
+                                      "created": 1,
+                                      "schedules": [
+                                        { "id": 201, "counselorId": 5, "startTime": "2025-11-03T14:00:00", "endTime": "2025-11-03T14:30:00", "available": true }
+                                      ],
+                                      "conflicts": [
+                                        { "index": 1, "startTime": "2025-11-03T14:15:00", "endTime": "2025-11-03T14:45:00", "reason": "REQUEST_OVERLAP", "conflictingScheduleId": null, "conflictingIndex": 0 },
+                                        { "index": 2, "startTime": "2025-11-03T15:00:00", "endTime": "2025-11-03T15:30:00", "reason": "EXISTING_OVERLAP", "conflictingScheduleId": 101, "conflictingIndex": null }
+                                      ]
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "빈 요청 또는 최대 개수 초과", content = @Content),
+            @ApiResponse(responseCode = "403", description = "상담사가 아님", content = @Content)
+    })
+    @PostMapping("/bulk")
+    public ResponseEntity<?> createSchedules(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "스케줄 일괄 등록 요청 DTO",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = ScheduleBulkRequest.class))
+            )
+            @RequestBody ScheduleBulkRequest req) {
+        return ResponseEntity.ok(scheduleService.createSchedules(req));
+    }
+
     /** ✅ 상담사별 스케줄 조회 */
     @Operation(
             summary = "상담사 스케줄 조회",
@@ -115,4 +162,93 @@ public class ScheduleController {
         scheduleService.deleteSchedule(id);
         return ResponseEntity.ok("스케줄이 삭제되었습니다.");
     }
+
+    /** ✅ 반복 스케줄 규칙 등록 */
+    @Operation(
+            summary = "반복 스케줄 규칙 등록",
+            description = """
+                    요일/시간대/슬롯 길이로 매주 반복되는 상담 가능 시간을 등록합니다.  
+                    슬롯은 미리 저장하지 않고 조회 시 계산되며, 사용자가 예약할 때 스케줄로 저장됩니다.  
+                    같은 요일에 시간이 겹치는 규칙은 등록할 수 없습니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "규칙 등록 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                                    {
+                                      "id": 3,
+                                      "counselorId": 5,
+                                      "dayOfWeek": "MONDAY",
+                                      "startTime": "10:00:00",
+                                      "endTime": "18:00:00",
+                                      "slotMinutes": 30,
+                                      "validFrom": "2025-11-01",
+                                      "validUntil": null,
+                                      "exceptDates": ["2025-12-29"]
+                                    }
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 시간대/슬롯 길이 또는 기존 규칙과 겹침", content = @Content),
+            @ApiResponse(responseCode = "403", description = "상담사가 아님", content = @Content)
+    })
+    @PostMapping("/rules")
+    public ResponseEntity<?> createRule(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "반복 규칙 등록 요청 DTO",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = AvailabilityRuleRequest.class))
+            )
+            @RequestBody AvailabilityRuleRequest req) {
+        return ResponseEntity.ok(availabilityRuleService.createRule(req));
+    }
+
+    /** ✅ 내 반복 스케줄 규칙 조회 */
+    @Operation(summary = "내 반복 스케줄 규칙 조회", description = "로그인한 상담사의 활성 반복 규칙을 요일/시작시간 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "상담사가 아님", content = @Content)
+    })
+    @GetMapping("/rules")
+    public ResponseEntity<?> getMyRules() {
+        return ResponseEntity.ok(availabilityRuleService.getRules(SecurityUtil.currentUserId()));
+    }
+
+    /** ✅ 반복 스케줄 규칙 삭제 */
+    @Operation(
+            summary = "반복 스케줄 규칙 삭제",
+            description = """
+                    반복 규칙을 비활성화합니다.  
+                    이미 예약되어 저장된 스케줄과 예약은 그대로 유지됩니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "규칙 삭제 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = "\"반복 규칙이 삭제되었습니다.\""))),
+            @ApiResponse(responseCode = "403", description = "본인 규칙이 아님", content = @Content),
+            @ApiResponse(responseCode = "404", description = "규칙을 찾을 수 없음", content = @Content)
+    })
+    @DeleteMapping("/rules/{ruleId}")
+    public ResponseEntity<?> deleteRule(
+            @Parameter(description = "삭제할 규칙 ID", example = "3")
+            @PathVariable Long ruleId) {
+        availabilityRuleService.deleteRule(ruleId);
+        return ResponseEntity.ok("반복 규칙이 삭제되었습니다.");
+    }
+
+    /** ✅ 반복 규칙 쉬는 날 추가 */
+    @Operation(summary = "반복 규칙 쉬는 날 추가", description = "지정한 날짜에는 해당 규칙의 슬롯을 만들지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "추가 성공"),
+            @ApiResponse(responseCode = "403", description = "본인 규칙이 아님", content = @Content),
+            @ApiResponse(responseCode = "404", description = "규칙을 찾을 수 없음", content = @Content)
+    })
+    @PostMapping("/rules/{ruleId}/exceptions")
+    public ResponseEntity<?> addExceptDate(
+            @Parameter(description = "규칙 ID", example = "3")
+            @PathVariable Long ruleId,
+            @Parameter(description = "쉬는 날짜", example = "2025-12-29")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        return ResponseEntity.ok(availabilityRuleService.addExceptDate(ruleId, date));
+    }
 }
@@ -8,16 +8,22 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.service.counselor.CounselorSearchService;
 import service.saju_taro_service.service.user.CounselorService;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "Counselor API", description = "상담사 목록 및 상세 조회 기능 (사용자/관리자 공용)")
 @RestController
 @RequestMapping("/api/counselors")
 @RequiredArgsConstructor
 public class CounselorController {
     private final CounselorService counselorService;
+    private final CounselorSearchService counselorSearchService;
 
     /** ✅ 상담사 목록 조회 */
     @Operation(
@@ -67,6 +73,45 @@ public class CounselorController {
         return ResponseEntity.ok(counselorService.getCounselorList(sort,page,size));
     }
 
+    /** ✅ 빈 시간 검색 (상담사 전체) */
+    @Operation(
+            summary = "가장 빨리 상담 가능한 상담사 검색",
+            description = """
+                    상담 종류 / 태그 / 최소 평점 / 시간대 조건으로 상담사별 가장 이른 예약 가능 슬롯을 시작 시각 순으로 조회합니다.  
+                    시간대를 생략하면 지금부터 24시간, 최대 조회 범위는 약 2주입니다.  
+                    ruleId 가 있는 슬롯은 예약 시 scheduleId 대신 ruleId 와 reservationTime(슬롯 시작 시각)을 보내면 됩니다.  
+                    결과는 수 초 지연될 수 있으며, 이미 예약된 슬롯이면 예약 시 409 가 반환됩니다.
+                    """
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = """
+                                    [
+                                      { "counselorId": 7, "nickname": "별빛타로", "averageRating": 4.8, "scheduleId": 311, "ruleId": null, "startTime": "2025-11-03T20:00:00", "endTime": "2025-11-03T20:30:00" },
+                                      { "counselorId": 3, "nickname": "달빛사주", "averageRating": 4.5, "scheduleId": null, "ruleId": 12, "startTime": "2025-11-03T20:30:00", "endTime": "2025-11-03T21:00:00" }
+                                    ]
+                                    """))),
+            @ApiResponse(responseCode = "400", description = "잘못된 시간대", content = @Content)
+    })
+    @GetMapping("/available-slots")
+    public ResponseEntity<?> findFirstAvailable(
+            @Parameter(description = "상담 종류 (SAJU, TAROT, OTHER)", example = "TAROT")
+            @RequestParam(required = false) ServiceType serviceType,
+            @Parameter(description = "프로필 태그 (정확히 일치)", example = "연애")
+            @RequestParam(required = false) String tag,
+            @Parameter(description = "최소 평점", example = "4.0")
+            @RequestParam(required = false) Double minRating,
+            @Parameter(description = "검색 시작 시각 (생략 시 현재)", example = "2025-11-03T18:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "검색 종료 시각 (생략 시 시작 + 24시간)", example = "2025-11-03T23:59:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "최대 상담사 수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(counselorSearchService.findFirstAvailable(serviceType, tag, minRating, from, to, limit));
+    }
+
     /** ✅ 상담사 상세 조회 */
     @Operation(
             summary = "상담사 상세 조회",
@@ -0,0 +1,7 @@
+package service.saju_taro_service.domain.notification;
+
+public enum NotificationChannel {
+    INBOX, // 내부 알림 저장만 (저장 실패 시 임대 만료 후 다시 저장)
+    PUSH,  // 푸시만 (sendEach 결과 처리 후 완료)
+    EMAIL  // 이메일만 (SMTP 발송 후 완료)
+}
@@ -0,0 +1,89 @@
+package service.saju_taro_service.domain.notification;
+
+import jakarta.persistence.*;
+import lombok.*;
+import service.saju_taro_service.domain.common.BaseTimeEntity;
+import service.saju_taro_service.global.event.NotificationEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ✅ 알림 아웃박스 (업무 트랜잭션과 같은 트랜잭션에서 저장 → 커밋된 변경에 대해서만 알림 발송)
+ * 릴레이가 availableAt 이 지난 PENDING 행을 잠금 건너뛰기로 가져가 채널별로 발송 후 DONE 처리
+ */
+@Entity
+// 상태 + 발송 가능 시각 인덱스 (릴레이 폴링)
+@Table(name = "notification_outbox",
+        indexes = @Index(name = "idx_outbox_status_available", columnList = "status, available_at, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 수신자
+
+    @Column(name = "counselor_id")
+    private Long counselorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private NotificationType type;
+
+    @Column(length = 500, nullable = false)
+    private String message;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private NotificationOutboxStatus status = NotificationOutboxStatus.PENDING;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private NotificationChannel channel = NotificationChannel.INBOX;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0; // 릴레이가 가져간 횟수
+
+    @Builder.Default
+    @Column(name = "push_attempt", nullable = false)
+    private int pushAttempt = 0; // PUSH 재시도 회차 (백오프 계산용)
+
+    // 이 시각 이후 릴레이가 가져갈 수 있음 (가져가면 임대 시간만큼 뒤로 미룸)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    /**
+     * ✅ 알림 한 건 → 채널별 행 (내부 알림 / 푸시 / 이메일)
+     * 채널마다 상태 / 시도 횟수를 따로 가짐 → 한 채널이 실패해도 해당 행만 다시 발송, 나머지는 완료
+     * 푸시 / 이메일 행은 발송 결과가 나온 뒤에야 완료, 재시도는 같은 행의 availableAt(푸시는 pushAttempt 도)을 미뤄서 예약
+     */
+    public static List<NotificationOutbox> forChannels(NotificationEvent event) {
+        return List.of(of(event, NotificationChannel.INBOX), of(event, NotificationChannel.PUSH),
+                of(event, NotificationChannel.EMAIL));
+    }
+
+    public static NotificationOutbox of(NotificationEvent event, NotificationChannel channel) {
+        return NotificationOutbox.builder()
+                .userId(event.getUserId())
+                .counselorId(event.getCounselorId())
+                .type(event.getType())
+                .message(event.getMessage())
+                .channel(channel)
+                .availableAt(LocalDateTime.now())
+                .build();
+    }
+
+    public NotificationEvent toEvent() {
+        return new NotificationEvent(userId, counselorId, type, message);
+    }
+}
@@ -0,0 +1,7 @@
+package service.saju_taro_service.domain.notification;
+
+public enum NotificationOutboxStatus {
+    PENDING, // 발송 대기 (또는 발송 중 - availableAt 까지 다른 노드가 가져가지 않음)
+    DONE,    // 발송 완료
+    FAILED   // 최대 시도 횟수 초과
+}
@@ -11,7 +11,8 @@ import service.saju_taro_service.domain.reservation.Reservation;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "payments")
+// 상태 + ID 인덱스 (자동 환불 키셋 스캔: PAID 결제만 ID 순으로)
+@Table(name = "payments", indexes = @Index(name = "idx_payment_status_id", columnList = "payment_status, id"))
 @Getter
 @Setter
 @NoArgsConstructor
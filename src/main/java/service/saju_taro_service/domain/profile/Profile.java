@@ -3,10 +3,13 @@ package service.saju_taro_service.domain.profile;
 import jakarta.persistence.*;
 import lombok.*;
 import service.saju_taro_service.domain.common.BaseTimeEntity;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
 import service.saju_taro_service.domain.user.User;
 
+import java.util.*;
+
 @Entity
-@Table(name = "profiles")
+@Table(name = "profiles", indexes = @Index(name = "idx_profile_created_at", columnList = "created_at"))
 @Getter @Setter
 @NoArgsConstructor @AllArgsConstructor
 @Builder
@@ -26,8 +29,57 @@ public class Profile extends BaseTimeEntity {
     private String experience; // 경력
 
     @Column(length = 255)
-    private String tags; //주요분야(예: 연애, 진로, 사업 등)
+    private String tags; //주요분야(예: 연애, 진로, 사업 등) - 응답 표시용 (입력 순서 유지)
+
+    // ✅ 태그 검색용 정규화 테이블 (tag 인덱스로 정확히 일치하는 태그만 검색)
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "profile_tags",
+            joinColumns = @JoinColumn(name = "profile_id"),
+            indexes = @Index(name = "idx_profile_tags_tag", columnList = "tag, profile_id"))
+    @Column(name = "tag", nullable = false, length = 50)
+    private Set<String> tagSet = new HashSet<>();
 
     private String imageUrl;// 프로필 이미지 경로
 
+    @Column(length = 50)
+    private String serviceTypes; // 제공 상담 종류 (예: "SAJU,TAROT") - 비어 있으면 미지정
+
+    // ✅ 제공 상담 종류 변경 (중복 제외, enum 순서로 저장)
+    public void updateServiceTypes(Collection<ServiceType> types) {
+        this.serviceTypes = types == null ? null : types.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .map(Enum::name)
+                .reduce((a, b) -> a + "," + b)
+                .orElse(null);
+    }
+
+    public static Set<ServiceType> parseServiceTypes(String raw) {
+        if (raw == null || raw.isBlank()) return EnumSet.noneOf(ServiceType.class);
+        EnumSet<ServiceType> types = EnumSet.noneOf(ServiceType.class);
+        for (String name : raw.split(",")) {
+            types.add(ServiceType.valueOf(name.trim()));
+        }
+        return types;
+    }
+
+    // ✅ 태그 변경: 공백 제거 / 빈 값·중복 제외 후 표시용 컬럼과 검색 테이블을 함께 갱신
+    public void updateTags(List<String> newTags) {
+        List<String> normalized = normalizeTags(newTags);
+        this.tags = String.join(",", normalized);
+        this.tagSet.clear();
+        this.tagSet.addAll(normalized);
+    }
+
+    public static List<String> normalizeTags(Collection<String> raw) {
+        if (raw == null) return List.of();
+        return raw.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(t -> !t.isEmpty())
+                .distinct()
+                .toList();
+    }
 }
@@ -10,7 +10,8 @@ import service.saju_taro_service.domain.user.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations",
+        indexes = @Index(name = "idx_reservation_counselor_time", columnList = "counselor_id, reservation_time"))
 @Getter
 @Setter
 @NoArgsConstructor
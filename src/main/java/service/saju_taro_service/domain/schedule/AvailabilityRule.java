@@ -0,0 +1,88 @@
+package service.saju_taro_service.domain.schedule;
+
+import jakarta.persistence.*;
+import lombok.*;
+import service.saju_taro_service.domain.common.BaseTimeEntity;
+import service.saju_taro_service.domain.user.User;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * ✅ 반복 상담 가능 시간 (예: 매주 월요일 19:00~22:00, 30분 단위)
+ * 슬롯은 조회 시점에 계산하고, 예약될 때만 Schedule 행으로 저장
+ */
+@Entity
+@Table(name = "availability_rules", indexes = {
+        @Index(name = "idx_availability_rule_counselor", columnList = "counselor_id, is_active")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AvailabilityRule extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "counselor_id", nullable = false)
+    private User counselor;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    @Column(nullable = false)
+    private int slotMinutes;
+
+    @Column(nullable = false)
+    private LocalDate validFrom;
+
+    private LocalDate validUntil; // null 이면 종료일 없음
+
+    // 쉬는 날 (해당 날짜는 슬롯을 만들지 않음)
+    @Builder.Default
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "availability_rule_exceptions",
+            joinColumns = @JoinColumn(name = "rule_id"))
+    @Column(name = "except_date", nullable = false)
+    private Set<LocalDate> exceptDates = new HashSet<>();
+
+    @Builder.Default
+    @Column(nullable = false)
+    private boolean isActive = true;
+
+    /** 해당 날짜에 이 규칙으로 슬롯이 생기는지 */
+    public boolean appliesTo(LocalDate date) {
+        return isActive
+                && date.getDayOfWeek() == dayOfWeek
+                && !date.isBefore(validFrom)
+                && (validUntil == null || !date.isAfter(validUntil))
+                && !exceptDates.contains(date);
+    }
+
+    /** 해당 시각이 이 규칙의 슬롯 시작 시각인지 (요일/기간/예외일/슬롯 경계 모두 확인) */
+    public boolean isSlotStart(LocalDateTime start) {
+        if (!appliesTo(start.toLocalDate())) return false;
+        LocalTime time = start.toLocalTime();
+        if (time.isBefore(startTime) || time.plusMinutes(slotMinutes).isAfter(endTime)
+                || time.plusMinutes(slotMinutes).isBefore(time)) {
+            return false;
+        }
+        long offset = Duration.between(startTime, time).toMinutes();
+        return offset % slotMinutes == 0 && time.getSecond() == 0 && time.getNano() == 0;
+    }
+}
@@ -8,7 +8,13 @@ import service.saju_taro_service.domain.user.User;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "schedules")
+// 상담사 + 시작 시각 유니크 (반복 규칙 슬롯을 동시에 저장해도 한 행만 생성, 기간 조회 인덱스 겸용)
+// 예약 가능 + 시작 시각 인덱스 (상담사 구분 없이 빈 시간 검색)
+@Table(name = "schedules", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_schedule_counselor_start", columnNames = {"counselor_id", "start_time"})
+}, indexes = {
+        @Index(name = "idx_schedule_available_start", columnList = "is_available, start_time")
+})
 @Getter
 @Setter
 @NoArgsConstructor
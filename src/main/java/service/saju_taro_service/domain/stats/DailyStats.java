@@ -0,0 +1,49 @@
+package service.saju_taro_service.domain.stats;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * ✅ 일별 집계 롤업 (날짜 + 상담사 단위)
+ * 결제/예약/후기 상태 변경 시 증분 반영되고, 야간 배치에서 원본 테이블 기준으로 재계산된다.
+ */
+@Entity
+@Table(name = "daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_stats_date_counselor", columnNames = {"stat_date", "counselor_id"}),
+        indexes = @Index(name = "idx_daily_stats_counselor_date", columnList = "counselor_id, stat_date"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyStats {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "counselor_id", nullable = false)
+    private Long counselorId;
+
+    // 생성된 예약 건수 (createdAt 기준)
+    @Column(name = "reservation_count", nullable = false)
+    private long reservationCount;
+
+    // 결제 완료(PAID) 건수 / 매출 합계 (paidAt 기준, 환불 시 차감)
+    @Column(name = "paid_count", nullable = false)
+    private long paidCount;
+
+    @Column(nullable = false)
+    private long revenue;
+
+    // 활성 후기 평점 합계 / 개수 (createdAt 기준, 비활성화 시 차감)
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum;
+
+    @Column(name = "rating_count", nullable = false)
+    private long ratingCount;
+}
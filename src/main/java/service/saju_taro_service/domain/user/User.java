@@ -4,11 +4,13 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import service.saju_taro_service.domain.common.BaseTimeEntity;
-import service.saju_taro_service.domain.profile.Profile;
 import service.saju_taro_service.dto.user.UserSignupRequest;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_user_average_rating", columnList = "average_rating"),
+        @Index(name = "idx_user_review_count", columnList = "review_count")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,9 +22,6 @@ public class User extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(mappedBy = "counselor", fetch = FetchType.LAZY)
-    private Profile profile;
-
     @Column(nullable = false, length = 100)
     private String name;
 
@@ -2,6 +2,7 @@ package service.saju_taro_service.dto.profile;
 
 import lombok.Getter;
 import lombok.Setter;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
 
 import java.util.List;
 
@@ -12,4 +13,5 @@ public class ProfileRequest {
     private String experience;
     private List<String> tags;
     private String imageUrl;
+    private List<ServiceType> serviceTypes; // 제공 상담 종류 (null 이면 변경 없음)
 }
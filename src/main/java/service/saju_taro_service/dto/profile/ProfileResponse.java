@@ -19,6 +19,7 @@ public class ProfileResponse {
     private String experience;
     private List<String> tags;
     private String imageUrl;
+    private List<String> serviceTypes; // 제공 상담 종류
     private String createdAt;
     private Double averageRating;   // ⭐ 평균 평점
     private Integer reviewCount;    // ⭐ 후기 수
@@ -44,6 +45,7 @@ public class ProfileResponse {
                 .experience(p.getExperience())
                 .tags(tagList)
                 .imageUrl(p.getImageUrl())
+                .serviceTypes(Profile.parseServiceTypes(p.getServiceTypes()).stream().map(Enum::name).toList())
                 .createdAt(p.getCreatedAt().toString())
                 .averageRating(avgRating)
                 .reviewCount(reviewCount)
@@ -0,0 +1,11 @@
+package service.saju_taro_service.dto.profile;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TagCount {
+    private String tag;
+    private Long count; // 해당 태그를 가진 상담사 수
+}
@@ -9,6 +9,7 @@ public class ReservationRequest {
     private Long counselorId; // 상담사 ID
     private Long serviceItemId; //서비스 ID
     private Long scheduleId; // 예약할 스케줄 ID
+    private Long ruleId; // 반복 규칙 슬롯 예약 시 (scheduleId 대신, reservationTime = 슬롯 시작 시각)
     private LocalDateTime reservationTime;
     private String note; // 메모
 }
@@ -1,6 +1,8 @@
 package service.saju_taro_service.dto.review;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import service.saju_taro_service.domain.review.Review;
 import service.saju_taro_service.domain.user.User;
@@ -8,9 +10,12 @@ import service.saju_taro_service.domain.user.User;
 import java.time.LocalDateTime;
 
 @Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
 public class ReviewResponse {
     private Long id;
     private Long userId;
+    private String userName;
     private String nickname;
     private Long reservationId;
     private Long counselorId;
@@ -22,7 +27,8 @@ public class ReviewResponse {
         ReviewResponse res = new ReviewResponse();
         res.setId(review.getId());
         res.setUserId(review.getUser().getId());
-        res.setNickname(user != null ? user.getName() : "탈퇴한 사용자");
+        res.setUserName(user != null ? user.getName() : "탈퇴한 사용자");
+        res.setNickname(user != null ? user.getNickname() : "탈퇴한 사용자");
         res.setReservationId(review.getReservation().getId());
         res.setCounselorId(review.getCounselor().getId());
         res.setRating(review.getRating());
@@ -0,0 +1,21 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Getter @Setter
+public class AvailabilityRuleRequest {
+
+    private DayOfWeek dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int slotMinutes;
+    private LocalDate validFrom; // 없으면 오늘부터
+    private LocalDate validUntil; // 없으면 종료일 없음
+    private Set<LocalDate> exceptDates;
+}
@@ -0,0 +1,37 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.Getter;
+import lombok.Setter;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter @Setter
+public class AvailabilityRuleResponse {
+    private Long id;
+    private Long counselorId;
+    private DayOfWeek dayOfWeek;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int slotMinutes;
+    private LocalDate validFrom;
+    private LocalDate validUntil;
+    private List<LocalDate> exceptDates;
+
+    public static AvailabilityRuleResponse fromEntity(AvailabilityRule rule) {
+        AvailabilityRuleResponse res = new AvailabilityRuleResponse();
+        res.setId(rule.getId());
+        res.setCounselorId(rule.getCounselor().getId());
+        res.setDayOfWeek(rule.getDayOfWeek());
+        res.setStartTime(rule.getStartTime());
+        res.setEndTime(rule.getEndTime());
+        res.setSlotMinutes(rule.getSlotMinutes());
+        res.setValidFrom(rule.getValidFrom());
+        res.setValidUntil(rule.getValidUntil());
+        res.setExceptDates(rule.getExceptDates().stream().sorted().toList());
+        return res;
+    }
+}
@@ -0,0 +1,20 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 예약 가능 슬롯
+ * - scheduleId 가 있으면 저장된 스케줄, 없으면 반복 규칙(ruleId)으로 계산된 슬롯
+ * - 예약 시 scheduleId 또는 ruleId + reservationTime(=startTime) 을 보냄
+ */
+@Getter
+@AllArgsConstructor
+public class AvailableSlotResponse {
+    private Long scheduleId;
+    private Long ruleId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,16 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 월 달력 구성용: 스케줄 시간 + 점유 상태 (예약 여부는 비트맵 경로와 같이 isAvailable 기준)
+@Getter
+@AllArgsConstructor
+public class CalendarSlotRow {
+    private Long scheduleId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private boolean available;
+}
@@ -3,12 +3,11 @@ package service.saju_taro_service.dto.schedule;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
-import service.saju_taro_service.domain.reservation.Reservation;
-import service.saju_taro_service.domain.schedule.Schedule;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Data
 @AllArgsConstructor
@@ -37,63 +36,109 @@ public class CounselorCalendarResponse {
         private String status; // 예약 상태 표시
     }
 
+    /**
+     * ✅ 일별 비트맵으로 달력 구성 (스케줄/예약 엔티티 조회 없이)
+     * 예약 여부는 스케줄 점유 상태(예약 가능 여부) 기준
+     */
+    public static CounselorCalendarResponse fromDays(Long counselorId, Map<LocalDate, DayAvailability> dayMap,
+                                                     LocalDate start, String role) {
+        List<DaySchedule> days = new ArrayList<>(dayMap.size());
+        dayMap.forEach((date, day) -> {
+            List<TimeSlot> slots = new ArrayList<>();
+            for (DayAvailability.Slot slot : day.slots()) {
+                if ("USER".equals(role) && !slot.booked()) continue; // USER일 때는 예약된 슬롯만
+                slots.add(TimeSlot.builder()
+                        .startTime(slot.startTime().toString())
+                        .endTime(slot.endTime().toString())
+                        .available(!slot.booked())
+                        .status("USER".equals(role)
+                                ? "회색표시"
+                                : (slot.booked() ? "예약됨" : "가능"))
+                        .build());
+            }
+            days.add(DaySchedule.builder()
+                    .date(date)
+                    .hasReservation(day.hasBooking())
+                    .schedules(slots)
+                    .build());
+        });
+
+        return CounselorCalendarResponse.builder()
+                .counselorId(counselorId)
+                .month(start.getYear() + "-" + String.format("%02d", start.getMonthValue()))
+                .days(days)
+                .build();
+    }
+
+    /**
+     * ✅ 스케줄 조회 결과(시작 시각 순)를 한 번 훑으며 달력 구성
+     * 예약 여부는 fromDays 와 같이 스케줄 점유 상태(예약 가능 여부) 기준
+     */
     public static CounselorCalendarResponse from(
-            List<Schedule> schedules,
-            List<Reservation> reservations,
+            Long counselorId,
+            List<CalendarSlotRow> rows,
             LocalDate start, LocalDate end,
             String role
             ) {
+        boolean userView = "USER".equals(role);
+        int dayCount = (int) ChronoUnit.DAYS.between(start, end) + 1;
+        List<List<TimeSlot>> slotsByDay = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) slotsByDay.add(new ArrayList<>());
+        boolean[] reserved = new boolean[dayCount]; // 예약이 존재하는 날짜
 
-        // 날짜별 스케줄 그룹핑
-        Map<LocalDate, List<Schedule>> schedulesByDate = schedules.stream()
-                .collect(Collectors.groupingBy(s -> s.getStartTime().toLocalDate()));
-
-        // 예약이 존재하는 날짜 Set (NPE 방지)
-        Set<LocalDate> reservedDates = reservations.stream()
-                .filter(r -> r.getReservationTime() != null)
-                .map(r -> r.getReservationTime().toLocalDate())
-                .collect(Collectors.toSet());
+        for (CalendarSlotRow row : rows) {
+            int day = (int) ChronoUnit.DAYS.between(start, row.getStartTime().toLocalDate());
+            if (day < 0 || day >= dayCount) continue;
+            boolean booked = !row.isAvailable();
+            if (booked) reserved[day] = true;
 
-        // scheduleId -> reservation 매핑 (빠른 조회용, NPE 방지)
-        Map<Long, Reservation> reservationByScheduleId = reservations.stream()
-                .filter(r -> r.getSchedule() != null)
-                .collect(Collectors.toMap(r->r.getSchedule().getId(), r -> r, (a, b) -> a)); // 충돌시 첫 값
-
-        List<DaySchedule> days = new ArrayList<>();
-
-        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
-            boolean hasRes = reservedDates.contains(date);
-
-            List<TimeSlot> slots = schedulesByDate.getOrDefault(date, Collections.emptyList())
-                    .stream()
-                    .map(s -> {
-                        Reservation res = reservationByScheduleId.get(s.getId());
-                        boolean hasReservationForSlot = (res != null);
-                        return TimeSlot.builder()
-                                .startTime(s.getStartTime().toLocalTime().toString())
-                                .endTime(s.getEndTime().toLocalTime().toString())
-                                .available(s.isAvailable())
-                                .status(role.equals("USER")
-                                        ? (hasReservationForSlot ? "회색표시" : null)
-                                        : (hasReservationForSlot ? "예약됨" : "가능"))
-                                .build();
-                    })
-                    .filter(ts -> ts.getStatus() != null) // USER일 때는 예약된 슬롯만
-                    .sorted(Comparator.comparing(TimeSlot::getStartTime))
-                    .toList();
+            if (userView && !booked) continue; // USER일 때는 예약된 슬롯만
+            slotsByDay.get(day).add(TimeSlot.builder()
+                    .startTime(row.getStartTime().toLocalTime().toString())
+                    .endTime(row.getEndTime().toLocalTime().toString())
+                    .available(row.isAvailable())
+                    .status(userView
+                            ? "회색표시"
+                            : (booked ? "예약됨" : "가능"))
+                    .build());
+        }
 
+        List<DaySchedule> days = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
             days.add(DaySchedule.builder()
-                    .date(date)
-                    .hasReservation(hasRes)
-                    .schedules(slots)
+                    .date(start.plusDays(i))
+                    .hasReservation(reserved[i])
+                    .schedules(slotsByDay.get(i))
                     .build());
         }
 
         return CounselorCalendarResponse.builder()
-                .counselorId(schedules.isEmpty() ? null : schedules.get(0).getCounselor().getId())
+                .counselorId(counselorId)
                 .month(start.getYear() + "-" + String.format("%02d", start.getMonthValue()))
                 .days(days)
                 .build();
     }
-}
 
+    /**
+     * ✅ 반복 규칙 슬롯을 날짜별 목록에 추가 (예약 가능, 시작 시각 순 유지)
+     * 이미 지난 시각의 규칙 슬롯은 예약할 수 없으므로 제외
+     */
+    public void addRuleSlots(Map<LocalDate, DayAvailability> dayMap, LocalDateTime now) {
+        for (DaySchedule daySchedule : days) {
+            DayAvailability day = dayMap.get(daySchedule.getDate());
+            if (day == null || day.getRuleSlots() == null || day.getRuleSlots().isEmpty()) continue;
+            boolean added = false;
+            for (DayAvailability.Slot slot : day.getRuleSlots()) {
+                if (daySchedule.getDate().atTime(slot.startTime()).isBefore(now)) continue;
+                daySchedule.getSchedules().add(TimeSlot.builder()
+                        .startTime(slot.startTime().toString())
+                        .endTime(slot.endTime().toString())
+                        .available(true)
+                        .status("가능")
+                        .build());
+                added = true;
+            }
+            if (added) daySchedule.getSchedules().sort(Comparator.comparing(TimeSlot::getStartTime));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import service.saju_taro_service.domain.schedule.Schedule;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ 상담사 하루치 스케줄 비트맵 (15분 단위 96칸, long 2개씩)
+ * - starts: 스케줄 시작 칸 / open: 예약 가능 칸 / booked: 예약된 칸
+ * - 15분 격자에 맞지 않거나 날짜를 넘기는 스케줄이 있으면 exact = false → 원본 조회로 처리
+ * - ruleSlots: 반복 규칙으로 계산된(아직 저장되지 않은) 슬롯, 저장된 스케줄과 겹치는 시간 제외
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DayAvailability {
+    public static final int SLOT_MINUTES = 15;
+    public static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORDS = (SLOTS_PER_DAY + 63) / 64;
+
+    private long[] starts;
+    private long[] open;
+    private long[] booked;
+    private boolean exact;
+    private List<Slot> ruleSlots;
+
+    public record Slot(LocalTime startTime, LocalTime endTime, boolean booked) {
+    }
+
+    /** 해당 날짜에 시작하는 스케줄들로 비트맵 생성 */
+    public static DayAvailability of(LocalDate date, List<Schedule> schedules) {
+        DayAvailability day = new DayAvailability(new long[WORDS], new long[WORDS], new long[WORDS], true, List.of());
+        LocalDateTime dayStart = date.atStartOfDay();
+        for (Schedule s : schedules) {
+            long from = Duration.between(dayStart, s.getStartTime()).toMinutes();
+            long to = Duration.between(dayStart, s.getEndTime()).toMinutes();
+            boolean aligned = from >= 0 && to <= SLOTS_PER_DAY * SLOT_MINUTES && from < to
+                    && from % SLOT_MINUTES == 0 && to % SLOT_MINUTES == 0
+                    && s.getStartTime().getSecond() == 0 && s.getStartTime().getNano() == 0
+                    && s.getEndTime().getSecond() == 0 && s.getEndTime().getNano() == 0;
+            if (!aligned) {
+                day.exact = false;
+                continue;
+            }
+            int first = (int) (from / SLOT_MINUTES);
+            int last = (int) (to / SLOT_MINUTES);
+            set(day.starts, first);
+            for (int i = first; i < last; i++) {
+                // 겹치는 스케줄은 칸으로 구분할 수 없음
+                if (get(day.open, i) || get(day.booked, i)) day.exact = false;
+                set(s.isAvailable() ? day.open : day.booked, i);
+            }
+        }
+        return day;
+    }
+
+    public boolean hasBooking() {
+        for (long word : booked) {
+            if (word != 0) return true;
+        }
+        return false;
+    }
+
+    /** 시작 칸부터 다음 시작 칸(또는 빈 칸) 전까지를 한 스케줄로 복원 */
+    public List<Slot> slots() {
+        List<Slot> slots = new ArrayList<>();
+        for (int i = 0; i < SLOTS_PER_DAY; i++) {
+            if (!get(starts, i)) continue;
+            int end = i + 1;
+            while (end < SLOTS_PER_DAY && !get(starts, end) && (get(open, end) || get(booked, end))) end++;
+            slots.add(new Slot(LocalTime.MIN.plusMinutes((long) i * SLOT_MINUTES),
+                    LocalTime.MIN.plusMinutes((long) end * SLOT_MINUTES), get(booked, i)));
+        }
+        return slots;
+    }
+
+    private static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+}
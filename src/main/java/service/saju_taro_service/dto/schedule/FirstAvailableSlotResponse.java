@@ -0,0 +1,22 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * ✅ 빈 시간 검색 결과 (상담사별 가장 이른 예약 가능 슬롯)
+ * scheduleId 가 있으면 저장된 스케줄, 없으면 반복 규칙(ruleId) 슬롯 → 예약 시 ruleId + startTime 으로 요청
+ */
+@Getter
+@AllArgsConstructor
+public class FirstAvailableSlotResponse {
+    private Long counselorId;
+    private String nickname;
+    private Double averageRating;
+    private Long scheduleId;
+    private Long ruleId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
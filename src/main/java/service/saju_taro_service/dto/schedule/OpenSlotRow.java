@@ -0,0 +1,16 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 빈 시간 검색 인덱스 적재용 (엔티티 대신 필요한 컬럼만 조회)
+@Getter
+@AllArgsConstructor
+public class OpenSlotRow {
+    private Long scheduleId;
+    private Long counselorId;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+}
@@ -0,0 +1,12 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+public class ScheduleBulkRequest {
+
+    private List<ScheduleRequest> slots;
+}
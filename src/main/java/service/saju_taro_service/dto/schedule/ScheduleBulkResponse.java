@@ -0,0 +1,35 @@
+package service.saju_taro_service.dto.schedule;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+@Builder
+public class ScheduleBulkResponse {
+    private int requested;
+    private int created;
+    private List<ScheduleResponse> schedules; // 등록된 스케줄
+    private List<SlotConflict> conflicts; // 등록하지 못한 슬롯
+
+    @Getter
+    @AllArgsConstructor
+    public static class SlotConflict {
+        private int index; // 요청 slots 내 순번 (0부터)
+        private LocalDateTime startTime;
+        private LocalDateTime endTime;
+        private ConflictReason reason;
+        private Long conflictingScheduleId; // EXISTING_OVERLAP 일 때 기존 스케줄 ID
+        private Integer conflictingIndex; // REQUEST_OVERLAP 일 때 먼저 등록된 요청 순번
+    }
+
+    public enum ConflictReason {
+        INVALID_RANGE, // 시작/종료 누락 또는 시작 >= 종료
+        EXISTING_OVERLAP, // 이미 등록된 스케줄과 겹침
+        REQUEST_OVERLAP // 같은 요청 안의 앞선 슬롯과 겹침
+    }
+}
@@ -0,0 +1,20 @@
+package service.saju_taro_service.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/** ✅ 원본 테이블 기준 (날짜, 상담사)별 건수/합계 집계 결과 - 롤업 재계산용 */
+@Getter
+@AllArgsConstructor
+public class DailyCounselorAggregate {
+    private LocalDate date;
+    private Long counselorId;
+    private Long count;
+    private Long sum;
+
+    public DailyCounselorAggregate(LocalDate date, Long counselorId, Long count) {
+        this(date, counselorId, count, 0L);
+    }
+}
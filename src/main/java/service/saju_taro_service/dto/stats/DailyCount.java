@@ -0,0 +1,14 @@
+package service.saju_taro_service.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/** ✅ 일별 건수 집계 결과 (GROUP BY 프로젝션 전용) */
+@Getter
+@AllArgsConstructor
+public class DailyCount {
+    private LocalDate date;
+    private Long count;
+}
@@ -0,0 +1,14 @@
+package service.saju_taro_service.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** ✅ 월별 매출 집계 결과 (GROUP BY 프로젝션 전용) */
+@Getter
+@AllArgsConstructor
+public class MonthlyRevenue {
+    private Integer year;
+    private Integer month;
+    private Long count;
+    private Long totalAmount;
+}
@@ -0,0 +1,19 @@
+package service.saju_taro_service.dto.stats;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/** ✅ 롤업 기간 합계 (예약 / 결제 / 매출 / 평점) */
+@Getter
+@AllArgsConstructor
+public class StatsTotal {
+    private Long reservationCount;
+    private Long paidCount;
+    private Long revenue;
+    private Long ratingSum;
+    private Long ratingCount;
+
+    public double averageRating() {
+        return ratingCount > 0 ? (double) ratingSum / ratingCount : 0.0;
+    }
+}
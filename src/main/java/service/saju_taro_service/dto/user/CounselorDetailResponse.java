@@ -1,7 +1,9 @@
 package service.saju_taro_service.dto.user;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.dto.review.ReviewResponse;
@@ -11,6 +13,8 @@ import java.util.List;
 @Getter
 @Setter
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class CounselorDetailResponse {
     private Long id;
     private String name;
@@ -0,0 +1,15 @@
+package service.saju_taro_service.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 빈 시간 검색 인덱스 적재용 상담사 정보 (평점 / 프로필 태그 / 제공 상담 종류)
+@Getter
+@AllArgsConstructor
+public class CounselorSearchRow {
+    private Long counselorId;
+    private String nickname;
+    private Double averageRating;
+    private String tags;
+    private String serviceTypes;
+}
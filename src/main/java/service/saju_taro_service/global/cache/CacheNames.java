@@ -0,0 +1,11 @@
+package service.saju_taro_service.global.cache;
+
+public final class CacheNames {
+    public static final String COUNSELOR_LIST = "counselor-list";
+    public static final String COUNSELOR_DETAIL = "counselor-detail";
+    public static final String COUNSELOR_PROFILE = "counselor-profile";
+    public static final String COUNSELOR_DAY_AVAILABILITY = "counselor-day-availability";
+
+    private CacheNames() {
+    }
+}
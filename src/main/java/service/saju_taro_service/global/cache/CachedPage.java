@@ -0,0 +1,40 @@
+package service.saju_taro_service.global.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+/**
+ * ✅ Redis 저장용 페이지 (PageImpl 은 JSON 역직렬화가 안 되므로 필요한 값만 보관)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedPage<T> {
+    private List<T> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private List<String> sort; // "property,DIRECTION"
+
+    public static <T> CachedPage<T> from(Page<T> p) {
+        List<String> orders = p.getSort().stream()
+                .map(o -> o.getProperty() + "," + o.getDirection().name())
+                .toList();
+        return new CachedPage<>(p.getContent(), p.getNumber(), p.getSize(), p.getTotalElements(), orders);
+    }
+
+    public Page<T> toPage() {
+        Sort s = Sort.by(sort.stream()
+                .map(o -> o.split(","))
+                .map(o -> new Sort.Order(Sort.Direction.valueOf(o[1]), o[0]))
+                .toList());
+        return new PageImpl<>(content, PageRequest.of(page, size, s), totalElements);
+    }
+}
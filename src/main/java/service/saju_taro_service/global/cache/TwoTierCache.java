@@ -0,0 +1,175 @@
+package service.saju_taro_service.global.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 2단 캐시 (L1: 로컬 Caffeine / L2: Redis)
+ * - 조회: L1 → L2(JSON) → 원본 순서, L2 에서 찾으면 L1 에 다시 채움
+ * - Redis 장애 시 예외를 던지지 않고 캐시 미스로 처리 (원본 조회는 항상 가능해야 함)
+ * - 캐시별 L1/L2 적중, 미스 횟수를 집계
+ */
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final Cache<Object, Object> local;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType valueType;
+    private final Duration redisTtl;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public TwoTierCache(String name, Cache<Object, Object> local, RedisTemplate<String, Object> redisTemplate,
+                        ObjectMapper objectMapper, JavaType valueType, Duration redisTtl) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.valueType = valueType;
+        this.redisTtl = redisTtl;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = local.getIfPresent(key);
+        if (value != null) {
+            localHits.increment();
+            return value;
+        }
+        value = readRedis(key);
+        if (value != null) {
+            redisHits.increment();
+            local.put(key, value);
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object cached = lookup(key);
+        if (cached != null) {
+            return (T) cached;
+        }
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        local.put(key, value);
+        writeRedis(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        local.invalidate(key);
+        try {
+            redisTemplate.delete(redisKey(key));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [Cache:{}] Redis 삭제 실패 - key={}, {}", name, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        try {
+            Set<Object> keys = redisTemplate.opsForSet().members(keyIndex());
+            if (keys != null && !keys.isEmpty()) {
+                redisTemplate.delete(keys.stream().map(String::valueOf).collect(Collectors.toSet()));
+            }
+            redisTemplate.delete(keyIndex());
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [Cache:{}] Redis 전체 삭제 실패 - {}", name, e.getMessage());
+        }
+    }
+
+    /** ✅ 캐시 적중/미스 통계 */
+    public Map<String, Object> stats() {
+        long l1 = localHits.sum();
+        long l2 = redisHits.sum();
+        long miss = misses.sum();
+        long total = l1 + l2 + miss;
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("localHits", l1);
+        stats.put("redisHits", l2);
+        stats.put("misses", miss);
+        stats.put("hitRate", total == 0 ? 0.0 : Math.round((l1 + l2) * 1000.0 / total) / 1000.0);
+        stats.put("localSize", local.estimatedSize());
+        return stats;
+    }
+
+    private Object readRedis(Object key) {
+        try {
+            Object raw = redisTemplate.opsForValue().get(redisKey(key));
+            if (raw == null) return null;
+            Object value = objectMapper.readValue(raw.toString(), valueType);
+            return value instanceof CachedPage<?> page ? page.toPage() : value;
+        } catch (Exception e) {
+            log.warn("⚠️ [Cache:{}] Redis 조회 실패 - key={}, {}", name, key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(Object key, Object value) {
+        try {
+            Object stored = value instanceof Page<?> page ? CachedPage.from(page) : value;
+            String redisKey = redisKey(key);
+            redisTemplate.opsForValue().set(redisKey, objectMapper.writeValueAsString(stored), redisTtl);
+            // clear() 때 지울 수 있도록 캐시별 키 목록 유지
+            redisTemplate.opsForSet().add(keyIndex(), redisKey);
+            redisTemplate.expire(keyIndex(), redisTtl);
+        } catch (Exception e) {
+            log.warn("⚠️ [Cache:{}] Redis 저장 실패 - key={}, {}", name, key, e.getMessage());
+        }
+    }
+
+    private String redisKey(Object key) {
+        return "cache:" + name + ":" + key;
+    }
+
+    private String keyIndex() {
+        return "cache:" + name + ":keys";
+    }
+}
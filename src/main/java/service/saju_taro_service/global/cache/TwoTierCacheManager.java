@@ -0,0 +1,34 @@
+package service.saju_taro_service.global.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 2단 캐시 매니저
+ * 트랜잭션 안에서의 evict/clear 는 커밋 이후로 미뤄 (커밋 전 재조회로 옛 값이 다시 캐시되는 것 방지)
+ */
+public class TwoTierCacheManager extends AbstractTransactionSupportingCacheManager {
+
+    private final List<TwoTierCache> caches;
+
+    public TwoTierCacheManager(List<TwoTierCache> caches) {
+        this.caches = caches;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return caches;
+    }
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        caches.forEach(c -> result.put(c.getName(), c.stats()));
+        return result;
+    }
+}
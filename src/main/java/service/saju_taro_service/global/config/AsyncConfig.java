@@ -1,22 +1,32 @@
 package service.saju_taro_service.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+    /**
+     * ✅ 알림 아웃박스 행 처리 실행기 (아웃박스 릴레이 → NotificationEventListener)
+     * INBOX 행은 여기서 저장, PUSH / EMAIL 행은 각자의 대기열과 스레드(PushBatcher / MailBatcher)에 넘기기만 함
+     * 가득 차면 즉시 거절 → 릴레이가 아웃박스 행을 반납하고 다음 폴링에서 다시 가져감
+     */
     @Bean(name = "notificationExecutor")
-    public Executor notificationExecutor() {
+    public Executor notificationExecutor(@Value("${notification.inbox.core-size:2}") int coreSize,
+                                         @Value("${notification.inbox.max-size:4}") int maxSize,
+                                         @Value("${notification.inbox.queue-capacity:100}") int queueCapacity) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(4);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("NotificationAsync-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("NotificationInbox-");
         executor.initialize();
         return executor;
     }
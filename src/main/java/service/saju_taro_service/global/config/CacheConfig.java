@@ -0,0 +1,69 @@
+package service.saju_taro_service.global.config;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.core.RedisTemplate;
+import service.saju_taro_service.dto.profile.ProfileResponse;
+import service.saju_taro_service.dto.schedule.DayAvailability;
+import service.saju_taro_service.dto.user.CounselorDetailResponse;
+import service.saju_taro_service.dto.user.CounselorResponse;
+import service.saju_taro_service.global.cache.CacheNames;
+import service.saju_taro_service.global.cache.CachedPage;
+import service.saju_taro_service.global.cache.TwoTierCache;
+import service.saju_taro_service.global.cache.TwoTierCacheManager;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ✅ 상담사 공개 조회 캐시 설정 (목록/상세/프로필/일별 스케줄 비트맵)
+ * 캐시 어드바이스를 트랜잭션보다 바깥에 두어 캐시 적중 시 DB 커넥션을 잡지 않음
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    @Value("${cache.counselor.local-ttl:10s}")
+    private Duration localTtl;
+
+    @Value("${cache.counselor.local-max-size:1000}")
+    private long localMaxSize;
+
+    @Value("${cache.counselor.redis-ttl:5m}")
+    private Duration redisTtl;
+
+    @Value("${cache.availability.local-max-size:50000}")
+    private long availabilityMaxSize;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        var types = objectMapper.getTypeFactory();
+        return new TwoTierCacheManager(List.of(
+                cache(CacheNames.COUNSELOR_LIST,
+                        types.constructParametricType(CachedPage.class, CounselorResponse.class), redisTemplate, objectMapper),
+                cache(CacheNames.COUNSELOR_DETAIL,
+                        types.constructType(CounselorDetailResponse.class), redisTemplate, objectMapper),
+                cache(CacheNames.COUNSELOR_PROFILE,
+                        types.constructType(ProfileResponse.class), redisTemplate, objectMapper),
+                cache(CacheNames.COUNSELOR_DAY_AVAILABILITY,
+                        types.constructType(DayAvailability.class), availabilityMaxSize, redisTemplate, objectMapper)
+        ));
+    }
+
+    private TwoTierCache cache(String name, JavaType type, RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        return cache(name, type, localMaxSize, redisTemplate, objectMapper);
+    }
+
+    private TwoTierCache cache(String name, JavaType type, long maxSize,
+                               RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+        return new TwoTierCache(name,
+                Caffeine.newBuilder().expireAfterWrite(localTtl).maximumSize(maxSize).build(),
+                redisTemplate, objectMapper, type, redisTtl);
+    }
+}
@@ -3,13 +3,28 @@ package service.saju_taro_service.global.event;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import service.saju_taro_service.domain.notification.NotificationOutbox;
+import service.saju_taro_service.repository.NotificationOutboxRepository;
 
 @Component
 @RequiredArgsConstructor
 public class EventPublisher {
     private final ApplicationEventPublisher publisher;
+    private final NotificationOutboxRepository notificationOutboxRepository;
 
+    /**
+     * ✅ 알림은 채널별(내부 알림 / 푸시 / 이메일) 아웃박스 행으로 저장 (호출한 트랜잭션과 함께 커밋/롤백)
+     * → NotificationOutboxRelay 가 행마다 따로 발송 / 완료 / 재시도
+     */
     public void publishNotification(NotificationEvent event) {
+        notificationOutboxRepository.saveAll(NotificationOutbox.forChannels(event));
+    }
+
+    public void publishProfileTagsChanged(ProfileTagsChangedEvent event) {
+        publisher.publishEvent(event);
+    }
+
+    public void publishScheduleAvailabilityChanged(ScheduleAvailabilityChangedEvent event) {
         publisher.publishEvent(event);
     }
 }
@@ -1,146 +1,110 @@
 package service.saju_taro_service.global.event;
 
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import service.saju_taro_service.domain.notification.Notification;
 import service.saju_taro_service.domain.notification.NotificationType;
 import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.global.fcm.PushMessage;
+import service.saju_taro_service.global.mail.MailTemplate;
 import service.saju_taro_service.repository.NotificationRepository;
 import service.saju_taro_service.repository.UserRepository;
-
+import service.saju_taro_service.service.notification.MailBatcher;
+import service.saju_taro_service.service.notification.NotificationOutboxService;
+import service.saju_taro_service.service.notification.PushBatcher;
+import service.saju_taro_service.service.notification.PushRetryScheduler;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ✅ 알림 발송 (채널별 아웃박스 행: 내부 알림 저장 / FCM / 이메일)
+ * 아웃박스 릴레이가 notificationExecutor 에서 행마다 호출 → 한 채널의 실패는 그 채널 행만 다시 발송
+ * FCM / 이메일은 PushBatcher / MailBatcher 에 넘기고, 발송 결과가 나온 뒤 그쪽에서 행을 완료 처리
+ * 대기열이 가득 찼을 때: 내부 알림 → 아웃박스 행 반납, FCM → 재시도 예약, 이메일 → 발송 연기
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class NotificationEventListener {
 
+    private static final MailTemplate EMAIL_BODY = MailTemplate.compile("""
+            안녕하세요, %s님.<br><br>
+            %s<br><br>
+            - 사주타로 서비스 드림 -
+            """);
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
-    private final FirebaseMessaging firebaseMessaging;
-    private final JavaMailSender mailSender;
-
-    @Async("notificationExecutor")
-    @EventListener
-    public void handleNotificationEvent(NotificationEvent event) {
-        log.info("📬 NotificationEvent received: {}", event.getType());
-
-        try {
-            // 대상 유저 및 상담사 조회
-            User targetUser = userRepository.findById(event.getUserId()).orElse(null);
-            User counselor = userRepository.findById(event.getCounselorId()).orElse(null);
-            if (targetUser == null) {
-                log.warn("⚠️ Notification skipped: user not found (id={})", event.getUserId());
-                return;
-            }
-        // 1️⃣ DB 저장 (내부 알림)
-            Notification n = Notification.builder()
-                    .user(targetUser)
-                    .counselor(counselor)
-                    .type(event.getType())
-                    .message(event.getMessage())
-                    .isRead(false)
-                    .build();
-            notificationRepository.save(n);
-
-            // 2️⃣ FCM 발송
-            if (targetUser.getFcmToken() != null && !targetUser.getFcmToken().isBlank()) {
-                sendFcmWithRetry(event, targetUser.getFcmToken(), 0);
-            } else {
-                log.info("⚠️ FCM skipped: no token for userId={}", targetUser.getId());
-            }
+    private final PushBatcher pushBatcher;
+    private final MailBatcher mailBatcher;
+    private final PushRetryScheduler pushRetryScheduler;
+    private final NotificationOutboxService outboxService;
 
-            // 3️⃣ 이메일 발송
-            if (targetUser.getEmail() != null && !targetUser.getEmail().isBlank()) {
-                sendEmail(event, targetUser);
-            }
-        } catch (Exception e) {
-            log.error("❌ Notification processing failed for event={}", event, e);
+    /**
+     * 📥 내부 알림 저장 (아웃박스 INBOX 행) - 실패하면 예외 그대로 → 행이 완료되지 않아 임대 만료 후 다시 저장
+     */
+    public void saveInbox(NotificationEvent event) {
+        User targetUser = userRepository.findById(event.getUserId()).orElse(null);
+        if (targetUser == null) {
+            log.warn("⚠️ Notification skipped: user not found (id={})", event.getUserId());
+            return;
         }
+        User counselor = userRepository.findById(event.getCounselorId()).orElse(null);
+        Notification n = Notification.builder()
+                .user(targetUser)
+                .counselor(counselor)
+                .type(event.getType())
+                .message(event.getMessage())
+                .isRead(false)
+                .build();
+        notificationRepository.save(n);
     }
 
     /**
-     * 🔁 FCM 발송 + 백오프 재시도 (최대 3회)
+     * 📲 푸시 발송 (아웃박스 PUSH 행) - 그 사이 토큰이 지워졌으면 생략
+     * @param attempt 지금까지의 재시도 횟수 (최초 발송 0)
+     * @return 행 완료를 PushBatcher / 재시도 예약에 넘겼으면 true, 보낼 것이 없어 바로 완료해도 되면 false
      */
-    private void sendFcmWithRetry(NotificationEvent event, String token, int retryCount) {
-        try {
-            com.google.firebase.messaging.Notification fcm =
-                    com.google.firebase.messaging.Notification.builder()
-                            .setTitle(getTitle(event.getType()))
-                            .setBody(event.getMessage())
-                            .build();
-
-            Message message = Message.builder()
-                    .setToken(token)
-                    .setNotification(fcm)
-                    .putData("type", event.getType().name())
-                    .putData("counselorId", String.valueOf(event.getCounselorId()))
-                    .build();
-
-            firebaseMessaging.send(message);
-            log.info("✅ FCM sent successfully to token={}, type={}", token, event.getType());
-
-        } catch (FirebaseMessagingException e) {
-            String errorCode = e.getErrorCode().toString();
-            log.warn("⚠️ FCM send failed: code={} (attempt={})", errorCode, retryCount + 1);
-
-            // ❌ 1) 유효하지 않은 토큰은 즉시 삭제
-            if (isInvalidToken(errorCode)){
-                invalidateUserToken(token);
-                return;
-            }
-
-            // 🔁 2) 네트워크/서버 오류면 재시도 (최대 3회)
-            if (retryCount < 3 && shouldRetry(errorCode)) {
-                try {
-                    Thread.sleep((long)Math.pow(2, retryCount+1) * 500L);
-                } catch (InterruptedException ignored) {
-                }
-                sendFcmWithRetry(event, token, retryCount + 1);
-            } else {
-                log.error("❌ FCM send failed permanently: code={}, message={}", errorCode, e.getMessage());
-            }
-
-        } catch (Exception e) {
-            log.error("❌ Unexpected FCM send error", e);
+    public boolean sendPush(Long outboxId, NotificationEvent event, int attempt) {
+        User targetUser = userRepository.findById(event.getUserId()).orElse(null);
+        if (targetUser == null || targetUser.getFcmToken() == null || targetUser.getFcmToken().isBlank()) {
+            log.info("⚠️ FCM skipped: no token for userId={}", event.getUserId());
+            return false;
         }
+        sendFcm(outboxId, event, targetUser.getFcmToken(), attempt);
+        return true;
     }
 
     /**
-     * 💡 재시도 가능한 에러코드만 골라냄
+     * 📩 이메일 발송 (아웃박스 EMAIL 행) - 그 사이 이메일이 지워졌으면 생략
+     * @return 행 완료를 MailBatcher / 발송 연기에 넘겼으면 true, 보낼 것이 없어 바로 완료해도 되면 false
      */
-    private boolean shouldRetry(String errorCode) {
-        return errorCode != null && (
-                errorCode.contains("internal") ||
-                errorCode.contains("unavailable") ||
-                errorCode.contains("server") ||
-                errorCode.contains("timeout")
-        );
+    public boolean sendEmail(Long outboxId, NotificationEvent event) {
+        User targetUser = userRepository.findById(event.getUserId()).orElse(null);
+        if (targetUser == null || targetUser.getEmail() == null || targetUser.getEmail().isBlank()) {
+            log.info("⚠️ Email skipped: no email for userId={}", event.getUserId());
+            return false;
+        }
+        sendEmail(outboxId, event, targetUser);
+        return true;
     }
 
     /**
-     * 🚫 토큰 무효화 (DB에서 제거)
+     * 📲 FCM 발송 - 대기열에 넣고 바로 반환 (PushBatcher 가 모아서 sendEach 로 발송, 결과별 재시도/토큰 삭제/행 완료)
+     * 대기열이 가득 차면 재시도 예약으로 넘기고, 최대 횟수를 넘겼으면 행을 실패 처리
      */
-    private void invalidateUserToken(String token) {
-        userRepository.findByFcmToken(token).ifPresent(user -> {
-            user.setFcmToken(null);
-            userRepository.save(user);
-            log.info("🧹 Removed invalid FCM token for userId={}", user.getId());
-        });
-    }
-
-    private boolean isInvalidToken(String errorCode) {
-        return "registration-token-not-registered".equals(errorCode)
-                || "invalid-argument".equals(errorCode)
-                || "invalid-registration-token".equals(errorCode);
+    private void sendFcm(Long outboxId, NotificationEvent event, String token, int attempt) {
+        PushMessage message = new PushMessage(token, getTitle(event.getType()), event.getMessage(), Map.of(
+                "type", event.getType().name(),
+                "counselorId", String.valueOf(event.getCounselorId())));
+
+        if (!pushBatcher.enqueue(outboxId, message, attempt)
+                && !pushRetryScheduler.reschedule(outboxId, attempt + 1)) {
+            outboxService.markFailed(List.of(outboxId));
+            log.error("❌ FCM dropped: push queue full (userId={}, attempt={})", event.getUserId(), attempt + 1);
+        }
     }
 
     /**
@@ -158,26 +122,13 @@ public class NotificationEventListener {
 
 
     /**
-     * 📩 이메일 발송
+     * 📩 이메일 발송 - 본문만 만들어 대기열에 넣음 (MailBatcher 가 SMTP 연결 하나로 묶어서 발송 후 행 완료)
+     * 대기열이 가득 차면 EMAIL 행의 발송을 미룸
      */
-    private void sendEmail(NotificationEvent event, User user) {
-        try {
-            MimeMessage message = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(user.getEmail());
-            helper.setSubject(getTitle(event.getType()) + " 알림");
-            helper.setText("""
-                    안녕하세요, %s님.<br><br>
-                    %s<br><br>
-                    - 사주타로 서비스 드림 -
-                    """.formatted(user.getName(), event.getMessage()), true);
-
-            mailSender.send(message);
-            log.info("📧 Email sent to {}", user.getEmail());
-
-        } catch (MessagingException e) {
-            log.error("❌ Email send failed: {}", e.getMessage());
+    private void sendEmail(Long outboxId, NotificationEvent event, User user) {
+        String html = EMAIL_BODY.render(user.getName(), event.getMessage());
+        if (!mailBatcher.enqueue(outboxId, user.getEmail(), getTitle(event.getType()) + " 알림", html)) {
+            outboxService.deferEmail(List.of(outboxId));
         }
     }
 }
@@ -0,0 +1,14 @@
+package service.saju_taro_service.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+// 프로필 태그 변경분 (태그 자동완성/집계 인덱스에서 바뀐 태그만 재집계)
+@Getter
+@AllArgsConstructor
+public class ProfileTagsChangedEvent {
+    private final Set<String> removed;
+    private final Set<String> added;
+}
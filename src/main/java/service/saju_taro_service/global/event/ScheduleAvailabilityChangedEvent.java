@@ -0,0 +1,15 @@
+package service.saju_taro_service.global.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 상담사 스케줄의 예약 가능 상태 변경 구간 [from, to) (빈 시간 검색 인덱스 증분 갱신용)
+@Getter
+@AllArgsConstructor
+public class ScheduleAvailabilityChangedEvent {
+    private final Long counselorId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+}
@@ -25,6 +25,7 @@ public enum ErrorCode {
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "예약을 찾을 수 없습니다."),
     RESERVATION_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "이미 완료된 예약입니다."),
     RESERVATION_CANNOT_CANCEL(HttpStatus.BAD_REQUEST, "해당 예약은 취소할 수 없습니다."),
+    RESERVATION_HOLD_EXPIRED(HttpStatus.CONFLICT, "결제 가능 시간이 지나 예약이 취소되었습니다. 다시 예약해주세요."),
     SCHEDULE_NOT_AVAILABLE(HttpStatus.BAD_REQUEST, "해당 시간은 예약할 수 없습니다."),
 
     // ✅ 결제 관련
@@ -42,7 +43,7 @@ public enum ErrorCode {
     
     // ✅ 스케줄 관련
     SCHEDULE_NOT_FOUND(HttpStatus.NOT_FOUND, "스케줄을 찾을 수 없습니다."),
-    SCHEDULE_ALREADY_BOOKED(HttpStatus.BAD_REQUEST, "이미 예약된 스케줄입니다."),
+    SCHEDULE_ALREADY_BOOKED(HttpStatus.CONFLICT, "이미 예약된 스케줄입니다."),
     
     // ✅ 즐겨찾기 관련
     FAVORITE_ALREADY_EXISTS(HttpStatus.BAD_REQUEST, "이미 즐겨찾기에 등록되어 있습니다."),
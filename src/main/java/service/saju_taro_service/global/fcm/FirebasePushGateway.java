@@ -0,0 +1,43 @@
+package service.saju_taro_service.global.fcm;
+
+import com.google.firebase.messaging.*;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class FirebasePushGateway implements PushGateway {
+    private final FirebaseMessaging firebaseMessaging;
+
+    @Override
+    public List<PushResult> sendEach(List<PushMessage> messages) {
+        if (messages.isEmpty()) return List.of();
+        List<Message> fcmMessages = new ArrayList<>(messages.size());
+        for (PushMessage m : messages) {
+            fcmMessages.add(Message.builder()
+                    .setToken(m.token())
+                    .setNotification(Notification.builder()
+                            .setTitle(m.title())
+                            .setBody(m.body())
+                            .build())
+                    .putAllData(m.data())
+                    .build());
+        }
+
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(fcmMessages);
+            List<PushResult> results = new ArrayList<>(messages.size());
+            for (SendResponse r : response.getResponses()) {
+                results.add(r.isSuccessful() ? PushResult.ok(r.getMessageId()) : PushResult.failure(r.getException()));
+            }
+            return results;
+        } catch (FirebaseMessagingException e) {
+            // 요청 자체가 실패 (인증/네트워크 등) → 모든 메시지에 같은 결과
+            return Collections.nCopies(messages.size(), PushResult.failure(e));
+        }
+    }
+}
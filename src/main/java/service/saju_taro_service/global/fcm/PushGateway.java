@@ -0,0 +1,14 @@
+package service.saju_taro_service.global.fcm;
+
+import java.util.List;
+
+/**
+ * FCM 발송 창구 (운영: FirebasePushGateway / 테스트: 가짜 구현 주입)
+ */
+public interface PushGateway {
+    /** FCM sendEach 한 번에 보낼 수 있는 최대 메시지 수 */
+    int MAX_BATCH_SIZE = 500;
+
+    /** 메시지 목록을 한 번의 요청으로 발송 → 같은 순서의 토큰별 결과 */
+    List<PushResult> sendEach(List<PushMessage> messages);
+}
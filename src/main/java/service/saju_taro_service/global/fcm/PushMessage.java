@@ -0,0 +1,7 @@
+package service.saju_taro_service.global.fcm;
+
+import java.util.Map;
+
+/** FCM 단건 메시지 (토큰 1개) */
+public record PushMessage(String token, String title, String body, Map<String, String> data) {
+}
@@ -0,0 +1,37 @@
+package service.saju_taro_service.global.fcm;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+
+/**
+ * FCM 토큰별 발송 결과 (실패 시 오류 코드로 재시도 / 토큰 삭제 여부 판단)
+ */
+public record PushResult(boolean success, ErrorCode errorCode, MessagingErrorCode messagingErrorCode, String detail) {
+
+    public static PushResult ok(String messageId) {
+        return new PushResult(true, null, null, messageId);
+    }
+
+    public static PushResult failure(FirebaseMessagingException e) {
+        return new PushResult(false, e.getErrorCode(), e.getMessagingErrorCode(), e.getMessage());
+    }
+
+    /** 💡 재시도 가능한 오류 (서버 내부 오류 / 일시적 불가 / 시간 초과) */
+    public boolean isRetryable() {
+        if (success) return false;
+        if (messagingErrorCode == MessagingErrorCode.UNAVAILABLE || messagingErrorCode == MessagingErrorCode.INTERNAL) {
+            return true;
+        }
+        return errorCode == ErrorCode.UNAVAILABLE || errorCode == ErrorCode.INTERNAL
+                || errorCode == ErrorCode.DEADLINE_EXCEEDED;
+    }
+
+    /** 🚫 더 이상 쓸 수 없는 토큰 */
+    public boolean isInvalidToken() {
+        if (success) return false;
+        return messagingErrorCode == MessagingErrorCode.UNREGISTERED
+                || messagingErrorCode == MessagingErrorCode.INVALID_ARGUMENT
+                || errorCode == ErrorCode.INVALID_ARGUMENT;
+    }
+}
@@ -0,0 +1,49 @@
+package service.saju_taro_service.global.mail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ 미리 나눠 둔 메일 본문 템플릿
+ * 생성 시 한 번만 %s 자리로 조각을 나눠 두고, 발송마다 조각 사이에 값만 이어 붙임 (String.formatted 재해석 없음)
+ */
+public final class MailTemplate {
+    private static final String PLACEHOLDER = "%s";
+
+    private final String[] fragments;
+    private final int literalLength;
+
+    private MailTemplate(String[] fragments) {
+        this.fragments = fragments;
+        int length = 0;
+        for (String fragment : fragments) length += fragment.length();
+        this.literalLength = length;
+    }
+
+    public static MailTemplate compile(String template) {
+        List<String> fragments = new ArrayList<>();
+        int from = 0;
+        int at;
+        while ((at = template.indexOf(PLACEHOLDER, from)) >= 0) {
+            fragments.add(template.substring(from, at));
+            from = at + PLACEHOLDER.length();
+        }
+        fragments.add(template.substring(from));
+        return new MailTemplate(fragments.toArray(String[]::new));
+    }
+
+    /** @param args 자리 순서대로 채울 값 (자리 수와 같아야 함) */
+    public String render(String... args) {
+        if (args.length != fragments.length - 1) {
+            throw new IllegalArgumentException("template expects " + (fragments.length - 1) + " args but got " + args.length);
+        }
+        int capacity = literalLength;
+        for (String arg : args) capacity += arg == null ? 4 : arg.length();
+
+        StringBuilder sb = new StringBuilder(capacity).append(fragments[0]);
+        for (int i = 0; i < args.length; i++) {
+            sb.append(args[i]).append(fragments[i + 1]);
+        }
+        return sb.toString();
+    }
+}
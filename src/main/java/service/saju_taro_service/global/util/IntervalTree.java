@@ -0,0 +1,113 @@
+package service.saju_taro_service.global.util;
+
+/**
+ * ✅ 구간 트리 (시작값 기준 AVL + 서브트리 최대 종료값)
+ * - 구간은 [start, end) 반열림 → 끝과 시작이 맞닿은 구간은 겹치지 않음
+ * - insert / findAnyOverlap 모두 O(log n)
+ */
+public class IntervalTree<K extends Comparable<? super K>, V> {
+
+    private Node<K, V> root;
+    private int size;
+
+    private static final class Node<K, V> {
+        final K start;
+        final K end;
+        final V value;
+        K maxEnd;
+        int height = 1;
+        Node<K, V> left;
+        Node<K, V> right;
+
+        Node(K start, K end, V value) {
+            this.start = start;
+            this.end = end;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void insert(K start, K end, V value) {
+        root = insert(root, new Node<>(start, end, value));
+        size++;
+    }
+
+    /**
+     * [start, end) 와 겹치는 구간 하나의 값 (없으면 null)
+     */
+    public V findAnyOverlap(K start, K end) {
+        Node<K, V> node = root;
+        while (node != null) {
+            if (node.start.compareTo(end) < 0 && start.compareTo(node.end) < 0) {
+                return node.value;
+            }
+            // 왼쪽 서브트리의 최대 종료값이 start 보다 크면 왼쪽에 겹치는 구간이 있을 수 있음
+            if (node.left != null && start.compareTo(node.left.maxEnd) < 0) {
+                node = node.left;
+            } else if (node.start.compareTo(end) < 0) {
+                node = node.right;
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private Node<K, V> insert(Node<K, V> node, Node<K, V> added) {
+        if (node == null) return added;
+        if (added.start.compareTo(node.start) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return rebalance(node);
+    }
+
+    private Node<K, V> rebalance(Node<K, V> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<K, V> rotateRight(Node<K, V> node) {
+        Node<K, V> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<K, V> rotateLeft(Node<K, V> node) {
+        Node<K, V> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<K, V> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        K max = node.end;
+        if (node.left != null && node.left.maxEnd.compareTo(max) > 0) max = node.left.maxEnd;
+        if (node.right != null && node.right.maxEnd.compareTo(max) > 0) max = node.right.maxEnd;
+        node.maxEnd = max;
+    }
+
+    private int height(Node<K, V> node) {
+        return node == null ? 0 : node.height;
+    }
+}
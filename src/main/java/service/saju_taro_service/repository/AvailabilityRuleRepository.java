@@ -0,0 +1,18 @@
+package service.saju_taro_service.repository;
+
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+
+import java.util.List;
+
+public interface AvailabilityRuleRepository extends JpaRepository<AvailabilityRule, Long> {
+
+    // ✅ 상담사의 활성 규칙 (예외일 함께 조회)
+    @EntityGraph(attributePaths = "exceptDates")
+    List<AvailabilityRule> findByCounselorIdAndIsActiveTrue(Long counselorId);
+
+    // 빈 시간 검색 인덱스 적재용 (활성 규칙 전체 + 쉬는 날)
+    @EntityGraph(attributePaths = "exceptDates")
+    List<AvailabilityRule> findByIsActiveTrue();
+}
@@ -0,0 +1,82 @@
+package service.saju_taro_service.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import service.saju_taro_service.domain.stats.DailyStats;
+import service.saju_taro_service.dto.stats.DailyCount;
+import service.saju_taro_service.dto.stats.MonthlyRevenue;
+import service.saju_taro_service.dto.stats.StatsTotal;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyStatsRepository extends JpaRepository<DailyStats, Long> {
+
+    // ✅ 증분 반영 (행이 없으면 생성, 있으면 원자적으로 더함)
+    @Modifying
+    @Query(value = """
+        INSERT INTO daily_stats (stat_date, counselor_id, reservation_count, paid_count, revenue, rating_sum, rating_count)
+        VALUES (:statDate, :counselorId, :reservationCount, :paidCount, :revenue, :ratingSum, :ratingCount)
+        ON DUPLICATE KEY UPDATE
+            reservation_count = reservation_count + VALUES(reservation_count),
+            paid_count = paid_count + VALUES(paid_count),
+            revenue = revenue + VALUES(revenue),
+            rating_sum = rating_sum + VALUES(rating_sum),
+            rating_count = rating_count + VALUES(rating_count)
+    """, nativeQuery = true)
+    void upsertDelta(@Param("statDate") LocalDate statDate,
+                     @Param("counselorId") Long counselorId,
+                     @Param("reservationCount") long reservationCount,
+                     @Param("paidCount") long paidCount,
+                     @Param("revenue") long revenue,
+                     @Param("ratingSum") long ratingSum,
+                     @Param("ratingCount") long ratingCount);
+
+    // ✅ 기간 내 롤업 행 (잠금 없음)
+    List<DailyStats> findByStatDateBetween(LocalDate from, LocalDate to);
+
+    // ✅ 재계산 기간의 기존 행 + 행 잠금 (uk_daily_stats_date_counselor 범위 잠금 → 재계산이 끝날 때까지 증분 upsert 가 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM DailyStats d WHERE d.statDate BETWEEN :from AND :to")
+    List<DailyStats> findForUpdateByStatDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ✅ 백필 필요 여부 확인용
+    boolean existsByStatDate(LocalDate statDate);
+
+    // ✅ 일별 예약 건수 (전체 상담사 합산)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.DailyCount(d.statDate, sum(d.reservationCount))
+        FROM DailyStats d
+        WHERE d.statDate BETWEEN :from AND :to
+        GROUP BY d.statDate
+        HAVING sum(d.reservationCount) > 0
+        ORDER BY d.statDate
+    """)
+    List<DailyCount> sumDailyReservationCount(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ✅ 월별 결제 건수 / 매출 (전체 상담사 합산)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.MonthlyRevenue(
+            year(d.statDate), month(d.statDate), sum(d.paidCount), sum(d.revenue))
+        FROM DailyStats d
+        WHERE d.statDate BETWEEN :from AND :to
+        GROUP BY year(d.statDate), month(d.statDate)
+        HAVING sum(d.paidCount) > 0
+        ORDER BY year(d.statDate), month(d.statDate)
+    """)
+    List<MonthlyRevenue> sumMonthlyRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // ✅ 기간 합계 (전체 상담사)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.StatsTotal(
+            coalesce(sum(d.reservationCount), 0), coalesce(sum(d.paidCount), 0), coalesce(sum(d.revenue), 0),
+            coalesce(sum(d.ratingSum), 0), coalesce(sum(d.ratingCount), 0))
+        FROM DailyStats d
+        WHERE d.statDate BETWEEN :from AND :to
+    """)
+    StatsTotal sumTotalBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,60 @@
+package service.saju_taro_service.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import service.saju_taro_service.domain.notification.NotificationOutbox;
+import service.saju_taro_service.domain.notification.NotificationOutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // ✅ 릴레이 폴링: 발송 가능한 대기 행 (FOR UPDATE SKIP LOCKED → 여러 노드가 서로 다른 행을 가져감)
+    // lock.timeout = -2 는 Hibernate 의 SKIP_LOCKED (지원하지 않는 DB 에서는 일반 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT o FROM NotificationOutbox o
+        WHERE o.status = :status AND o.availableAt <= :now
+        ORDER BY o.id
+    """)
+    List<NotificationOutbox> findClaimable(@Param("status") NotificationOutboxStatus status,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.status = :status WHERE o.id IN :ids")
+    int updateStatusIn(@Param("ids") Collection<Long> ids, @Param("status") NotificationOutboxStatus status);
+
+    // ✅ 실행기에 넘기지 못한 행 반납 (시도 횟수 복구, 즉시 다시 가져갈 수 있게)
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.availableAt = :now, o.attempts = o.attempts - 1 WHERE o.id IN :ids")
+    int release(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // ✅ 푸시 재시도: 같은 PUSH 행을 다음 회차로 백오프 시각까지 미룸
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.pushAttempt = :pushAttempt, o.availableAt = :availableAt WHERE o.id = :id")
+    int reschedulePush(@Param("id") Long id,
+                       @Param("pushAttempt") int pushAttempt,
+                       @Param("availableAt") LocalDateTime availableAt);
+
+    // ✅ 발송을 미룰 행 (시도 횟수는 그대로 → 계속 실패하면 최대 시도 초과로 FAILED)
+    @Modifying
+    @Query("UPDATE NotificationOutbox o SET o.availableAt = :availableAt WHERE o.id IN :ids")
+    int deferIn(@Param("ids") Collection<Long> ids, @Param("availableAt") LocalDateTime availableAt);
+
+    // ✅ 보관 기간이 지난 완료 행 정리
+    @Modifying
+    @Query("DELETE FROM NotificationOutbox o WHERE o.status = :status AND o.createdAt < :before")
+    int deleteByStatusCreatedBefore(@Param("status") NotificationOutboxStatus status,
+                                    @Param("before") LocalDateTime before);
+}
@@ -1,12 +1,19 @@
 package service.saju_taro_service.repository;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import service.saju_taro_service.domain.payment.Payment;
 import service.saju_taro_service.domain.payment.PaymentStatus;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.dto.stats.DailyCounselorAggregate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +21,59 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByTransactionId(String txId);
 
+    // ✅ 환불 시 행 잠금 (자동 환불 청크와 같은 결제를 동시에 환불해 통계를 두 번 차감하지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.transactionId = :txId")
+    Optional<Payment> findByTransactionIdForUpdate(@Param("txId") String txId);
+
     // ✅ 사용자 ID로 결제 내역 조회 (성능 최적화: findAll 대체)
     List<Payment> findByReservation_User_Id(Long userId);
 
     // ✅ 결제 상태로 조회 (성능 최적화: findAll 대체)
     List<Payment> findByPaymentStatus(PaymentStatus status);
 
-    // ✅ PaymentScheduler용: PAID 상태이며 paidAt이 특정 시간 이전인 결제 조회
-    @Query("SELECT p FROM Payment p WHERE p.paymentStatus = 'PAID' AND p.paidAt <= :cutoffTime")
-    List<Payment> findExpiredPaidPayments(@Param("cutoffTime") LocalDateTime cutoffTime);
+    // ✅ 결제 대기 만료 처리 시 결제 완료 여부 재확인
+    boolean existsByReservation_IdAndPaymentStatus(Long reservationId, PaymentStatus status);
+
+    // ✅ PaymentScheduler용: PAID 상태로 cutoffTime 이 지났고 상담이 완료되지 않은 결제 (결제 ID 키셋, 예약/스케줄 함께 조회)
+    // 청크 트랜잭션이 끝날 때까지 행 잠금 → 사용자 환불/결제 승인과 겹치지 않음
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT p FROM Payment p JOIN FETCH p.reservation r LEFT JOIN FETCH r.schedule
+        WHERE p.paymentStatus = :paid AND p.paidAt <= :cutoffTime AND p.id > :afterId
+          AND r.reservationStatus <> :completed
+        ORDER BY p.id
+    """)
+    List<Payment> findRefundableAfter(@Param("paid") PaymentStatus paid,
+                                      @Param("completed") ReservationStatus completed,
+                                      @Param("cutoffTime") LocalDateTime cutoffTime,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
+    // ✅ 결제 상태 일괄 변경 (expected 상태인 행만, 변경된 행 수 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.paymentStatus = :target WHERE p.id IN :ids AND p.paymentStatus = :expected")
+    int updateStatusIn(@Param("ids") Collection<Long> ids,
+                       @Param("expected") PaymentStatus expected,
+                       @Param("target") PaymentStatus target);
+
+    // ✅ 상담사 기간 매출 합계 (예약 시간 기준, 결제완료 건만 / 단일 집계 쿼리)
+    @Query("""
+        SELECT coalesce(sum(p.amount), 0) FROM Payment p JOIN p.reservation r
+        WHERE p.paymentStatus = 'PAID' AND r.counselor.id = :counselorId
+          AND r.reservationTime BETWEEN :start AND :end
+    """)
+    Long sumPaidAmountByCounselorAndReservationTimeBetween(@Param("counselorId") Long counselorId,
+                                                           @Param("start") LocalDateTime start,
+                                                           @Param("end") LocalDateTime end);
+
+    // ✅ 통계 롤업 재계산용: 기간 내 (결제일, 상담사)별 결제완료 건수 / 매출 합계
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.DailyCounselorAggregate(
+            cast(p.paidAt as LocalDate), r.counselor.id, count(p), sum(p.amount))
+        FROM Payment p JOIN p.reservation r
+        WHERE p.paymentStatus = 'PAID' AND p.paidAt >= :from AND p.paidAt < :to
+        GROUP BY cast(p.paidAt as LocalDate), r.counselor.id
+    """)
+    List<DailyCounselorAggregate> sumDailyPaidAmountByCounselor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -1,16 +1,72 @@
 package service.saju_taro_service.repository;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.dto.profile.TagCount;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
+    // ✅ 응답 변환 시 상담사 이름이 항상 필요하므로 함께 조회
+    @EntityGraph(attributePaths = "counselor")
     Optional<Profile> findByCounselorId(Long counselorId);
 
-    @Query("SELECT p FROM Profile p WHERE p.tags LIKE %:tag%")
-    List<Profile> searchByTag(@Param("tag") String tag);
+    // ✅ 상담사 디렉토리: 상담사를 함께 조회하고 정렬/페이징은 DB에서 처리
+    @Query(value = "SELECT p FROM Profile p JOIN FETCH p.counselor",
+            countQuery = "SELECT count(p) FROM Profile p")
+    Page<Profile> findDirectory(Pageable pageable);
+
+    // ✅ 태그 검색 (profile_tags.tag 인덱스 사용)
+    // OR: 태그 중 하나라도 가진 프로필
+    @Query(value = """
+        SELECT p FROM Profile p JOIN FETCH p.counselor
+        WHERE p.id IN (SELECT pt.id FROM Profile pt JOIN pt.tagSet t WHERE t IN :tags)
+    """,
+    countQuery = "SELECT count(DISTINCT pt.id) FROM Profile pt JOIN pt.tagSet t WHERE t IN :tags")
+    Page<Profile> findDirectoryByAnyTag(@Param("tags") Collection<String> tags, Pageable pageable);
+
+    // AND: 태그를 모두 가진 프로필
+    @Query(value = """
+        SELECT p FROM Profile p JOIN FETCH p.counselor
+        WHERE p.id IN (
+            SELECT pt.id FROM Profile pt JOIN pt.tagSet t WHERE t IN :tags
+            GROUP BY pt.id HAVING count(t) = :tagCount)
+    """,
+    countQuery = """
+        SELECT count(p) FROM Profile p
+        WHERE p.id IN (
+            SELECT pt.id FROM Profile pt JOIN pt.tagSet t WHERE t IN :tags
+            GROUP BY pt.id HAVING count(t) = :tagCount)
+    """)
+    Page<Profile> findDirectoryByAllTags(@Param("tags") Collection<String> tags,
+                                         @Param("tagCount") long tagCount,
+                                         Pageable pageable);
+
+    // ✅ 태그별 상담사 수 (태그 자동완성 인덱스 초기 적재용)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.profile.TagCount(t, count(p))
+        FROM Profile p JOIN p.tagSet t
+        GROUP BY t
+    """)
+    List<TagCount> countByTag();
+
+    // ✅ 지정 태그만 상담사 수 재집계 (태그 인덱스 갱신용, 상담사가 없는 태그는 결과에서 빠짐)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.profile.TagCount(t, count(p))
+        FROM Profile p JOIN p.tagSet t
+        WHERE t IN :tags
+        GROUP BY t
+    """)
+    List<TagCount> countByTagIn(@Param("tags") Collection<String> tags);
+
+    // ✅ 태그 테이블 이관 대상: 기존 콤마 컬럼에만 태그가 있는 프로필
+    @Query("SELECT p FROM Profile p WHERE p.tags IS NOT NULL AND p.tags <> '' AND p.tagSet IS EMPTY")
+    List<Profile> findWithoutTagRows();
 }
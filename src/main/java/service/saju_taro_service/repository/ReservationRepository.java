@@ -1,35 +1,113 @@
 package service.saju_taro_service.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-// import org.springframework.data.jpa.repository.Query;
-// import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import service.saju_taro_service.domain.payment.PaymentStatus;
 import service.saju_taro_service.domain.reservation.Reservation;
 import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.dto.stats.DailyCounselorAggregate;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+    // ✅ 결제 대기 만료 대상: 기준 시각 이후 생성돼 선점 TTL 이 지났고 결제 완료(PAID) 이력이 없는 진행 중 예약
+    @Query("""
+        SELECT r.id FROM Reservation r
+        WHERE r.reservationStatus IN :statuses
+          AND r.createdAt >= :from AND r.createdAt < :to
+          AND NOT EXISTS (SELECT p.id FROM Payment p WHERE p.reservation = r AND p.paymentStatus = :paid)
+        ORDER BY r.createdAt
+    """)
+    List<Long> findUnpaidIdsCreatedBetween(@Param("statuses") Collection<ReservationStatus> statuses,
+                                           @Param("paid") PaymentStatus paid,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           Pageable pageable);
+
+    // ✅ 만료 처리 시 결제 승인과 겹치지 않도록 행 잠금 (SKIP LOCKED)
+    // 결제 승인은 Toss 호출이 끝날 때까지 예약 행을 잠그므로, 잠긴 행은 기다리지 않고 비어 있는 결과로 건너뜀 → 다음 주기에 재확인
+    // lock.timeout = -2 는 Hibernate 의 SKIP_LOCKED (지원하지 않는 DB 에서는 일반 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+
+    // ✅ 결제 승인 직전 진행 중 예약을 확정 상태로 전환 (만료로 이미 취소됐으면 0)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationStatus = :target WHERE r.id = :id AND r.reservationStatus IN :open")
+    int updateStatusIfIn(@Param("id") Long id,
+                         @Param("open") Collection<ReservationStatus> open,
+                         @Param("target") ReservationStatus target);
+
+    // ✅ 자동 환불 청크용: 예약 상태 일괄 변경
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Reservation r SET r.reservationStatus = :target WHERE r.id IN :ids")
+    int updateStatusIn(@Param("ids") Collection<Long> ids, @Param("target") ReservationStatus target);
+
 //    @Query("SELECT r FROM Reservation r WHERE r.reservationStatus = 'CONFIRMED' " +
 //            "AND r.reservationTime BETWEEN :from AND :to")
 //    List<Reservation> findActiveBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
-    List<Reservation> findByUserIdOrderByReservationTimeDesc(Long userId);
+    // ✅ 목록 응답용 finder: ReservationResponse 가 사용하는 연관관계를 한 번에 fetch join (N+1 방지)
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findWithDetailsByUserIdOrderByReservationTimeDesc(Long userId);
 
-    List<Reservation> findByCounselorIdOrderByReservationTimeDesc(Long counselorId);
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findWithDetailsByUserIdAndReservationStatusOrderByReservationTimeDesc(Long userId, ReservationStatus status);
 
-    List<Reservation> findByUserIdAndReservationStatusOrderByReservationTimeDesc(Long userId, ReservationStatus status);
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findWithDetailsByCounselorIdOrderByReservationTimeDesc(Long counselorId);
 
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findWithDetailsByCounselorIdAndReservationTimeBetweenOrderByReservationTimeDesc(
+            Long counselorId,
+            LocalDateTime start,
+            LocalDateTime end
+    );
 
-    List<Reservation> findByCounselorIdAndReservationTimeAfterAndReservationStatus(
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findWithDetailsByCounselorIdAndReservationTimeAfterAndReservationStatus(
             Long counselorId,
             LocalDateTime now,
             ReservationStatus status
     );
 
-    List<Reservation> findTop5ByCounselorIdAndReservationStatusOrderByReservationTimeDesc(
+    @EntityGraph(attributePaths = {"user", "counselor", "serviceItem"})
+    List<Reservation> findTop5WithDetailsByCounselorIdAndReservationStatusOrderByReservationTimeDesc(
             Long counselorId,
             ReservationStatus status
     );
 
+    // ✅ 상담사 기간 예약 조회 (counselor_id, reservation_time 복합 인덱스 범위 스캔, 연관관계 미로딩)
+    List<Reservation> findByCounselorIdAndReservationTimeBetweenOrderByReservationTimeDesc(
+            Long counselorId,
+            LocalDateTime start,
+            LocalDateTime end
+    );
+
+    // ✅ 통계 롤업 백필 시작일: 가장 오래된 예약 생성 시각 (결제/후기는 예약 이후에만 생김)
+    @Query("SELECT min(r.createdAt) FROM Reservation r")
+    Optional<LocalDateTime> findFirstCreatedAt();
+
+    // ✅ 통계 롤업 재계산용: 기간 내 (일자, 상담사)별 예약 건수 (DB GROUP BY, 엔티티 미로딩)
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.DailyCounselorAggregate(
+            cast(r.createdAt as LocalDate), r.counselor.id, count(r))
+        FROM Reservation r
+        WHERE r.createdAt >= :from AND r.createdAt < :to
+        GROUP BY cast(r.createdAt as LocalDate), r.counselor.id
+    """)
+    List<DailyCounselorAggregate> countDailyByCounselor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
 }
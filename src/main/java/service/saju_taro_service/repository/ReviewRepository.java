@@ -6,7 +6,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import service.saju_taro_service.domain.review.Review;
+import service.saju_taro_service.dto.review.ReviewResponse;
+import service.saju_taro_service.dto.stats.DailyCounselorAggregate;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,8 +26,24 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 
     Long countByCounselorIdAndIsActiveTrue(Long counselorId);
 
-    List<Review> findByCounselorIdAndIsActiveTrueOrderByCreatedAtDesc(Long counselorId);
-
-    Page<Review> findByCounselorIdAndIsActiveTrue(Long counselorId, Pageable pageable);
+    // ✅ 통계 롤업 재계산용: 기간 내 (작성일, 상담사)별 활성 후기 개수 / 평점 합계
+    @Query("""
+        SELECT new service.saju_taro_service.dto.stats.DailyCounselorAggregate(
+            cast(r.createdAt as LocalDate), r.counselor.id, count(r), sum(r.rating))
+        FROM Review r
+        WHERE r.isActive = true AND r.createdAt >= :from AND r.createdAt < :to
+        GROUP BY cast(r.createdAt as LocalDate), r.counselor.id
+    """)
+    List<DailyCounselorAggregate> sumDailyRatingByCounselor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // ✅ 상담사별 활성 후기 페이징 조회 (작성자 이름/닉네임을 JOIN 으로 함께 프로젝션 → 후기당 사용자 조회 제거)
+    @Query(value = """
+        SELECT new service.saju_taro_service.dto.review.ReviewResponse(
+            r.id, u.id, u.name, u.nickname, r.reservation.id, r.counselor.id, r.rating, r.comment, r.createdAt)
+        FROM Review r JOIN r.user u
+        WHERE r.counselor.id = :counselorId AND r.isActive = true
+    """,
+    countQuery = "SELECT count(r) FROM Review r WHERE r.counselor.id = :counselorId AND r.isActive = true")
+    Page<ReviewResponse> findResponsesByCounselorId(@Param("counselorId") Long counselorId, Pageable pageable);
 
 }
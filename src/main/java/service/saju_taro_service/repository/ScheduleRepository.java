@@ -1,13 +1,15 @@
 package service.saju_taro_service.repository;
 
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import service.saju_taro_service.domain.schedule.Schedule;
 import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.dto.schedule.CalendarSlotRow;
+import service.saju_taro_service.dto.schedule.OpenSlotRow;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,17 +19,61 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             LocalDateTime start,
             LocalDateTime end);
 
-    // 중복 시간 검증
-    boolean existsByCounselorIdAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(Long counselorId,
+    // 중복 시간 검증 ([start, end) 기준 → 끝과 시작이 맞닿은 연속 슬롯은 허용)
+    boolean existsByCounselorIdAndStartTimeLessThanAndEndTimeGreaterThan(Long counselorId,
             LocalDateTime end,
             LocalDateTime start);
 
+    // ✅ 일괄 등록용: 기간과 겹치는 기존 스케줄 한 번에 조회
+    @Query("SELECT s FROM Schedule s WHERE s.counselor.id = :counselorId AND s.startTime < :to AND s.endTime > :from")
+    List<Schedule> findOverlapping(@Param("counselorId") Long counselorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // ✅ 반복 규칙 슬롯 저장 시 이미 저장된 스케줄인지 확인
+    @Query("SELECT s.id FROM Schedule s WHERE s.counselor.id = :counselorId AND s.startTime = :startTime")
+    Optional<Long> findIdByCounselorIdAndStartTime(@Param("counselorId") Long counselorId,
+            @Param("startTime") LocalDateTime startTime);
+
+    // ✅ 빈 시간 검색 인덱스용: 기간 내 시작하는 예약 가능 스케줄 (is_available, start_time 인덱스)
+    @Query("""
+            SELECT new service.saju_taro_service.dto.schedule.OpenSlotRow(s.id, s.counselor.id, s.startTime, s.endTime)
+            FROM Schedule s WHERE s.isAvailable = true AND s.startTime >= :from AND s.startTime < :to
+            """)
+    List<OpenSlotRow> findOpenSlotsStartingBetween(@Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // ✅ 여러 상담사의 기간과 겹치는 스케줄 (반복 규칙 슬롯 계산 시 저장된 시간대 제외용)
+    @Query("SELECT s FROM Schedule s WHERE s.counselor.id IN :counselorIds AND s.startTime < :to AND s.endTime > :from")
+    List<Schedule> findOverlappingForCounselors(@Param("counselorIds") Collection<Long> counselorIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
+    // ✅ 월 달력용: 기간 내 스케줄 시간 / 점유 상태만 프로젝션 (시작 시각 순)
+    // 예약 여부는 점유 상태 기준 → 취소/만료된 예약은 반영되지 않고, 비트맵 경로(fromDays)와 같은 결과
+    @Query("""
+            SELECT new service.saju_taro_service.dto.schedule.CalendarSlotRow(
+                s.id, s.startTime, s.endTime, s.isAvailable)
+            FROM Schedule s
+            WHERE s.counselor.id = :counselorId AND s.startTime >= :from AND s.startTime < :to
+            ORDER BY s.startTime, s.id
+            """)
+    List<CalendarSlotRow> findCalendarRows(@Param("counselorId") Long counselorId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+
     // 단순 활성화된 전체 스케줄 조회
     List<Schedule> findByCounselorAndIsAvailableTrueOrderByStartTime(User counselorId);
 
-    // ✅ 비관적 락 (동시 예약 방지)
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Schedule s WHERE s.id = :id")
-    Optional<Schedule> findByIdWithLock(@Param("id") Long id);
+    // ✅ 조건부 점유 (동시 예약 방지): 예약 가능 상태일 때만 false 로 변경, 변경된 행 수 반환 (1 = 점유 성공)
+    @Modifying
+    @Query("UPDATE Schedule s SET s.isAvailable = false WHERE s.id = :id AND s.isAvailable = true")
+    int claimIfAvailable(@Param("id") Long id);
+
+    // ✅ 자동 환불 청크용: 스케줄 일괄 복구 (다시 예약 가능)
+    // 벌크 UPDATE 후 영속성 컨텍스트를 비움 → 이후 조회(커밋 후 인덱스 갱신 등)가 복구 전 엔티티를 재사용하지 않음
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Schedule s SET s.isAvailable = true WHERE s.id IN :ids")
+    int releaseAll(@Param("ids") Collection<Long> ids);
 
 }
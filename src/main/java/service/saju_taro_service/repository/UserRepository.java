@@ -4,9 +4,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.user.CounselorSearchRow;
 
 import java.util.List;
 import java.util.Optional;
@@ -43,4 +45,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findAllActiveCounselors(Pageable pageable);
 
     Optional<User> findByFcmToken(String fcmToken);
+
+    /** ✅ 빈 시간 검색 인덱스용: 활성 상담사 + 프로필 태그/상담 종류 (1회 조회) */
+    @Query("""
+        SELECT new service.saju_taro_service.dto.user.CounselorSearchRow(
+            u.id, u.nickname, u.averageRating, p.tags, p.serviceTypes)
+        FROM User u LEFT JOIN Profile p ON p.counselor = u
+        WHERE u.userRole = 'COUNSELOR' AND u.isActive = true
+    """)
+    List<CounselorSearchRow> findSearchRows();
+
+    @Query("""
+        SELECT new service.saju_taro_service.dto.user.CounselorSearchRow(
+            u.id, u.nickname, u.averageRating, p.tags, p.serviceTypes)
+        FROM User u LEFT JOIN Profile p ON p.counselor = u
+        WHERE u.id = :counselorId AND u.userRole = 'COUNSELOR' AND u.isActive = true
+    """)
+    Optional<CounselorSearchRow> findSearchRow(@Param("counselorId") Long counselorId);
 }
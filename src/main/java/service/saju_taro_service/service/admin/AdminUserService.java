@@ -9,11 +9,13 @@ import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.domain.user.UserRole;
 import service.saju_taro_service.dto.user.UserResponse;
 import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.user.CounselorCacheEvictor;
 
 @Service
 @RequiredArgsConstructor
 public class AdminUserService {
     private final UserRepository userRepository;
+    private final CounselorCacheEvictor counselorCacheEvictor;
 
     /**
      * 사용자 목록 조회
@@ -42,6 +44,7 @@ public class AdminUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.setUserRole(newRole);
+        counselorCacheEvictor.evict(userId);
     }
 
     /** ✅ 관리자: 사용자 비활성화 */
@@ -50,6 +53,7 @@ public class AdminUserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         user.setActive(false);
+        counselorCacheEvictor.evict(userId);
     }
     /** 관리자: 관리자 권한 주기 **/
     @Transactional
@@ -0,0 +1,244 @@
+package service.saju_taro_service.service.counselor;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.dto.schedule.AvailableSlotResponse;
+import service.saju_taro_service.dto.schedule.FirstAvailableSlotResponse;
+import service.saju_taro_service.dto.schedule.OpenSlotRow;
+import service.saju_taro_service.dto.user.CounselorSearchRow;
+import service.saju_taro_service.global.event.ScheduleAvailabilityChangedEvent;
+import service.saju_taro_service.repository.AvailabilityRuleRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 상담사 전체 빈 시간 인메모리 인덱스 (1시간 단위 버킷 → 버킷 안은 시작 시각 순)
+ * - 주기적으로 전체 재적재 (예약 가능 스케줄 + 반복 규칙 슬롯, 상담사 평점/태그/상담 종류)
+ * - 스케줄 변경이 커밋되면 해당 상담사의 변경 구간만 다시 계산 (재적재 중 들어온 갱신은 교체 후 새 스냅샷에 다시 반영)
+ * - 검색은 요청 시간대의 버킷을 앞에서부터 훑어 상담사별 가장 이른 슬롯만 모음 → limit 개 채우면 종료
+ * 인덱스는 후보 검색용이며, 실제 예약은 스케줄 점유 UPDATE 로 다시 확인함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvailabilitySearchIndex {
+
+    private final ScheduleRepository scheduleRepository;
+    private final AvailabilityRuleRepository ruleRepository;
+    private final UserRepository userRepository;
+
+    @Value("${search.availability.horizon-days:14}")
+    private int horizonDays;
+
+    private static final int COUNSELOR_CHUNK = 500;
+
+    private volatile Snapshot snapshot = new Snapshot();
+    // 재적재 중 들어온 갱신 요청 (재적재가 이미 읽은 DB 상태보다 늦을 수 있으므로 교체 후 다시 계산) - null 이면 재적재 중 아님
+    private volatile Set<Refresh> pendingRefreshes;
+
+    private record Refresh(Long counselorId, LocalDateTime from, LocalDateTime to) {
+    }
+
+    public record Slot(Long counselorId, Long scheduleId, Long ruleId,
+                       LocalDateTime startTime, LocalDateTime endTime) implements Comparable<Slot> {
+        private static final Comparator<Slot> ORDER = Comparator.comparing(Slot::startTime)
+                .thenComparing(Slot::counselorId)
+                .thenComparing(Slot::endTime)
+                .thenComparing(Slot::scheduleId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(Slot::ruleId, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        @Override
+        public int compareTo(Slot other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    record Counselor(Long id, String nickname, double rating, Set<String> tags, Set<ServiceType> serviceTypes) {
+    }
+
+    private static final class Snapshot {
+        final ConcurrentSkipListMap<LocalDateTime, ConcurrentSkipListSet<Slot>> buckets = new ConcurrentSkipListMap<>();
+        final ConcurrentHashMap<Long, ConcurrentSkipListSet<Slot>> byCounselor = new ConcurrentHashMap<>();
+        final Map<Long, Counselor> counselors = new ConcurrentHashMap<>();
+
+        void add(Slot slot) {
+            buckets.computeIfAbsent(bucketOf(slot.startTime()), b -> new ConcurrentSkipListSet<>()).add(slot);
+            byCounselor.computeIfAbsent(slot.counselorId(), id -> new ConcurrentSkipListSet<>()).add(slot);
+        }
+
+        // 상담사의 [from, to) 안에서 시작하는 슬롯 제거
+        void remove(Long counselorId, LocalDateTime from, LocalDateTime to) {
+            ConcurrentSkipListSet<Slot> own = byCounselor.get(counselorId);
+            if (own == null) return;
+            for (Iterator<Slot> it = own.iterator(); it.hasNext(); ) {
+                Slot slot = it.next();
+                if (slot.startTime().isBefore(from)) continue;
+                if (!slot.startTime().isBefore(to)) break;
+                it.remove();
+                ConcurrentSkipListSet<Slot> bucket = buckets.get(bucketOf(slot.startTime()));
+                if (bucket != null) bucket.remove(slot);
+            }
+        }
+    }
+
+    private static LocalDateTime bucketOf(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.HOURS);
+    }
+
+    /**
+     * 전체 재적재 (시작 시 1회 + 주기 실행) - 새 스냅샷을 만든 뒤 교체하므로 적재 중에도 검색 가능
+     * 적재 중 들어온 갱신은 이전 스냅샷에만 반영되므로, 교체 후 새 스냅샷에 다시 계산한다.
+     * (트랜잭션 없이 실행 → 다시 계산할 때 적재 이후 커밋된 변경까지 읽음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.availability.rebuild-interval:300000}",
+            initialDelayString = "${search.availability.rebuild-interval:300000}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        Set<Refresh> pending = ConcurrentHashMap.newKeySet();
+        pendingRefreshes = pending;
+        LocalDateTime from = LocalDateTime.now();
+        LocalDateTime to = horizonEnd(from);
+        Snapshot fresh = new Snapshot();
+
+        for (CounselorSearchRow row : userRepository.findSearchRows()) {
+            fresh.counselors.put(row.getCounselorId(), toCounselor(row));
+        }
+        for (OpenSlotRow row : scheduleRepository.findOpenSlotsStartingBetween(from, to)) {
+            fresh.add(new Slot(row.getCounselorId(), row.getScheduleId(), null, row.getStartTime(), row.getEndTime()));
+        }
+
+        Map<Long, List<AvailabilityRule>> rulesByCounselor = ruleRepository.findByIsActiveTrue().stream()
+                .collect(Collectors.groupingBy(r -> r.getCounselor().getId()));
+        List<Long> ids = new ArrayList<>(rulesByCounselor.keySet());
+        for (int i = 0; i < ids.size(); i += COUNSELOR_CHUNK) {
+            List<Long> chunk = ids.subList(i, Math.min(i + COUNSELOR_CHUNK, ids.size()));
+            Map<Long, List<Schedule>> schedules = scheduleRepository.findOverlappingForCounselors(chunk, from, to)
+                    .stream()
+                    .collect(Collectors.groupingBy(s -> s.getCounselor().getId()));
+            for (Long counselorId : chunk) {
+                addRuleSlots(fresh, counselorId, rulesByCounselor.get(counselorId),
+                        schedules.getOrDefault(counselorId, List.of()), from, to);
+            }
+        }
+
+        snapshot = fresh;
+        pendingRefreshes = null;
+        for (Refresh r : pending) {
+            refresh(r.counselorId(), r.from(), r.to());
+        }
+        log.info("🔎 빈 시간 인덱스 적재 완료: 상담사 {}명, 슬롯 {}개, 적재 중 갱신 {}건 재반영 ({}ms)", fresh.counselors.size(),
+                fresh.byCounselor.values().stream().mapToInt(Set::size).sum(), pending.size(),
+                System.currentTimeMillis() - started);
+    }
+
+    /** 스케줄/규칙 변경 커밋 후 해당 상담사의 변경 구간(하루 단위로 확장)만 다시 계산 */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScheduleAvailabilityChanged(ScheduleAvailabilityChangedEvent event) {
+        refresh(event.getCounselorId(), event.getFrom(), event.getTo());
+    }
+
+    public void refresh(Long counselorId, LocalDateTime changedFrom, LocalDateTime changedTo) {
+        // 재적재 중이면 기록 먼저 (교체 전이면 재적재가 다시 계산, 교체 후면 아래에서 새 스냅샷을 읽음)
+        Set<Refresh> pending = pendingRefreshes;
+        if (pending != null) pending.add(new Refresh(counselorId, changedFrom, changedTo));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = changedFrom.toLocalDate().atStartOfDay();
+        LocalDateTime to = changedTo.toLocalDate().plusDays(1).atStartOfDay();
+        if (from.isBefore(now)) from = now;
+        if (to.isAfter(horizonEnd(now))) to = horizonEnd(now);
+        if (!from.isBefore(to)) return;
+
+        Snapshot snap = snapshot;
+        List<Schedule> schedules = scheduleRepository.findOverlapping(counselorId, from, to);
+        snap.remove(counselorId, from, to);
+        for (Schedule s : schedules) {
+            if (s.isAvailable() && !s.getStartTime().isBefore(from) && s.getStartTime().isBefore(to)) {
+                snap.add(new Slot(counselorId, s.getId(), null, s.getStartTime(), s.getEndTime()));
+            }
+        }
+        addRuleSlots(snap, counselorId, ruleRepository.findByCounselorIdAndIsActiveTrue(counselorId), schedules, from, to);
+    }
+
+    /**
+     * [from, to) 안에서 시작하는 조건에 맞는 빈 슬롯을 상담사별 가장 이른 것 하나씩, 시작 시각 순으로 최대 limit 개
+     */
+    public List<FirstAvailableSlotResponse> findFirstAvailable(ServiceType serviceType, String tag, Double minRating,
+                                                               LocalDateTime from, LocalDateTime to, int limit) {
+        Snapshot snap = snapshot;
+        String wantedTag = tag == null || tag.isBlank() ? null : tag.trim();
+        // 상담사별 판정 결과 캐시 (true = 조건 충족, 아직 결과에 없음 / false = 제외 또는 이미 포함)
+        Map<Long, Boolean> candidates = new HashMap<>();
+        List<FirstAvailableSlotResponse> result = new ArrayList<>();
+
+        for (ConcurrentSkipListSet<Slot> bucket : snap.buckets.subMap(bucketOf(from), true, to, false).values()) {
+            for (Slot slot : bucket) {
+                if (slot.startTime().isBefore(from)) continue;
+                if (!slot.startTime().isBefore(to)) break;
+                Long counselorId = slot.counselorId();
+                boolean candidate = candidates.computeIfAbsent(counselorId,
+                        id -> matches(snap.counselors.get(id), serviceType, wantedTag, minRating));
+                if (!candidate) continue;
+
+                Counselor c = snap.counselors.get(counselorId);
+                result.add(new FirstAvailableSlotResponse(counselorId, c.nickname(), c.rating(),
+                        slot.scheduleId(), slot.ruleId(), slot.startTime(), slot.endTime()));
+                if (result.size() >= limit) return result;
+                candidates.put(counselorId, false);
+            }
+        }
+        return result;
+    }
+
+    public LocalDateTime horizonEnd(LocalDateTime now) {
+        return now.toLocalDate().plusDays(horizonDays + 1L).atStartOfDay();
+    }
+
+    private void addRuleSlots(Snapshot snap, Long counselorId, List<AvailabilityRule> rules, List<Schedule> schedules,
+                              LocalDateTime from, LocalDateTime to) {
+        if (rules == null || rules.isEmpty()) return;
+        for (AvailableSlotResponse slot : AvailabilityRuleService.expandRules(rules, schedules, from, to)) {
+            snap.add(new Slot(counselorId, null, slot.getRuleId(), slot.getStartTime(), slot.getEndTime()));
+        }
+    }
+
+    private static boolean matches(Counselor c, ServiceType serviceType, String tag, Double minRating) {
+        if (c == null) return false; // 비활성 상담사 / 인덱스에 없는 상담사
+        if (serviceType != null && !c.serviceTypes().contains(serviceType)) return false;
+        if (tag != null && !c.tags().contains(tag)) return false;
+        return minRating == null || c.rating() >= minRating;
+    }
+
+    private static Counselor toCounselor(CounselorSearchRow row) {
+        Set<String> tags = row.getTags() == null ? Set.of()
+                : Set.copyOf(Profile.normalizeTags(Arrays.asList(row.getTags().split(","))));
+        return new Counselor(row.getCounselorId(), row.getNickname(),
+                row.getAverageRating() != null ? row.getAverageRating() : 0.0,
+                tags, Profile.parseServiceTypes(row.getServiceTypes()));
+    }
+
+    // 테스트/운영 확인용
+    public int slotCount() {
+        return snapshot.byCounselor.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -3,23 +3,24 @@ package service.saju_taro_service.service.counselor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import service.saju_taro_service.domain.reservation.Reservation;
-import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.dto.schedule.CalendarSlotRow;
+import service.saju_taro_service.dto.schedule.DayAvailability;
 import service.saju_taro_service.dto.schedule.CounselorCalendarResponse;
-import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class CounselorCalendarService {
 
     private final ScheduleRepository scheduleRepository;
-    private final ReservationRepository reservationRepository;
+    private final DayAvailabilityService dayAvailabilityService;
 
     // 상담사 월간 달력 조회 (예약여부포함)
     @Transactional(readOnly = true)
@@ -28,35 +29,20 @@ public class CounselorCalendarService {
         LocalDate start = ym.atDay(1);
         LocalDate end = ym.atEndOfMonth();
 
-        // 스케줄 조회
-        List<Schedule> schedules = scheduleRepository
-                .findByCounselorIdAndStartTimeBetweenOrderByStartTime(
-                        counselorId, start.atStartOfDay(), end.atTime(23, 59));
-        // 예약 조회
-        List<Reservation> reservations = reservationRepository
-                .findByCounselorIdOrderByReservationTimeDesc(counselorId)
-                .stream()
-                .filter(r -> r.getReservationTime() != null &&
-                        !r.getReservationTime().isBefore(start.atStartOfDay()) &&
-                        !r.getReservationTime().isAfter(end.atTime(23, 59)))
-                .toList();
-
-        // ✅ 사용자 / 상담사 역할별 표시 로직 분기
-        if ("USER".equals(role)) {
-            // 사용자는 예약된 것만 보이게 (회색)
-            schedules = schedules.stream()
-                    .filter(s -> reservations.stream()
-                            .anyMatch(r -> r.getSchedule() != null && r.getSchedule().getId().equals(s.getId())))
-                    .sorted(Comparator.comparing(Schedule::getStartTime))
-                    .toList();
-        } else if ("COUNSELOR".equals(role)) {
-            // 상담사는 전체 스케줄, 예약여부 포함 표시
-            schedules = schedules.stream()
-                    .sorted(Comparator.comparing(Schedule::getStartTime))
-                    .toList();
+        // ✅ 일별 비트맵(캐시)으로 구성 가능하면 엔티티 조회 없이 응답
+        Map<LocalDate, DayAvailability> days = dayAvailabilityService.getDays(counselorId, start, end);
+        CounselorCalendarResponse response;
+        if (days.values().stream().allMatch(DayAvailability::isExact)) {
+            response = CounselorCalendarResponse.fromDays(counselorId, days, start, role);
+        } else {
+            // 15분 격자에 맞지 않는 스케줄이 있는 달은 스케줄 점유 상태 프로젝션 조회 한 번으로 구성
+            List<CalendarSlotRow> rows = scheduleRepository.findCalendarRows(
+                    counselorId, start.atStartOfDay(), end.plusDays(1).atStartOfDay());
+            response = CounselorCalendarResponse.from(counselorId, rows, start, end, role);
         }
 
-        return CounselorCalendarResponse.from(schedules, reservations, start, end, role);
+        // ✅ 반복 규칙으로 계산된 슬롯 추가 (비트맵과 함께 캐시됨, USER는 예약된 슬롯만 보므로 제외)
+        if (!"USER".equals(role)) response.addRuleSlots(days, LocalDateTime.now());
+        return response;
     }
 }
-
@@ -3,17 +3,19 @@ package service.saju_taro_service.service.counselor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import service.saju_taro_service.domain.payment.PaymentStatus;
 import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.dto.reservation.ReservationResponse;
 import service.saju_taro_service.dto.schedule.CounselorScheduleDashboardResponse;
 import service.saju_taro_service.dto.schedule.ScheduleResponse;
 import service.saju_taro_service.dto.user.CounselorMonthlyDashboardResponse;
+import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
 import service.saju_taro_service.global.util.SecurityUtil;
 import service.saju_taro_service.repository.PaymentRepository;
 import service.saju_taro_service.repository.ReservationRepository;
-import service.saju_taro_service.repository.ReviewRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -27,7 +29,7 @@ public class CounselorDashboardService {
     private final ScheduleRepository scheduleRepository;
     private final ReservationRepository reservationRepository;
     private final PaymentRepository paymentRepository;
-    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
 
     @Transactional(readOnly = true)
     public CounselorScheduleDashboardResponse getDashboard() {
@@ -48,7 +50,7 @@ public class CounselorDashboardService {
 
         // 다가올 예약
         var upcomingReservations = reservationRepository
-                .findByCounselorIdAndReservationTimeAfterAndReservationStatus(
+                .findWithDetailsByCounselorIdAndReservationTimeAfterAndReservationStatus(
                         counselorId, LocalDateTime.now(), ReservationStatus.RESERVED)
                 .stream()
                 .map(ReservationResponse::fromEntity)
@@ -56,7 +58,7 @@ public class CounselorDashboardService {
 
         // 최근 완료 예약 5건
         var recentCompleted = reservationRepository
-                .findTop5ByCounselorIdAndReservationStatusOrderByReservationTimeDesc(
+                .findTop5WithDetailsByCounselorIdAndReservationStatusOrderByReservationTimeDesc(
                         counselorId, ReservationStatus.COMPLETED)
                 .stream()
                 .map(ReservationResponse::fromEntity)
@@ -90,12 +92,9 @@ public class CounselorDashboardService {
                 .map(ScheduleResponse::fromEntity)
                 .toList();
 
-        // 월간 예약
+        // 월간 예약 (DB 범위 조회)
         var reservations = reservationRepository
-                .findByCounselorIdOrderByReservationTimeDesc(counselorId)
-                .stream()
-                .filter(r -> !r.getReservationTime().isBefore(start) && !r.getReservationTime().isAfter(end))
-                .toList();
+                .findWithDetailsByCounselorIdAndReservationTimeBetweenOrderByReservationTimeDesc(counselorId, start, end);
 
         // ✅ 일별 예약 건수
         Map<String, Long> dailyCount = reservations.stream()
@@ -104,18 +103,15 @@ public class CounselorDashboardService {
                         Collectors.counting()
                 ));
 
-        // ✅ 총 매출 합계 (결제 완료 건만)
-        double totalRevenue = paymentRepository.findAll().stream()
-                .filter(p -> p.getPaymentStatus() == PaymentStatus.PAID)
-                .filter(p -> reservations.stream()
-                        .anyMatch(r -> r.getId().equals(p.getReservation().getId())))
-                .mapToDouble(p -> p.getAmount())
-                .sum();
-
-        // ✅ 후기 통계 (평균 + 개수)
-        var reviews = reviewRepository.findByCounselorIdAndIsActiveTrueOrderByCreatedAtDesc(counselorId);
-        double avgRating = reviews.stream().mapToInt(r -> r.getRating()).average().orElse(0.0);
-        int reviewCount = reviews.size();
+        // ✅ 총 매출 합계 (결제 완료 건만, DB 집계)
+        double totalRevenue = paymentRepository
+                .sumPaidAmountByCounselorAndReservationTimeBetween(counselorId, start, end);
+
+        // ✅ 후기 통계 (평균 + 개수, 후기 작성/비활성화 시 갱신되는 상담사 집계값)
+        User counselor = userRepository.findById(counselorId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND, "상담사를 찾을 수 없습니다."));
+        double avgRating = counselor.getAverageRating() != null ? counselor.getAverageRating() : 0.0;
+        int reviewCount = counselor.getReviewCount() != null ? counselor.getReviewCount() : 0;
 
         return CounselorMonthlyDashboardResponse.builder()
                 .year(targetYear)
@@ -0,0 +1,40 @@
+package service.saju_taro_service.service.counselor;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.dto.schedule.FirstAvailableSlotResponse;
+import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CounselorSearchService {
+    private final AvailabilitySearchIndex availabilitySearchIndex;
+
+    private static final int DEFAULT_WINDOW_HOURS = 24;
+    private static final int MAX_LIMIT = 100;
+
+    /**
+     * ✅ 상담사 전체에서 가장 빨리 예약 가능한 슬롯 검색 (상담 종류 / 태그 / 최소 평점 / 시간대)
+     * DB 조회 없이 인메모리 인덱스만 사용
+     */
+    public List<FirstAvailableSlotResponse> findFirstAvailable(ServiceType serviceType, String tag, Double minRating,
+                                                               LocalDateTime from, LocalDateTime to, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime start = from == null || from.isBefore(now) ? now : from;
+        LocalDateTime end = to != null ? to : start.plusHours(DEFAULT_WINDOW_HOURS);
+        if (!start.isBefore(end)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "검색 종료 시각이 시작 시각보다 늦어야 합니다.");
+        }
+        LocalDateTime horizon = availabilitySearchIndex.horizonEnd(now);
+        if (end.isAfter(horizon)) end = horizon;
+        if (!start.isBefore(end)) return List.of(); // 인덱스 범위(horizon) 밖에서 시작하는 검색
+
+        int size = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        return availabilitySearchIndex.findFirstAvailable(serviceType, tag, minRating, start, end, size);
+    }
+}
@@ -0,0 +1,119 @@
+package service.saju_taro_service.service.notification;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * ✅ 대기열 + 묶음 발송 스레드 (PushBatcher / MailBatcher 공용)
+ * 첫 항목부터 window 동안(또는 maxBatch 가 찰 때까지) 모은 뒤 flush 한 번으로 처리
+ * 발송 스레드 수(threads)가 곧 동시 발송 상한, 대기열이 가득 차면 offer 가 false (거절 처리는 호출하는 쪽 정책)
+ */
+@Slf4j
+class BatchDispatcher<T> {
+    private final String name;
+    private final int capacity;
+    private final int maxBatch;
+    private final Duration window;
+    private final Consumer<List<T>> flush;
+    private final BlockingQueue<T> queue;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    // 단계별 통계 (인스턴스별 누적)
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    BatchDispatcher(String name, int capacity, int maxBatch, Duration window, int threads, Consumer<List<T>> flush) {
+        this.name = name;
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.window = window;
+        this.flush = flush;
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(this::dispatchLoop, name + "-" + (i + 1));
+            worker.setDaemon(true);
+            workers.add(worker);
+        }
+    }
+
+    void start() {
+        running = true;
+        workers.forEach(Thread::start);
+    }
+
+    /** 종료 시 남은 항목까지 처리 후 정지 */
+    void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /** @return 정지 중이거나 대기열이 가득 차 추가하지 못했으면 false */
+    boolean offer(T item) {
+        if (running && queue.offer(item)) {
+            accepted.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("workers", workers.size());
+        stats.put("queued", queue.size());
+        stats.put("queueCapacity", capacity);
+        stats.put("accepted", accepted.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("batches", batches.sum());
+        stats.put("errors", errors.sum());
+        return stats;
+    }
+
+    private void dispatchLoop() {
+        List<T> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                T first = queue.poll(200, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // 첫 항목 기준으로 창이 닫히거나 maxBatch 가 찰 때까지 모음
+                long deadline = System.nanoTime() + window.toNanos();
+                while (batch.size() < maxBatch) {
+                    long remaining = deadline - System.nanoTime();
+                    T next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        queue.drainTo(batch, maxBatch - batch.size());
+                        break;
+                    }
+                    batch.add(next);
+                }
+                batches.increment();
+                flush.accept(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                errors.increment();
+                log.error("❌ {} batch dispatch failed (size={})", name, batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
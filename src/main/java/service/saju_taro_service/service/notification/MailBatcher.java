@@ -0,0 +1,132 @@
+package service.saju_taro_service.service.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 알림 메일 묶음 발송
+ * 대기열에 모은 메일을 묶음마다 SMTP 연결 하나로 발송 (JavaMailSender.send(MimeMessage...) → 연결/STARTTLS 1회)
+ * 동시 발송은 concurrency 개 전용 스레드로 제한 (FCM 발송과 별개)
+ * 아웃박스 EMAIL 행은 send 가 끝난 뒤에만 완료 처리하고, 실패한 메일의 행은 mail.defer 뒤로 미뤄 다시 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailBatcher {
+    private final JavaMailSender mailSender;
+    private final NotificationOutboxService outboxService;
+
+    @Value("${notification.mail.batch-size:20}")
+    private int batchSize;
+
+    @Value("${notification.mail.batch-window:200ms}")
+    private Duration batchWindow;
+
+    @Value("${notification.mail.concurrency:2}")
+    private int concurrency;
+
+    @Value("${notification.mail.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private BatchDispatcher<OutgoingMail> dispatcher;
+    private final LongAdder failed = new LongAdder();
+
+    /** 발송 대기 메일 (MimeMessage 는 발송 스레드에서 생성) */
+    private record OutgoingMail(Long outboxId, String to, String subject, String html) {
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher = new BatchDispatcher<>("MailBatcher", queueCapacity, batchSize, batchWindow, concurrency, this::flush);
+        dispatcher.start();
+    }
+
+    /** 종료 시 남은 메일까지 발송 후 정지 */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    /**
+     * 📩 HTML 메일 발송 대기열에 추가 (호출 스레드는 SMTP 연결을 기다리지 않음)
+     * @param outboxId 발송이 끝나면 완료 처리할 EMAIL 행
+     * @return 대기열이 가득 차 추가하지 못했으면 false
+     */
+    public boolean enqueue(Long outboxId, String to, String subject, String html) {
+        return dispatcher.offer(new OutgoingMail(outboxId, to, subject, html));
+    }
+
+    /** 📊 메일 단계 통계 (대기열 / 거절 / 묶음 수 / 발송 실패 수) */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = dispatcher.stats();
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    private void flush(List<OutgoingMail> batch) {
+        // 발송 실패 결과(getFailedMessages)가 MimeMessage 기준이라 메시지 → 행 ID 로 되짚음
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        Map<MimeMessage, Long> outboxIds = new IdentityHashMap<>(batch.size());
+        List<Long> invalid = new ArrayList<>();
+        for (OutgoingMail mail : batch) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+                helper.setTo(mail.to());
+                helper.setSubject(mail.subject());
+                helper.setText(mail.html(), true);
+                messages.add(message);
+                outboxIds.put(message, mail.outboxId());
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등 다시 보내도 실패할 메일
+                invalid.add(mail.outboxId());
+                log.error("❌ Email build failed for {}: {}", mail.to(), e.getMessage());
+            }
+        }
+        failed.add(invalid.size());
+        outboxService.markFailed(invalid);
+        if (messages.isEmpty()) return;
+
+        List<Long> deferred = new ArrayList<>();
+        try {
+            mailSender.send(messages.toArray(MimeMessage[]::new));
+            log.info("📧 Email batch sent: {} messages", messages.size());
+        } catch (MailSendException e) {
+            // 연결 실패면 전부, 일부 수신자 오류면 해당 메일만 실패
+            log.error("❌ Email batch partially failed: {}/{} messages", e.getFailedMessages().size(), messages.size());
+            e.getFailedMessages().forEach((message, cause) -> {
+                Long id = outboxIds.get(message);
+                if (id != null) deferred.add(id);
+                log.error("❌ Email send failed: {}", cause.getMessage());
+            });
+        } catch (MailException e) {
+            deferred.addAll(outboxIds.values());
+            log.error("❌ Email batch failed ({} messages): {}", messages.size(), e.getMessage());
+        }
+
+        // 여기서 실패하면 행이 남아 임대 만료 후 다시 발송됨 (최소 1회 발송)
+        failed.add(deferred.size());
+        outboxService.deferEmail(deferred);
+        outboxService.markDone(messages.stream()
+                .map(outboxIds::get)
+                .filter(id -> !deferred.contains(id))
+                .toList());
+    }
+}
@@ -0,0 +1,103 @@
+package service.saju_taro_service.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import service.saju_taro_service.domain.notification.NotificationOutbox;
+import service.saju_taro_service.global.event.NotificationEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ 알림 아웃박스 릴레이 (모든 노드에서 실행)
+ * - 주기적으로 발송 가능한 행(채널별 INBOX / PUSH / EMAIL)을 배치로 가져와 알림 실행기에 넘김 → 처리 후 DONE
+ * - 처리 중 노드가 죽으면 임대 시간이 지난 뒤 다른 노드가 다시 가져감 (최소 1회 발송)
+ * - 실행기 대기열이 가득 차 넘기지 못한 행은 즉시 반납
+ * - INBOX 행은 저장 후 DONE (실패하면 그대로 두어 다시 저장)
+ * - PUSH 행은 PushBatcher 가 sendEach 결과를 보고, EMAIL 행은 MailBatcher 가 발송 후 완료 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxRelay {
+    private final NotificationOutboxService outboxService;
+    private final NotificationEventListener notificationEventListener;
+    private final Executor notificationExecutor;
+
+    // 릴레이 통계 (행 단위, 인스턴스별 누적)
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Value("${notification.outbox.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.outbox.retention-days:7}")
+    private int retentionDays;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval:500}",
+            initialDelayString = "${notification.outbox.poll-interval:500}")
+    public void relay() {
+        List<NotificationOutbox> claimed = outboxService.claim(batchSize);
+        if (claimed.isEmpty()) return;
+
+        List<Long> rejected = new ArrayList<>();
+        for (NotificationOutbox row : claimed) {
+            try {
+                notificationExecutor.execute(() -> dispatch(row));
+            } catch (RejectedExecutionException e) {
+                rejected.add(row.getId());
+            }
+        }
+        if (!rejected.isEmpty()) {
+            this.rejected.add(rejected.size());
+            outboxService.release(rejected);
+            log.warn("⚠️ Notification executor full: released {} of {} outbox rows", rejected.size(), claimed.size());
+        }
+    }
+
+    void dispatch(NotificationOutbox row) {
+        try {
+            // 발송 대기열에 넘긴 행은 발송 결과가 나온 뒤 그쪽에서 완료 처리
+            boolean completesLater = switch (row.getChannel()) {
+                case PUSH -> notificationEventListener.sendPush(row.getId(), row.toEvent(), row.getPushAttempt());
+                case EMAIL -> notificationEventListener.sendEmail(row.getId(), row.toEvent());
+                case INBOX -> {
+                    notificationEventListener.saveInbox(row.toEvent());
+                    yield false;
+                }
+            };
+            if (!completesLater) outboxService.markDone(List.of(row.getId()));
+            dispatched.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            // 완료 처리하지 않음 → 임대 시간이 지나면 다시 발송
+            log.error("❌ Notification outbox dispatch failed: id={}, attempt={}", row.getId(), row.getAttempts(), e);
+        }
+    }
+
+    /** 📊 릴레이 통계 (처리 / 실패 / 실행기 거절로 반납한 행 수 - 모든 채널) */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("dispatched", dispatched.sum());
+        stats.put("failed", failed.sum());
+        stats.put("rejected", rejected.sum());
+        return stats;
+    }
+
+    /** ✅ 매일 04:30 보관 기간이 지난 완료 행 정리 */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void purgeDone() {
+        int deleted = outboxService.purgeDone(LocalDateTime.now().minusDays(retentionDays));
+        log.info("🧹 Notification outbox purged: {} rows", deleted);
+    }
+}
@@ -0,0 +1,93 @@
+package service.saju_taro_service.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.notification.NotificationOutbox;
+import service.saju_taro_service.domain.notification.NotificationOutboxStatus;
+import service.saju_taro_service.repository.NotificationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ✅ 알림 아웃박스 상태 관리 (가져가기 / 완료 / 실패 / 반납 / 정리) - 각각 짧은 트랜잭션
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+    private final NotificationOutboxRepository outboxRepository;
+
+    // 발송 중 임대 시간 (이 시간 안에 완료 처리되지 않으면 다른 노드/다음 폴링이 다시 가져감)
+    @Value("${notification.outbox.lease:60s}")
+    private Duration lease;
+
+    @Value("${notification.outbox.max-attempts:5}")
+    private int maxAttempts;
+
+    // 메일 대기열이 가득 찼거나 발송에 실패했을 때 이메일 발송을 미루는 시간
+    @Value("${notification.mail.defer:30s}")
+    private Duration mailDefer;
+
+    /**
+     * 발송 가능한 행을 최대 size 개 가져감 (잠금 → 임대 시각/시도 횟수 갱신 → 커밋)
+     * 최대 시도 횟수를 넘긴 행은 FAILED 로 전환
+     */
+    @Transactional
+    public List<NotificationOutbox> claim(int size) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> rows = outboxRepository.findClaimable(
+                NotificationOutboxStatus.PENDING, now, PageRequest.of(0, size));
+        List<NotificationOutbox> claimed = new ArrayList<>(rows.size());
+        for (NotificationOutbox row : rows) {
+            if (row.getAttempts() >= maxAttempts) {
+                row.setStatus(NotificationOutboxStatus.FAILED);
+                log.error("❌ Notification outbox gave up: id={}, attempts={}", row.getId(), row.getAttempts());
+                continue;
+            }
+            row.setAttempts(row.getAttempts() + 1);
+            row.setAvailableAt(now.plus(lease));
+            claimed.add(row);
+        }
+        return claimed;
+    }
+
+    @Transactional
+    public void markDone(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        outboxRepository.updateStatusIn(ids, NotificationOutboxStatus.DONE);
+    }
+
+    /** 더 시도하지 않을 행 (무효 토큰 / 영구 오류 / 재시도 초과) */
+    @Transactional
+    public void markFailed(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        outboxRepository.updateStatusIn(ids, NotificationOutboxStatus.FAILED);
+    }
+
+    @Transactional
+    public void release(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        outboxRepository.release(ids, LocalDateTime.now());
+    }
+
+    /** EMAIL 행을 mail.defer 뒤로 미룸 (메일 대기열이 가득 참 / SMTP 발송 실패) */
+    @Transactional
+    public void deferEmail(Collection<Long> ids) {
+        if (ids.isEmpty()) return;
+        outboxRepository.deferIn(ids, LocalDateTime.now().plus(mailDefer));
+        log.warn("⏳ Email deferred {}s: {} outbox rows", mailDefer.toSeconds(), ids.size());
+    }
+
+    @Transactional
+    public int purgeDone(LocalDateTime before) {
+        return outboxRepository.deleteByStatusCreatedBefore(NotificationOutboxStatus.DONE, before);
+    }
+}
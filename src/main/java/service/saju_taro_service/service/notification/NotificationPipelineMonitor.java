@@ -0,0 +1,38 @@
+package service.saju_taro_service.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * ✅ 알림 파이프라인 단계별 통계 (아웃박스 릴레이(내부 알림 저장 포함) / FCM / 이메일 - 인스턴스별 누적)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationPipelineMonitor {
+    private final NotificationOutboxRelay outboxRelay;
+    private final PushBatcher pushBatcher;
+    private final MailBatcher mailBatcher;
+    private final Executor notificationExecutor;
+
+    public Map<String, Map<String, Object>> stats() {
+        Map<String, Object> relay = new LinkedHashMap<>();
+        if (notificationExecutor instanceof ThreadPoolTaskExecutor pool) {
+            relay.put("workers", pool.getPoolSize());
+            relay.put("active", pool.getActiveCount());
+            relay.put("queued", pool.getQueueSize());
+            relay.put("queueCapacity", pool.getQueueCapacity());
+        }
+        relay.putAll(outboxRelay.stats());
+
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        result.put("relay", relay);
+        result.put("push", pushBatcher.stats());
+        result.put("email", mailBatcher.stats());
+        return result;
+    }
+}
@@ -0,0 +1,133 @@
+package service.saju_taro_service.service.notification;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import service.saju_taro_service.global.fcm.PushGateway;
+import service.saju_taro_service.global.fcm.PushMessage;
+import service.saju_taro_service.global.fcm.PushResult;
+import service.saju_taro_service.repository.UserRepository;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ✅ FCM 발송 묶음 처리
+ * 짧은 시간(batch-window) 동안 들어온 메시지를 모아 sendEach 한 번(최대 500건)으로 발송하고,
+ * 토큰별 결과로 무효 토큰 삭제 / 재시도 예약(PushRetryScheduler)을 처리함
+ * 아웃박스 PUSH 행은 sendEach 결과가 나온 뒤에만 완료(DONE / FAILED) 처리 → 대기열에 있던 중 죽으면 임대 만료 후 다시 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushBatcher {
+    private final PushGateway pushGateway;
+    private final PushRetryScheduler pushRetryScheduler;
+    private final NotificationOutboxService outboxService;
+    private final UserRepository userRepository;
+
+    @Value("${notification.push.batch-window:50ms}")
+    private Duration batchWindow;
+
+    @Value("${notification.push.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BatchDispatcher<PendingPush> dispatcher;
+    private final LongAdder failed = new LongAdder();
+
+    /** 발송 대기 메시지 (결과 처리에 필요한 아웃박스 행 / 재시도 회차 포함) */
+    private record PendingPush(Long outboxId, PushMessage message, int attempt) {
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher = new BatchDispatcher<>("PushBatcher", queueCapacity, PushGateway.MAX_BATCH_SIZE,
+                batchWindow, 1, this::flush);
+        dispatcher.start();
+    }
+
+    /** 종료 시 남은 메시지까지 발송 후 정지 */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        dispatcher.stop();
+    }
+
+    /**
+     * 📲 발송 대기열에 추가 (호출 스레드는 대기하지 않음)
+     * @param outboxId 발송 결과가 나오면 완료 처리할 PUSH 행
+     * @param attempt  지금까지의 재시도 횟수 (최초 발송 0)
+     * @return 대기열이 가득 차 추가하지 못했으면 false
+     */
+    public boolean enqueue(Long outboxId, PushMessage message, int attempt) {
+        return dispatcher.offer(new PendingPush(outboxId, message, attempt));
+    }
+
+    /** 📊 푸시 단계 통계 (대기열 / 거절 / 묶음 수 / 토큰별 실패 수) */
+    public Map<String, Object> stats() {
+        Map<String, Object> stats = dispatcher.stats();
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    private void flush(List<PendingPush> batch) {
+        List<PushResult> results = pushGateway.sendEach(batch.stream().map(PendingPush::message).toList());
+
+        List<Long> done = new ArrayList<>(batch.size());
+        List<Long> gaveUp = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            PendingPush push = batch.get(i);
+            PushResult result = results.get(i);
+            if (result.success()) {
+                done.add(push.outboxId());
+                continue;
+            }
+            try {
+                if (!handleFailure(push, result)) gaveUp.add(push.outboxId());
+            } catch (Exception e) {
+                // 완료 처리하지 않음 → 임대 시간이 지나면 다시 발송
+                log.error("❌ FCM failure handling error (token={})", push.message().token(), e);
+            }
+        }
+        failed.add(batch.size() - done.size());
+        // 여기서 실패하면 행이 남아 임대 만료 후 다시 발송됨 (최소 1회 발송)
+        outboxService.markDone(done);
+        outboxService.markFailed(gaveUp);
+        log.info("✅ FCM batch sent: {} messages, {} failed", batch.size(), batch.size() - done.size());
+    }
+
+    /** @return 재시도를 예약했으면 true (행은 다음 회차까지 대기), 포기했으면 false */
+    private boolean handleFailure(PendingPush push, PushResult result) {
+        log.warn("⚠️ FCM send failed: code={}/{} (attempt={})",
+                result.errorCode(), result.messagingErrorCode(), push.attempt() + 1);
+
+        // ❌ 1) 유효하지 않은 토큰은 즉시 삭제
+        if (result.isInvalidToken()) {
+            invalidateUserToken(push.message().token());
+            return false;
+        }
+
+        // 🔁 2) 네트워크/서버 오류면 재시도 예약 (최대 횟수 초과 시 포기)
+        if (result.isRetryable() && pushRetryScheduler.reschedule(push.outboxId(), push.attempt() + 1)) {
+            return true;
+        }
+        log.error("❌ FCM send failed permanently: code={}, message={}", result.errorCode(), result.detail());
+        return false;
+    }
+
+    /**
+     * 🚫 토큰 무효화 (DB에서 제거)
+     */
+    private void invalidateUserToken(String token) {
+        userRepository.findByFcmToken(token).ifPresent(user -> {
+            user.setFcmToken(null);
+            userRepository.save(user);
+            log.info("🧹 Removed invalid FCM token for userId={}", user.getId());
+        });
+    }
+}
@@ -0,0 +1,55 @@
+package service.saju_taro_service.service.notification;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.repository.NotificationOutboxRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ✅ 푸시 재시도 예약 (발송 스레드에서 대기하지 않음)
+ * 아웃박스 PUSH 행을 다음 회차로 지수 백오프(+지터) 시각까지 미룸 → 그 이후 릴레이가 다시 발송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PushRetryScheduler {
+    private final NotificationOutboxRepository outboxRepository;
+
+    @Value("${notification.push.max-retries:3}")
+    private int maxRetries;
+
+    @Value("${notification.push.backoff-base:1s}")
+    private Duration backoffBase;
+
+    @Value("${notification.push.backoff-max:5m}")
+    private Duration backoffMax;
+
+    /**
+     * @param outboxId 발송 중인 PUSH 행
+     * @param attempt  이번이 몇 번째 재시도인지 (1부터)
+     * @return 최대 재시도 횟수를 넘겨 예약하지 않았으면 false
+     */
+    @Transactional
+    public boolean reschedule(Long outboxId, int attempt) {
+        if (attempt > maxRetries) return false;
+        Duration delay = backoff(attempt);
+        outboxRepository.reschedulePush(outboxId, attempt, LocalDateTime.now().plus(delay));
+        log.info("🔁 FCM retry {} scheduled in {}ms (outboxId={})", attempt, delay.toMillis(), outboxId);
+        return true;
+    }
+
+    /** base * 2^(attempt-1) 을 상한까지 키우고, 절반은 고정 / 절반은 무작위 (동시 재시도 분산) */
+    Duration backoff(int attempt) {
+        long cap = backoffMax.toMillis();
+        long exp = backoffBase.toMillis() << Math.min(attempt - 1, 30);
+        long delay = exp <= 0 ? cap : Math.min(cap, exp);
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
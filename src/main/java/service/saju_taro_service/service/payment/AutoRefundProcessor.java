@@ -0,0 +1,78 @@
+package service.saju_taro_service.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.payment.Payment;
+import service.saju_taro_service.domain.payment.PaymentStatus;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.repository.PaymentRepository;
+import service.saju_taro_service.repository.ReservationRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ✅ 자동 환불 청크 처리 (청크마다 별도 트랜잭션)
+ * - 결제 ID 키셋으로 대상 조회 (예약/스케줄 fetch join, 행 잠금)
+ * - 결제 REFUND / 예약 CANCELLED / 스케줄 복구를 각각 한 번의 UPDATE 로 반영
+ * - 통계는 (결제일, 상담사)별 upsert, 캐시 제거/인덱스 갱신은 상담사별 기간 한 번
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AutoRefundProcessor {
+    private final PaymentRepository paymentRepository;
+    private final ReservationRepository reservationRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final DailyStatsService dailyStatsService;
+    private final DayAvailabilityService dayAvailabilityService;
+
+    public record ChunkResult(int scanned, int refunded, Long lastPaymentId) {
+    }
+
+    /**
+     * @param afterId 직전 청크의 마지막 결제 ID (처음은 0)
+     */
+    @Transactional
+    public ChunkResult refundChunk(LocalDateTime cutoffTime, Long afterId, int size) {
+        List<Payment> payments = paymentRepository.findRefundableAfter(PaymentStatus.PAID, ReservationStatus.COMPLETED,
+                cutoffTime, afterId, PageRequest.of(0, size));
+        if (payments.isEmpty()) return new ChunkResult(0, 0, afterId);
+
+        List<Long> paymentIds = new ArrayList<>(payments.size());
+        List<Long> reservationIds = new ArrayList<>(payments.size());
+        List<Schedule> schedules = new ArrayList<>();
+        for (Payment payment : payments) {
+            Reservation reservation = payment.getReservation();
+            paymentIds.add(payment.getId());
+            reservationIds.add(reservation.getId());
+            if (reservation.getSchedule() != null) schedules.add(reservation.getSchedule());
+            log.info("[AUTO REFUND] 예약 ID: {} / 결제 ID: {} / 상태변경: PAID -> REFUND", reservation.getId(),
+                    payment.getId());
+        }
+        // 통계는 (결제일, 상담사)별로 합산해 한 번씩 반영
+        dailyStatsService.revertPayments(payments);
+
+        // 잠금 상태에서 조회한 행이므로 전부 변경됨
+        int refunded = paymentRepository.updateStatusIn(paymentIds, PaymentStatus.PAID, PaymentStatus.REFUND);
+        reservationRepository.updateStatusIn(reservationIds, ReservationStatus.CANCELLED);
+        // ✅ 스케줄 복구 (다시 예약 가능 상태로)
+        if (!schedules.isEmpty()) {
+            // 벌크 UPDATE 가 영속성 컨텍스트를 비우므로(clearAutomatically) 커밋 후 인덱스 갱신은 DB 값을 다시 읽음
+            // 스케줄 엔티티는 준영속 상태지만 상담사 ID / 시각만 쓰므로 문제없음
+            scheduleRepository.releaseAll(schedules.stream().map(Schedule::getId).toList());
+            dayAvailabilityService.evictAll(schedules);
+        }
+
+        return new ChunkResult(payments.size(), refunded, paymentIds.get(paymentIds.size() - 1));
+    }
+}
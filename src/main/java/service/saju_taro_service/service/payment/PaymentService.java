@@ -21,6 +21,10 @@ import service.saju_taro_service.domain.schedule.Schedule;
 import service.saju_taro_service.repository.PaymentRepository;
 import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.service.reservation.ReservationService;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+import service.saju_taro_service.service.stats.DailyStatsService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -36,6 +40,9 @@ public class PaymentService {
     private final ScheduleRepository scheduleRepository;
     private final EventPublisher eventPublisher;
     private final TossPaymentsClient tossPaymentsClient;
+    private final DailyStatsService dailyStatsService;
+    private final SlotHoldService slotHoldService;
+    private final DayAvailabilityService dayAvailabilityService;
 
     /** ✅ 결제 요청 생성 (예약 직후) */
     @Transactional
@@ -61,14 +68,19 @@ public class PaymentService {
         Payment payment = paymentRepository.findByTransactionId(txId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "결제 정보를 찾을 수 없습니다."));
 
+        boolean alreadyPaid = payment.getPaymentStatus() == PaymentStatus.PAID;
+        Reservation reservation = payment.getReservation();
+        if (!alreadyPaid) lockReservationForPayment(reservation);
+
         payment.setPaymentStatus(PaymentStatus.PAID);
         payment.setPaidAt(LocalDateTime.now());
         paymentRepository.save(payment);
+        if (!alreadyPaid) dailyStatsService.recordPayment(payment);
 
-        // 🔹 Reservation 상태 변경
-        Reservation reservation = payment.getReservation();
+        // 🔹 Reservation 상태 변경 (결제 완료 → 선점 해제, 확정 예약으로 전환)
         reservation.setReservationStatus(ReservationStatus.CONFIRMED);
         reservationRepository.save(reservation);
+        releaseHold(reservation);
 
         // 🔹 알림 발행 (사용자 + 상담사)
         triggerPaymentNotification(reservation, payment);
@@ -77,9 +89,10 @@ public class PaymentService {
     /** ✅ 환불 처리 (기존 방식) */
     @Transactional
     public void refundPayment(String txId) {
-        Payment payment = paymentRepository.findByTransactionId(txId)
+        Payment payment = paymentRepository.findByTransactionIdForUpdate(txId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "결제 정보를 찾을 수 없습니다."));
 
+        if (payment.getPaymentStatus() == PaymentStatus.PAID) dailyStatsService.revertPayment(payment);
         payment.setPaymentStatus(PaymentStatus.REFUND);
         paymentRepository.save(payment);
 
@@ -90,6 +103,7 @@ public class PaymentService {
         if (reservation.getSchedule() != null) {
             Schedule schedule = reservation.getSchedule();
             schedule.setAvailable(true);
+            dayAvailabilityService.evict(schedule);
         }
         reservationRepository.save(reservation);
         triggerRefundNotification(reservation, payment);
@@ -106,13 +120,17 @@ public class PaymentService {
      */
     @Transactional
     public void confirmTossPayment(String paymentKey, String orderId, int amount) {
-        // 1. Toss Payments API 호출하여 결제 승인
-        Map<String, Object> result = tossPaymentsClient.confirmPayment(paymentKey, orderId, amount);
-
-        // 2. DB에서 결제 정보 조회
+        // 1. DB에서 결제 정보 조회
         Payment payment = paymentRepository.findByTransactionId(orderId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "결제 정보를 찾을 수 없습니다."));
 
+        // 2. 결제 대기 만료와 겹치지 않도록 예약 행 잠금 후 Toss 승인 호출
+        boolean alreadyPaid = payment.getPaymentStatus() == PaymentStatus.PAID;
+        Reservation reservation = payment.getReservation();
+        if (!alreadyPaid) lockReservationForPayment(reservation);
+
+        Map<String, Object> result = tossPaymentsClient.confirmPayment(paymentKey, orderId, amount);
+
         // 3. 결제 상태 업데이트
         payment.setPaymentStatus(PaymentStatus.PAID);
         payment.setPaidAt(LocalDateTime.now());
@@ -125,11 +143,12 @@ public class PaymentService {
         }
 
         paymentRepository.save(payment);
+        if (!alreadyPaid) dailyStatsService.recordPayment(payment);
 
-        // 4. 예약 상태 변경
-        Reservation reservation = payment.getReservation();
+        // 4. 예약 상태 변경 (결제 완료 → 선점 해제, 확정 예약으로 전환)
         reservation.setReservationStatus(ReservationStatus.CONFIRMED);
         reservationRepository.save(reservation);
+        releaseHold(reservation);
 
         // 5. 알림 발행
         triggerPaymentNotification(reservation, payment);
@@ -145,7 +164,8 @@ public class PaymentService {
      */
     @Transactional
     public void refundTossPayment(String txId, String reason) {
-        Payment payment = paymentRepository.findByTransactionId(txId)
+        // 행 잠금 후 상태 확인 → 자동 환불이 먼저 처리했으면 REFUND 로 보여 400
+        Payment payment = paymentRepository.findByTransactionIdForUpdate(txId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "결제 정보를 찾을 수 없습니다."));
 
         if (payment.getPaymentStatus() != PaymentStatus.PAID) {
@@ -165,6 +185,7 @@ public class PaymentService {
         }
 
         // DB 상태 업데이트
+        dailyStatsService.revertPayment(payment);
         payment.setPaymentStatus(PaymentStatus.REFUND);
         paymentRepository.save(payment);
 
@@ -174,7 +195,7 @@ public class PaymentService {
         if(reservation.getSchedule() != null) {
             service.saju_taro_service.domain.schedule.Schedule schedule = reservation.getSchedule();
             schedule.setAvailable(true);
-            
+            dayAvailabilityService.evict(schedule);
         }
         reservationRepository.save(reservation);
         // 환불 알림 발행
@@ -184,6 +205,24 @@ public class PaymentService {
 
     // ==================== 공통 메서드 ====================
 
+    /**
+     * ✅ 결제 승인 전 예약을 확정 상태로 전환 (조건부 UPDATE → 커밋까지 행 잠금 유지)
+     * 결제 대기 시간이 지나 이미 취소된 예약이면 409
+     */
+    private void lockReservationForPayment(Reservation reservation) {
+        int updated = reservationRepository.updateStatusIfIn(reservation.getId(),
+                ReservationService.HOLD_EXPIRABLE_STATUSES, ReservationStatus.CONFIRMED);
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.RESERVATION_HOLD_EXPIRED);
+        }
+    }
+
+    private void releaseHold(Reservation reservation) {
+        if (reservation.getSchedule() != null) {
+            slotHoldService.release(reservation.getSchedule().getId(), reservation.getId());
+        }
+    }
+
     /** ✅ 사용자: 내 결제내역 조회 */
     @Transactional(readOnly = true)
     public List<PaymentResponse> getMyPayments(Long userId) {
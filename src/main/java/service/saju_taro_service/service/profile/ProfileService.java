@@ -1,21 +1,28 @@
 package service.saju_taro_service.service.profile;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import service.saju_taro_service.domain.profile.Profile;
 import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.dto.profile.ProfileRequest;
 import service.saju_taro_service.dto.profile.ProfileResponse;
+import service.saju_taro_service.dto.profile.TagCount;
 import service.saju_taro_service.dto.review.ReviewResponse;
+import service.saju_taro_service.global.cache.CacheNames;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.event.ProfileTagsChangedEvent;
 import service.saju_taro_service.global.exception.CustomException;
 import service.saju_taro_service.global.exception.ErrorCode;
 import service.saju_taro_service.repository.ProfileRepository;
 import service.saju_taro_service.repository.ReviewRepository;
 import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.user.CounselorCacheEvictor;
 
 import java.util.*;
 
@@ -26,6 +33,9 @@ public class ProfileService {
     private final ProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final ProfileTagIndex profileTagIndex;
+    private final EventPublisher eventPublisher;
+    private final CounselorCacheEvictor counselorCacheEvictor;
 
     /** ✅ 프로필 등록/수정 */
     @Transactional
@@ -40,76 +50,66 @@ public class ProfileService {
         profile.setExperience(req.getExperience());
 
         if (req.getTags() != null && !req.getTags().isEmpty()) {
-            profile.setTags(String.join(",", req.getTags()));
+            Set<String> before = new HashSet<>(profile.getTagSet());
+            profile.updateTags(req.getTags());
+            publishTagChanges(before, profile.getTagSet());
         }
 
         profile.setImageUrl(req.getImageUrl());
+        if (req.getServiceTypes() != null) {
+            profile.updateServiceTypes(req.getServiceTypes());
+        }
 
         Profile saved = profileRepository.save(profile);
+        counselorCacheEvictor.evict(userId);
         return ProfileResponse.fromEntity(saved);
     }
 
-    /** ✅ 상담사 상세조회 (후기 포함) */
+    private static final int MAX_REVIEW_PAGE_SIZE = 50;
+    private static final int MAX_TAG_SUGGESTIONS = 50;
+
+    /** ✅ 상담사 상세조회 (후기 포함, 최신순 페이지 단위) - 기본 첫 페이지만 캐시 */
+    @Cacheable(cacheNames = CacheNames.COUNSELOR_PROFILE, key = "#counselorId",
+            condition = "#reviewPage == 0 && #reviewSize == 10")
     @Transactional(readOnly = true)
-    public ProfileResponse getProfile(Long counselorId) {
+    public ProfileResponse getProfile(Long counselorId, int reviewPage, int reviewSize) {
         Profile profile = profileRepository.findByCounselorId(counselorId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "프로필이 존재하지 않습니다."));
 
         Double avg = reviewRepository.getAverageRatingByCounselor(counselorId);
         Long count = reviewRepository.countByCounselorIdAndIsActiveTrue(counselorId);
 
+        // ✅ 전체 후기 대신 요청한 페이지만 조회 (크기 상한 적용)
+        int size = Math.min(Math.max(reviewSize, 1), MAX_REVIEW_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(Math.max(reviewPage, 0), size, Sort.by("createdAt").descending());
         List<ReviewResponse> reviewList = reviewRepository
-                .findByCounselorIdAndIsActiveTrueOrderByCreatedAtDesc(counselorId)
-                .stream()
-                .map(r -> {
-                    User u = userRepository.findById(r.getUser().getId()).orElse(null);
-                    return ReviewResponse.fromEntity(r, u);
-                })
-                .toList();
+                .findResponsesByCounselorId(counselorId, pageable)
+                .getContent();
 
         return ProfileResponse.fromEntity(profile, avg, count.intValue(), reviewList);
     }
 
-    /** ✅ 상담사 목록 조회 (태그 + 정렬 + 페이징) */
+    /** ✅ 상담사 목록 조회 (태그 + 정렬 + 페이징) - match: any(하나라도) / all(모두) */
     @Transactional(readOnly = true)
-    public Page<ProfileResponse> getCounselorList(String tag, String sort, int page, int size) {
-        // 1) 데이터 로드
-        List<Profile> profiles = (tag != null && !tag.isBlank())
-                ? profileRepository.searchByTag(tag)
-                : profileRepository.findAll();
-
-        // 2) 정렬 기준
-        Comparator<Profile> comparator;
-        if (sort == null) sort = "rating";
-
-        if ("reviews".equalsIgnoreCase(sort)) {
-            comparator = Comparator.comparingInt((service.saju_taro_service.domain.profile.Profile p) -> {
-                User c = p.getCounselor();
-                return (c != null && c.getReviewCount() != null) ? c.getReviewCount() : 0;
-            }).reversed();
-        } else if ("latest".equalsIgnoreCase(sort)) {
-            comparator = Comparator.comparing(Profile::getCreatedAt).reversed();
-        } else { // rating 기본
-            comparator = Comparator.comparingDouble((service.saju_taro_service.domain.profile.Profile p) -> {
-                User c = p.getCounselor();
-                return (c != null && c.getAverageRating() != null) ? c.getAverageRating() : 0.0;
-            }).reversed();
-        }
+    public Page<ProfileResponse> getCounselorList(List<String> tags, String match, String sort, int page, int size) {
+        // 1) 정렬 기준 (동점일 때 페이지 경계가 흔들리지 않도록 id 보조 정렬)
+        Sort sortOption = switch (sort == null ? "rating" : sort.toLowerCase()) {
+            case "reviews" -> Sort.by(Sort.Direction.DESC, "counselor.reviewCount");
+            case "latest" -> Sort.by(Sort.Direction.DESC, "createdAt");
+            default -> Sort.by(Sort.Direction.DESC, "counselor.averageRating");
+        };
+        PageRequest pageable = PageRequest.of(page, size, sortOption.and(Sort.by(Sort.Direction.DESC, "id")));
+
+        // 2) 정렬/페이징은 DB에서 처리, 상담사는 JOIN FETCH 로 함께 조회
+        Page<Profile> profiles = findDirectory(tags, match, pageable);
 
         // ✅ DTO 변환
-        List<ProfileResponse> result = profiles.stream()
-                .sorted(comparator)
-                .skip((long) page * size)
-                .limit(size)
-                .map(profile -> {
-                    User c = profile.getCounselor();
-                    Double avg = (c != null && c.getAverageRating() != null) ? c.getAverageRating() : 0.0;
-                    Integer count = (c != null && c.getReviewCount() != null) ? c.getReviewCount() : 0;
-                    return ProfileResponse.fromEntity(profile, avg, count, null);
-                })
-                .toList();
-
-        return new PageImpl<>(result, PageRequest.of(page, size), profiles.size());
+        return profiles.map(profile -> {
+            User c = profile.getCounselor();
+            Double avg = c.getAverageRating() != null ? c.getAverageRating() : 0.0;
+            Integer count = c.getReviewCount() != null ? c.getReviewCount() : 0;
+            return ProfileResponse.fromEntity(profile, avg, count, null);
+        });
     }
 
     /** ✅ 프로필 이미지만 업데이트 */
@@ -120,16 +120,46 @@ public class ProfileService {
 
         profile.setImageUrl(imageUrl);
         profileRepository.save(profile);
+        counselorCacheEvictor.evict(userId);
 
         return imageUrl;
     }
 
-    /** ✅ 태그 전용 검색 */
+    /** ✅ 태그 전용 검색 - match: any(하나라도) / all(모두) */
     @Transactional(readOnly = true)
-    public List<ProfileResponse> searchByTag(String tag) {
-        List<Profile> list = profileRepository.searchByTag(tag);
-        return list.stream()
+    public List<ProfileResponse> searchByTag(List<String> tags, String match) {
+        if (Profile.normalizeTags(tags).isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "검색할 태그를 입력해주세요.");
+        }
+        Pageable all = Pageable.unpaged(Sort.by(Sort.Direction.DESC, "counselor.averageRating"));
+        return findDirectory(tags, match, all).stream()
                 .map(p -> ProfileResponse.fromEntity(p, null, null, null))
                 .toList();
     }
+
+    /** ✅ 태그 자동완성 (접두어 + 태그별 상담사 수) */
+    public List<TagCount> suggestTags(String prefix, int limit) {
+        return profileTagIndex.search(prefix, Math.min(Math.max(limit, 1), MAX_TAG_SUGGESTIONS));
+    }
+
+    // 변경분만 이벤트로 발행 → 커밋 후 태그 인덱스에 반영
+    private void publishTagChanges(Set<String> before, Set<String> after) {
+        Set<String> removed = new HashSet<>(before);
+        removed.removeAll(after);
+        Set<String> added = new HashSet<>(after);
+        added.removeAll(before);
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            eventPublisher.publishProfileTagsChanged(new ProfileTagsChangedEvent(removed, added));
+        }
+    }
+
+    private Page<Profile> findDirectory(List<String> tags, String match, Pageable pageable) {
+        List<String> normalized = Profile.normalizeTags(tags);
+        if (normalized.isEmpty()) {
+            return profileRepository.findDirectory(pageable);
+        }
+        return "all".equalsIgnoreCase(match)
+                ? profileRepository.findDirectoryByAllTags(normalized, normalized.size(), pageable)
+                : profileRepository.findDirectoryByAnyTag(normalized, pageable);
+    }
 }
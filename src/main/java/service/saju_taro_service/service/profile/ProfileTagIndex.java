@@ -0,0 +1,91 @@
+package service.saju_taro_service.service.profile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import service.saju_taro_service.dto.profile.TagCount;
+import service.saju_taro_service.global.event.ProfileTagsChangedEvent;
+import service.saju_taro_service.repository.ProfileRepository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 태그 자동완성 / 태그별 상담사 수 인메모리 인덱스
+ * - 시작 시 profile_tags 집계로 적재, 이후 프로필 저장이 커밋될 때마다 바뀐 태그만 DB 에서 다시 집계
+ *   (증분 가감 대신 재집계 → 같은 변경이 적재 결과와 겹쳐 반영돼도 값이 어긋나지 않음)
+ * - 재집계와 적재 결과 교체는 한 번에 하나씩 실행, 적재 중 바뀐 태그는 교체 후 새 맵에서 다시 집계
+ * - 정렬된 동시성 맵이라 접두어 검색은 범위 조회(O(log n + k))로 처리되고, 갱신 중에도 락 없이 조회 가능
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileTagIndex {
+
+    private final ProfileRepository profileRepository;
+
+    private volatile ConcurrentSkipListMap<String, Long> counts = new ConcurrentSkipListMap<>();
+    // 적재 중 바뀐 태그 (null 이면 적재 중 아님) - lock 으로 보호
+    private Set<String> pendingTags;
+    private final Object lock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (lock) {
+            pendingTags = new HashSet<>();
+        }
+        ConcurrentSkipListMap<String, Long> fresh = new ConcurrentSkipListMap<>();
+        for (TagCount tc : profileRepository.countByTag()) {
+            fresh.put(tc.getTag(), tc.getCount());
+        }
+        synchronized (lock) {
+            counts = fresh;
+            recount(pendingTags);
+            pendingTags = null;
+        }
+        log.info("🏷️ 태그 인덱스 적재 완료: {}개", fresh.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagsChanged(ProfileTagsChangedEvent event) {
+        Set<String> tags = new HashSet<>(event.getRemoved());
+        tags.addAll(event.getAdded());
+        synchronized (lock) {
+            if (pendingTags != null) pendingTags.addAll(tags);
+            recount(tags);
+        }
+    }
+
+    // 지정 태그의 상담사 수를 DB 기준으로 덮어씀 (0 이 된 태그는 제거)
+    private void recount(Set<String> tags) {
+        if (tags.isEmpty()) return;
+        Map<String, Long> found = profileRepository.countByTagIn(tags).stream()
+                .collect(Collectors.toMap(TagCount::getTag, TagCount::getCount));
+        ConcurrentSkipListMap<String, Long> current = counts;
+        for (String tag : tags) {
+            Long count = found.get(tag);
+            if (count == null || count == 0) current.remove(tag);
+            else current.put(tag, count);
+        }
+    }
+
+    /** 접두어로 시작하는 태그를 상담사 수 내림차순으로 최대 limit 개 반환 (접두어가 비면 전체) */
+    public List<TagCount> search(String prefix, int limit) {
+        String p = prefix == null ? "" : prefix.trim();
+        ConcurrentNavigableMap<String, Long> range = counts.subMap(p, true, p + Character.MAX_VALUE, false);
+        return range.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(e -> new TagCount(e.getKey(), e.getValue()))
+                .toList();
+    }
+}
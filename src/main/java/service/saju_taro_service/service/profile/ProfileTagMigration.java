@@ -0,0 +1,43 @@
+package service.saju_taro_service.service.profile;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.repository.ProfileRepository;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ✅ 프로필 태그 1회성 이관
+ * 기존 콤마 구분 컬럼(profiles.tags)에만 태그가 있는 프로필을 profile_tags 테이블로 옮긴다.
+ * 이관된 프로필은 다음 실행부터 대상에서 빠지므로 여러 번 실행돼도 안전하다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProfileTagMigration {
+
+    private final ProfileRepository profileRepository;
+
+    // 태그 인덱스(ProfileTagIndex) 적재보다 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int migrate() {
+        List<Profile> targets = profileRepository.findWithoutTagRows();
+        for (Profile profile : targets) {
+            profile.updateTags(Arrays.asList(profile.getTags().split(",")));
+        }
+        if (!targets.isEmpty()) {
+            log.info("🏷️ 프로필 태그 이관 완료: {}건", targets.size());
+        }
+        return targets.size();
+    }
+}
@@ -0,0 +1,55 @@
+package service.saju_taro_service.service.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import service.saju_taro_service.domain.payment.PaymentStatus;
+import service.saju_taro_service.repository.ReservationRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 결제 대기 만료 로직
+public class ReservationHoldScheduler {
+    private static final int BATCH_SIZE = 200;
+    private static final LocalDateTime SWEEP_ALL = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final ReservationRepository reservationRepository;
+    private final ReservationService reservationService;
+    private final SlotHoldService slotHoldService;
+
+    // 선점 도입(배포) 시각 - 이보다 먼저 생성된 미결제 예약은 건드리지 않음 (ISO-8601, 비우면 전체 대상)
+    @Value("${reservation.hold-sweep-since:}")
+    private String sweepSince;
+
+    /**
+     * ✅ 1분마다 선점 TTL 이 지난 미결제 예약 취소 + 스케줄 복구
+     * 건별 트랜잭션으로 처리해 한 건 실패가 나머지에 영향을 주지 않도록 함
+     */
+    @Scheduled(fixedDelayString = "${reservation.hold-sweep-interval:60000}")
+    public void expireUnpaidReservations() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> candidates = reservationRepository.findUnpaidIdsCreatedBetween(
+                ReservationService.HOLD_EXPIRABLE_STATUSES, PaymentStatus.PAID,
+                sweepSince.isBlank() ? SWEEP_ALL : LocalDateTime.parse(sweepSince),
+                now.minus(slotHoldService.getHoldTtl()),
+                PageRequest.of(0, BATCH_SIZE));
+        if (candidates.isEmpty()) return;
+
+        int expired = 0;
+        for (Long reservationId : candidates) {
+            try {
+                if (reservationService.expireUnpaidReservation(reservationId)) expired++;
+            } catch (RuntimeException e) {
+                log.warn("⚠️ [HoldScheduler] 예약 만료 처리 실패 - reservationId={}, {}", reservationId, e.getMessage());
+            }
+        }
+        log.info("✅ [HoldScheduler] 결제 대기 만료 처리 건수 = {} / 대상 {}", expired, candidates.size());
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import service.saju_taro_service.domain.notification.NotificationType;
+import service.saju_taro_service.domain.payment.PaymentStatus;
 import service.saju_taro_service.domain.reservation.Reservation;
 import service.saju_taro_service.domain.reservation.ReservationStatus;
 import service.saju_taro_service.domain.schedule.Schedule;
@@ -15,10 +16,14 @@ import service.saju_taro_service.global.event.EventPublisher;
 import service.saju_taro_service.global.event.NotificationEvent;
 import service.saju_taro_service.global.exception.CustomException;
 import service.saju_taro_service.global.exception.ErrorCode;
+import service.saju_taro_service.repository.PaymentRepository;
 import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
 import service.saju_taro_service.repository.ServiceItemRepository;
 import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+import service.saju_taro_service.service.stats.DailyStatsService;
 // import service.saju_taro_service.service.notification.NotificationService;
 
 import java.time.LocalDate;
@@ -34,6 +39,15 @@ public class ReservationService {
         private final ServiceItemRepository serviceItemRepository;
         private final UserRepository userRepository;
         private final EventPublisher eventPublisher;
+        private final DailyStatsService dailyStatsService;
+        private final PaymentRepository paymentRepository;
+        private final SlotHoldService slotHoldService;
+        private final AvailabilityRuleService availabilityRuleService;
+        private final DayAvailabilityService dayAvailabilityService;
+
+        // 결제 전 단계 (결제 대기 만료 / 결제 승인 대상)
+        public static final List<ReservationStatus> HOLD_EXPIRABLE_STATUSES = List.of(ReservationStatus.RESERVED,
+                        ReservationStatus.CONFIRMED);
 
         /**
          * ✅ 예약 생성
@@ -54,18 +68,28 @@ public class ReservationService {
                 ServiceItem serviceItem = serviceItemRepository.findById(req.getServiceItemId())
                                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "서비스를 찾을 수 없습니다."));
 
-                // 스케줄 존재 여부 확인 (비관적 락으로 동시 예약 방지)
-                Schedule schedule = scheduleRepository.findByIdWithLock(req.getScheduleId())
-                                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "스케줄을 찾을 수 없습니다"));
-
-                // 이미 예약된 스케줄인지 확인
-                if (!schedule.isAvailable()) {
-                        throw new CustomException(ErrorCode.BAD_REQUEST, "이미 예약된 시간대 입니다");
+                // 반복 규칙 슬롯이면 이 시점에 Schedule 행으로 저장 (이미 있으면 기존 행 사용)
+                Long scheduleId = req.getScheduleId();
+                boolean materialized = scheduleId == null;
+                if (materialized) {
+                        if (req.getRuleId() == null)
+                                throw new CustomException(ErrorCode.BAD_REQUEST, "예약할 스케줄을 선택해주세요.");
+                        scheduleId = availabilityRuleService.materialize(counselor.getId(), req.getRuleId(),
+                                        req.getReservationTime());
                 }
 
-                // 스케줄 점유 처리
-                schedule.setAvailable(false);
-                scheduleRepository.save(schedule);
+                // 스케줄 점유 (조건부 UPDATE 한 번으로 처리 → 행 잠금은 예약 저장까지만 유지)
+                // 동시에 들어온 요청 중 한 건만 성공하고, 나머지는 즉시 409 응답
+                // 규칙 슬롯은 방금 저장/조회한 행이므로 점유 실패 = 이미 예약됨
+                // (다른 요청이 새 트랜잭션으로 저장한 행은 이 트랜잭션의 스냅샷 조회(existsById)에 안 보일 수 있음)
+                if (scheduleRepository.claimIfAvailable(scheduleId) == 0) {
+                        if (!materialized && !scheduleRepository.existsById(scheduleId)) {
+                                throw new CustomException(ErrorCode.NOT_FOUND, "스케줄을 찾을 수 없습니다");
+                        }
+                        throw new CustomException(ErrorCode.SCHEDULE_ALREADY_BOOKED, "이미 예약된 시간대 입니다");
+                }
+                Schedule schedule = scheduleRepository.getReferenceById(scheduleId);
+                dayAvailabilityService.evict(counselor.getId(), schedule.getStartTime(), schedule.getEndTime());
 
                 // 예약 생성
                 Reservation reservation = Reservation.builder()
@@ -81,6 +105,13 @@ public class ReservationService {
 
                 Reservation saved = reservationRepository.save(reservation);
 
+                // 결제 대기 선점 (TTL 내 결제하지 않으면 만료 스케줄러가 취소 + 스케줄 복구)
+                // 선점 키가 남아 있으면 예외로 롤백 → 스케줄 점유도 함께 취소됨
+                if (!slotHoldService.hold(scheduleId, saved.getId())) {
+                        throw new CustomException(ErrorCode.SCHEDULE_ALREADY_BOOKED, "다른 사용자가 결제 진행 중인 시간대입니다");
+                }
+                dailyStatsService.recordReservation(reservation);
+
                 // 알림로직 / 비동기 알림 이벤트 발행
                 String timeText = req.getReservationTime().toLocalDate() + " " + req.getReservationTime().toLocalTime();
 
@@ -100,10 +131,9 @@ public class ReservationService {
          **/
         @Transactional(readOnly = true)
         public List<ReservationResponse> getUserReservations(Long userId, String status) {
-                List<Reservation> list = reservationRepository.findByUserIdOrderByReservationTimeDesc(userId);
-
                 if (status == null || status.isBlank()) {
-                        return list.stream()
+                        return reservationRepository.findWithDetailsByUserIdOrderByReservationTimeDesc(userId)
+                                        .stream()
                                         .map(ReservationResponse::fromEntity)
                                         .toList();
                 }
@@ -115,8 +145,9 @@ public class ReservationService {
                         throw new CustomException(ErrorCode.BAD_REQUEST, "잘못된 예약 상태 값입니다.");
                 }
 
-                return list.stream()
-                                .filter(r -> r.getReservationStatus() == parsedStatus)
+                return reservationRepository
+                                .findWithDetailsByUserIdAndReservationStatusOrderByReservationTimeDesc(userId, parsedStatus)
+                                .stream()
                                 .map(ReservationResponse::fromEntity)
                                 .toList();
         }
@@ -126,7 +157,7 @@ public class ReservationService {
          **/
         @Transactional(readOnly = true)
         public List<ReservationResponse> getCounselorReservations(Long counselorId) {
-                return reservationRepository.findByCounselorIdOrderByReservationTimeDesc(counselorId)
+                return reservationRepository.findWithDetailsByCounselorIdOrderByReservationTimeDesc(counselorId)
                                 .stream()
                                 .map(ReservationResponse::fromEntity)
                                 .toList();
@@ -147,14 +178,9 @@ public class ReservationService {
                 LocalDateTime start = date.atStartOfDay();
                 LocalDateTime end = date.atTime(LocalTime.MAX);
 
-                // 상담사 해당 날짜 예약 조회
+                // 상담사 해당 날짜 예약 조회 (DB 범위 조회)
                 List<Reservation> reservations = reservationRepository
-                                .findByCounselorIdOrderByReservationTimeDesc(counselorId)
-                                .stream()
-                                .filter(r -> r.getReservationTime() != null &&
-                                                !r.getReservationTime().isBefore(start) &&
-                                                !r.getReservationTime().isAfter(end))
-                                .toList();
+                                .findWithDetailsByCounselorIdAndReservationTimeBetweenOrderByReservationTimeDesc(counselorId, start, end);
 
                 // 사용자 이름/전화번호 포함하여 반환
                 return reservations.stream()
@@ -181,6 +207,8 @@ public class ReservationService {
                         Schedule schedule = r.getSchedule();
                         schedule.setAvailable(true);
                         scheduleRepository.save(schedule);
+                        slotHoldService.release(schedule.getId(), r.getId());
+                        dayAvailabilityService.evict(schedule);
                 }
 
                 // 예약 상태 변경₩
@@ -223,6 +251,8 @@ public class ReservationService {
                         Schedule schedule = r.getSchedule();
                         schedule.setAvailable(true);
                         scheduleRepository.save(schedule);
+                        slotHoldService.release(schedule.getId(), r.getId());
+                        dayAvailabilityService.evict(schedule);
                 }
 
                 // 완료 시 알림
@@ -238,4 +268,36 @@ public class ReservationService {
                                         "[상담 완료] " + timeText + " 상담이 완료되었습니다."));
                 }
         }
-}
\ No newline at end of file
+
+        /**
+         * ✅ 결제 대기 만료 처리 (ReservationHoldScheduler 에서 건별 호출)
+         * - 예약 행을 잠근 뒤 다시 확인 → 같은 순간 결제 승인된 예약은 건드리지 않음
+         * - 결제 승인(Toss 호출) 중이라 이미 잠긴 행은 기다리지 않고 건너뜀 (다음 주기에 재확인)
+         * - 결제 이력이 없고 선점 TTL 도 끝났으면 예약 취소 + 스케줄 복구
+         * @return 만료 처리 여부
+         */
+        @Transactional
+        public boolean expireUnpaidReservation(Long reservationId) {
+                Reservation r = reservationRepository.findByIdForUpdate(reservationId).orElse(null);
+                if (r == null || !HOLD_EXPIRABLE_STATUSES.contains(r.getReservationStatus()))
+                        return false;
+                if (paymentRepository.existsByReservation_IdAndPaymentStatus(reservationId, PaymentStatus.PAID))
+                        return false;
+
+                Schedule schedule = r.getSchedule();
+                if (schedule != null && slotHoldService.isHeld(schedule.getId(), reservationId))
+                        return false;
+
+                r.setReservationStatus(ReservationStatus.CANCELLED);
+                if (schedule != null) {
+                        schedule.setAvailable(true);
+                        dayAvailabilityService.evict(schedule);
+                }
+
+                String timeText = r.getReservationTime().toLocalDate() + " " + r.getReservationTime().toLocalTime();
+                eventPublisher.publishNotification(new NotificationEvent(
+                                r.getUser().getId(), r.getCounselor().getId(), NotificationType.CANCEL,
+                                "[예약 만료] 결제 시간이 지나 " + timeText + " 상담 예약이 취소되었습니다."));
+                return true;
+        }
+}
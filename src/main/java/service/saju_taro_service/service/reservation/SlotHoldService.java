@@ -0,0 +1,89 @@
+package service.saju_taro_service.service.reservation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * ✅ 결제 대기 중인 스케줄 선점(hold)
+ * - 예약 직후 slot_hold:{scheduleId} = reservationId 를 SET NX PX 로 저장
+ * - 결제 승인 시 삭제(확정 예약으로 전환), 결제하지 않으면 TTL 만료 후 만료 스케줄러가 예약 취소 + 스케줄 복구
+ * - Redis 장애 시에는 예약 생성 시각 기준 만료로 동작하도록 예외를 삼킴 (DB 점유가 최종 기준)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SlotHoldService {
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    @Value("${reservation.hold-ttl:10m}")
+    private Duration holdTtl;
+
+    private String holdKey(Long scheduleId) {
+        return "slot_hold:" + scheduleId;
+    }
+
+    public Duration getHoldTtl() {
+        return holdTtl;
+    }
+
+    /**
+     * 선점 시도 (다른 예약이 이미 선점 중이면 false)
+     * 예약 트랜잭션이 롤백되면 선점도 함께 해제 (남아 있으면 TTL 동안 다른 사용자가 예약 불가)
+     */
+    public boolean hold(Long scheduleId, Long reservationId) {
+        try {
+            Boolean ok = redisTemplate.opsForValue()
+                    .setIfAbsent(holdKey(scheduleId), String.valueOf(reservationId), holdTtl);
+            if (Boolean.FALSE.equals(ok)) return false;
+            releaseOnRollback(scheduleId, reservationId);
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [SlotHold] 선점 저장 실패 - scheduleId={}, {}", scheduleId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 해당 예약이 아직 선점 중인지 (TTL 이 남아 있는지)
+     */
+    public boolean isHeld(Long scheduleId, Long reservationId) {
+        try {
+            Object holder = redisTemplate.opsForValue().get(holdKey(scheduleId));
+            return holder != null && holder.toString().equals(String.valueOf(reservationId));
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [SlotHold] 선점 조회 실패 - scheduleId={}, {}", scheduleId, e.getMessage());
+            return false;
+        }
+    }
+
+    protected void releaseOnRollback(Long scheduleId, Long reservationId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) release(scheduleId, reservationId);
+            }
+        });
+    }
+
+    /**
+     * 선점 해제 (결제 완료 / 취소 시) - 본인 예약의 선점만 삭제
+     */
+    public void release(Long scheduleId, Long reservationId) {
+        if (scheduleId == null) return;
+        try {
+            if (isHeld(scheduleId, reservationId)) {
+                redisTemplate.delete(holdKey(scheduleId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠️ [SlotHold] 선점 해제 실패 - scheduleId={}, {}", scheduleId, e.getMessage());
+        }
+    }
+}
@@ -19,6 +19,8 @@ import service.saju_taro_service.global.util.SecurityUtil;
 import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ReviewRepository;
 import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.stats.DailyStatsService;
+import service.saju_taro_service.service.user.CounselorCacheEvictor;
 
 import java.util.List;
 // import java.util.Optional;
@@ -29,6 +31,8 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
+    private final DailyStatsService dailyStatsService;
+    private final CounselorCacheEvictor counselorCacheEvictor;
 
     // 후기 작성
     @Transactional
@@ -67,6 +71,7 @@ public class ReviewService {
                 .build();
 
         Review saved = reviewRepository.save(review);
+        dailyStatsService.recordReview(saved);
 
         // 상담사 평균 평점 계산
         updateCounselorAverageRating(reservation.getCounselor().getId());
@@ -86,8 +91,7 @@ public class ReviewService {
     @Transactional(readOnly = true)
     public Page<ReviewResponse> getReviewsByCounselor(Long counselorId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Review> reviews = reviewRepository.findByCounselorIdAndIsActiveTrue(counselorId, pageable);
-        return reviews.map(r -> ReviewResponse.fromEntity(r, r.getUser()));
+        return reviewRepository.findResponsesByCounselorId(counselorId, pageable);
     }
 
     // 전체 후기 조회(관리자)
@@ -109,6 +113,7 @@ public class ReviewService {
     public void deactivateReview(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "후기를 찾을 수 없습니다."));
+        if (review.isActive()) dailyStatsService.revertReview(review);
         review.setActive(false);
         reviewRepository.save(review);
 
@@ -126,5 +131,6 @@ public class ReviewService {
         counselor.setAverageRating(avg);
         counselor.setReviewCount(count.intValue());
         userRepository.save(counselor);
+        counselorCacheEvictor.evict(counselorId);
     }
 }
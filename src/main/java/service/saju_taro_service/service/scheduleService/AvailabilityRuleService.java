@@ -0,0 +1,229 @@
+package service.saju_taro_service.service.scheduleService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.dto.schedule.AvailabilityRuleRequest;
+import service.saju_taro_service.dto.schedule.AvailabilityRuleResponse;
+import service.saju_taro_service.dto.schedule.AvailableSlotResponse;
+import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
+import service.saju_taro_service.global.util.IntervalTree;
+import service.saju_taro_service.global.util.SecurityUtil;
+import service.saju_taro_service.repository.AvailabilityRuleRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AvailabilityRuleService {
+    private final AvailabilityRuleRepository ruleRepository;
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final ScheduleMaterializer scheduleMaterializer;
+    private final DayAvailabilityService dayAvailabilityService;
+
+    private static final int MIN_SLOT_MINUTES = 10;
+    private static final int MAX_SLOT_MINUTES = 240;
+    private static final int MAX_WINDOW_DAYS = 62;
+
+    // 반복 규칙 등록
+    @Transactional
+    public AvailabilityRuleResponse createRule(AvailabilityRuleRequest req) {
+        User counselor = currentCounselor();
+
+        if (req.getDayOfWeek() == null || req.getStartTime() == null || req.getEndTime() == null
+                || !req.getStartTime().isBefore(req.getEndTime())) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "요일과 시작/종료 시간을 올바르게 입력해주세요.");
+        }
+        if (req.getSlotMinutes() < MIN_SLOT_MINUTES || req.getSlotMinutes() > MAX_SLOT_MINUTES) {
+            throw new CustomException(ErrorCode.BAD_REQUEST,
+                    "슬롯 길이는 " + MIN_SLOT_MINUTES + "~" + MAX_SLOT_MINUTES + "분 사이여야 합니다.");
+        }
+        LocalDate validFrom = req.getValidFrom() != null ? req.getValidFrom() : LocalDate.now();
+        if (req.getValidUntil() != null && req.getValidUntil().isBefore(validFrom)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "종료일이 시작일보다 빠릅니다.");
+        }
+
+        // 같은 요일, 겹치는 기간/시간대의 규칙이 있으면 거절
+        for (AvailabilityRule other : ruleRepository.findByCounselorIdAndIsActiveTrue(counselor.getId())) {
+            boolean sameDay = other.getDayOfWeek() == req.getDayOfWeek();
+            boolean periodOverlap = (other.getValidUntil() == null || !other.getValidUntil().isBefore(validFrom))
+                    && (req.getValidUntil() == null || !req.getValidUntil().isBefore(other.getValidFrom()));
+            boolean timeOverlap = other.getStartTime().isBefore(req.getEndTime())
+                    && req.getStartTime().isBefore(other.getEndTime());
+            if (sameDay && periodOverlap && timeOverlap) {
+                throw new CustomException(ErrorCode.BAD_REQUEST, "이미 등록된 반복 시간과 겹칩니다.");
+            }
+        }
+
+        AvailabilityRule rule = AvailabilityRule.builder()
+                .counselor(counselor)
+                .dayOfWeek(req.getDayOfWeek())
+                .startTime(req.getStartTime())
+                .endTime(req.getEndTime())
+                .slotMinutes(req.getSlotMinutes())
+                .validFrom(validFrom)
+                .validUntil(req.getValidUntil())
+                .exceptDates(req.getExceptDates() != null ? new HashSet<>(req.getExceptDates()) : new HashSet<>())
+                .build();
+        AvailabilityRule saved = ruleRepository.save(rule);
+        publishRuleChanged(saved);
+        return AvailabilityRuleResponse.fromEntity(saved);
+    }
+
+    // 상담사 반복 규칙 목록
+    @Transactional(readOnly = true)
+    public List<AvailabilityRuleResponse> getRules(Long counselorId) {
+        return ruleRepository.findByCounselorIdAndIsActiveTrue(counselorId).stream()
+                .sorted(Comparator.comparing(AvailabilityRule::getDayOfWeek).thenComparing(AvailabilityRule::getStartTime))
+                .map(AvailabilityRuleResponse::fromEntity)
+                .toList();
+    }
+
+    // 반복 규칙 삭제 (이미 저장된 스케줄/예약은 유지)
+    @Transactional
+    public void deleteRule(Long ruleId) {
+        AvailabilityRule rule = ownedRule(ruleId);
+        rule.setActive(false);
+        publishRuleChanged(rule);
+    }
+
+    // 쉬는 날 추가
+    @Transactional
+    public AvailabilityRuleResponse addExceptDate(Long ruleId, LocalDate date) {
+        if (date == null) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "날짜를 입력해주세요.");
+        }
+        AvailabilityRule rule = ownedRule(ruleId);
+        rule.getExceptDates().add(date);
+        dayAvailabilityService.evictDates(rule.getCounselor().getId(), List.of(date));
+        return AvailabilityRuleResponse.fromEntity(rule);
+    }
+
+    /**
+     * ✅ 기간 내 예약 가능 슬롯 (저장된 스케줄 + 반복 규칙으로 계산한 슬롯)
+     * 규칙 1회 + 기간 내 스케줄 1회 조회 후 메모리에서 계산
+     */
+    @Transactional(readOnly = true)
+    public List<AvailableSlotResponse> getAvailableSlots(Long counselorId, LocalDate fromDate, LocalDate toDate) {
+        if (fromDate == null || toDate == null || toDate.isBefore(fromDate)
+                || fromDate.plusDays(MAX_WINDOW_DAYS).isBefore(toDate)) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "조회 기간은 최대 " + MAX_WINDOW_DAYS + "일입니다.");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from = fromDate.atStartOfDay().isBefore(now) ? now : fromDate.atStartOfDay();
+        LocalDateTime to = toDate.plusDays(1).atStartOfDay();
+        if (!from.isBefore(to)) return List.of();
+
+        List<Schedule> schedules = scheduleRepository.findOverlapping(counselorId, from, to);
+        List<AvailableSlotResponse> slots = new ArrayList<>();
+        for (Schedule s : schedules) {
+            if (s.isAvailable() && !s.getStartTime().isBefore(from)) {
+                slots.add(new AvailableSlotResponse(s.getId(), null, s.getStartTime(), s.getEndTime()));
+            }
+        }
+        slots.addAll(expandRules(ruleRepository.findByCounselorIdAndIsActiveTrue(counselorId), schedules, from, to));
+        slots.sort(Comparator.comparing(AvailableSlotResponse::getStartTime));
+        return slots;
+    }
+
+    /**
+     * 규칙으로 [from, to) 안의 슬롯 계산
+     * 이미 저장된 스케줄(예약 여부 무관)과 겹치는 슬롯은 제외 → 저장된 행이 우선
+     */
+    public static List<AvailableSlotResponse> expandRules(List<AvailabilityRule> rules, List<Schedule> schedules,
+                                                   LocalDateTime from, LocalDateTime to) {
+        IntervalTree<LocalDateTime, Long> occupied = new IntervalTree<>();
+        schedules.forEach(s -> occupied.insert(s.getStartTime(), s.getEndTime(), s.getId()));
+
+        List<AvailableSlotResponse> slots = new ArrayList<>();
+        for (LocalDate date = from.toLocalDate(); date.isBefore(to.toLocalDate().plusDays(1)); date = date.plusDays(1)) {
+            for (AvailabilityRule rule : rules) {
+                if (!rule.appliesTo(date)) continue;
+                for (LocalTime t = rule.getStartTime();
+                     !t.plusMinutes(rule.getSlotMinutes()).isAfter(rule.getEndTime())
+                             && t.plusMinutes(rule.getSlotMinutes()).isAfter(t);
+                     t = t.plusMinutes(rule.getSlotMinutes())) {
+                    LocalDateTime start = date.atTime(t);
+                    LocalDateTime end = start.plusMinutes(rule.getSlotMinutes());
+                    if (start.isBefore(from) || end.isAfter(to)) continue;
+                    if (occupied.findAnyOverlap(start, end) != null) continue;
+                    slots.add(new AvailableSlotResponse(null, rule.getId(), start, end));
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * ✅ 반복 규칙 슬롯을 Schedule 행으로 저장하고 ID 반환 (ReservationService 예약 시 호출)
+     * 이미 저장된 슬롯이면 기존 ID 반환 → 이후 점유는 기존 조건부 UPDATE 로 처리
+     */
+    @Transactional
+    public Long materialize(Long counselorId, Long ruleId, LocalDateTime start) {
+        AvailabilityRule rule = ruleRepository.findById(ruleId)
+                .filter(r -> r.isActive() && r.getCounselor().getId().equals(counselorId))
+                .orElseThrow(() -> new CustomException(ErrorCode.SCHEDULE_NOT_FOUND, "예약 가능한 시간을 찾을 수 없습니다."));
+        if (start == null || start.isBefore(LocalDateTime.now()) || !rule.isSlotStart(start)) {
+            throw new CustomException(ErrorCode.SCHEDULE_NOT_AVAILABLE, "해당 시간은 예약할 수 없습니다.");
+        }
+        LocalDateTime end = start.plusMinutes(rule.getSlotMinutes());
+
+        // 직접 등록한 다른 스케줄과 겹치면 그 스케줄로 예약해야 함
+        boolean overlapsOther = scheduleRepository.findOverlapping(counselorId, start, end).stream()
+                .anyMatch(s -> !s.getStartTime().equals(start));
+        if (overlapsOther) {
+            throw new CustomException(ErrorCode.SCHEDULE_NOT_AVAILABLE, "해당 시간은 예약할 수 없습니다.");
+        }
+
+        try {
+            return scheduleMaterializer.insertIfAbsent(counselorId, start, end);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 슬롯을 저장한 요청이 있음 → 저장된 행 사용
+            return scheduleMaterializer.findExisting(counselorId, start)
+                    .orElseThrow(() -> new CustomException(ErrorCode.SCHEDULE_NOT_AVAILABLE, "해당 시간은 예약할 수 없습니다."));
+        }
+    }
+
+    // 규칙 적용 기간의 일별 비트맵(규칙 슬롯 포함) 제거 + 변경 구간 알림 (빈 시간 검색 인덱스가 자신의 조회 범위로 잘라서 반영)
+    private void publishRuleChanged(AvailabilityRule rule) {
+        LocalDate from = rule.getValidFrom().isAfter(LocalDate.now()) ? rule.getValidFrom() : LocalDate.now();
+        LocalDate to = rule.getValidUntil() != null ? rule.getValidUntil().plusDays(1) : from.plusYears(1);
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+            if (rule.getDayOfWeek() == date.getDayOfWeek()) dates.add(date);
+        }
+        dayAvailabilityService.evictDates(rule.getCounselor().getId(), dates);
+    }
+
+    private AvailabilityRule ownedRule(Long ruleId) {
+        AvailabilityRule rule = ruleRepository.findById(ruleId)
+                .filter(AvailabilityRule::isActive)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND, "반복 규칙을 찾을 수 없습니다."));
+        if (!rule.getCounselor().getId().equals(SecurityUtil.currentUserId())) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "본인 규칙만 변경할 수 있습니다.");
+        }
+        return rule;
+    }
+
+    private User currentCounselor() {
+        if (!"COUNSELOR".equals(SecurityUtil.currentRole())) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "상담사만 등록 가능합니다.");
+        }
+        return userRepository.findById(SecurityUtil.currentUserId())
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND, "상담사를 찾을 수 없습니다."));
+    }
+}
@@ -0,0 +1,136 @@
+package service.saju_taro_service.service.scheduleService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.dto.schedule.AvailableSlotResponse;
+import service.saju_taro_service.dto.schedule.DayAvailability;
+import service.saju_taro_service.global.cache.CacheNames;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.event.ScheduleAvailabilityChangedEvent;
+import service.saju_taro_service.repository.AvailabilityRuleRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * ✅ 상담사 일별 스케줄 비트맵 캐시
+ * - 조회: 날짜별 캐시 확인 → 없는 날짜만 스케줄 기간 조회 + 반복 규칙 조회로 채움
+ * - 스케줄 등록/삭제, 예약/취소/환불로 칸 상태가 바뀌면 해당 날짜 제거 (트랜잭션 커밋 후 반영)
+ * - 제거와 함께 변경 구간 이벤트 발행 → 빈 시간 검색 인덱스 갱신
+ */
+@Service
+@RequiredArgsConstructor
+public class DayAvailabilityService {
+    private final ScheduleRepository scheduleRepository;
+    private final AvailabilityRuleRepository ruleRepository;
+    private final CacheManager cacheManager;
+    private final EventPublisher eventPublisher;
+
+    /** [from, to] 날짜별 비트맵 (날짜 순) */
+    public Map<LocalDate, DayAvailability> getDays(Long counselorId, LocalDate from, LocalDate to) {
+        Cache cache = cacheManager.getCache(CacheNames.COUNSELOR_DAY_AVAILABILITY);
+        Map<LocalDate, DayAvailability> days = new LinkedHashMap<>();
+        LocalDate firstMiss = null;
+        LocalDate lastMiss = null;
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            DayAvailability day = cache != null ? cache.get(key(counselorId, date), DayAvailability.class) : null;
+            days.put(date, day);
+            if (day == null) {
+                if (firstMiss == null) firstMiss = date;
+                lastMiss = date;
+            }
+        }
+        if (firstMiss == null) return days;
+
+        LocalDateTime rangeStart = firstMiss.atStartOfDay();
+        LocalDateTime rangeEnd = lastMiss.plusDays(1).atStartOfDay();
+        List<Schedule> schedules = scheduleRepository.findOverlapping(counselorId, rangeStart, rangeEnd);
+        Map<LocalDate, List<Schedule>> byDate = schedules.stream()
+                .collect(Collectors.groupingBy(s -> s.getStartTime().toLocalDate()));
+        // 반복 규칙 슬롯 (저장된 스케줄과 겹치는 시간은 AvailabilityRuleService.expandRules 에서 제외)
+        Map<LocalDate, List<DayAvailability.Slot>> rulesByDate = AvailabilityRuleService.expandRules(
+                        ruleRepository.findByCounselorIdAndIsActiveTrue(counselorId), schedules, rangeStart, rangeEnd)
+                .stream()
+                .collect(Collectors.groupingBy(s -> s.getStartTime().toLocalDate(),
+                        Collectors.mapping(this::toSlot, Collectors.toList())));
+        for (LocalDate date = firstMiss; !date.isAfter(lastMiss); date = date.plusDays(1)) {
+            if (days.get(date) != null) continue;
+            DayAvailability bitmap = DayAvailability.of(date, byDate.getOrDefault(date, List.of()));
+            // 전날 시작해 이 날짜로 넘어온 스케줄은 칸으로 표현하지 않음
+            LocalDateTime dayStart = date.atStartOfDay();
+            boolean exact = bitmap.isExact() && byDate.getOrDefault(date.minusDays(1), List.of()).stream()
+                    .noneMatch(s -> s.getEndTime().isAfter(dayStart));
+            DayAvailability day = new DayAvailability(bitmap.getStarts(), bitmap.getOpen(), bitmap.getBooked(),
+                    exact, rulesByDate.getOrDefault(date, List.of()));
+            days.put(date, day);
+            if (cache != null) cache.put(key(counselorId, date), day);
+        }
+        return days;
+    }
+
+    public void evict(Schedule schedule) {
+        evict(schedule.getCounselor().getId(), schedule.getStartTime(), schedule.getEndTime());
+    }
+
+    /** 스케줄 [start, end) 가 걸친 날짜 제거 */
+    public void evict(Long counselorId, LocalDateTime start, LocalDateTime end) {
+        datesOf(start, end).forEach(date -> evictDate(counselorId, date));
+        eventPublisher.publishScheduleAvailabilityChanged(
+                new ScheduleAvailabilityChangedEvent(counselorId, start, end));
+    }
+
+    /** 여러 스케줄을 상담사별로 묶어 제거 (상담사당 이벤트 한 번) */
+    public void evictAll(Collection<Schedule> schedules) {
+        Map<Long, Set<LocalDate>> datesByCounselor = new LinkedHashMap<>();
+        for (Schedule schedule : schedules) {
+            datesByCounselor.computeIfAbsent(schedule.getCounselor().getId(), id -> new TreeSet<>())
+                    .addAll(datesOf(schedule.getStartTime(), schedule.getEndTime()));
+        }
+        datesByCounselor.forEach(this::evictDates);
+    }
+
+    public void evictDates(Long counselorId, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) return;
+        dates.forEach(date -> evictDate(counselorId, date));
+        eventPublisher.publishScheduleAvailabilityChanged(new ScheduleAvailabilityChangedEvent(counselorId,
+                Collections.min(dates).atStartOfDay(), Collections.max(dates).plusDays(1).atStartOfDay()));
+    }
+
+    /** [start, end) 가 걸친 날짜 (자정에 끝나면 그 날짜는 제외) */
+    private List<LocalDate> datesOf(LocalDateTime start, LocalDateTime end) {
+        LocalDate last = end.toLocalTime().equals(LocalTime.MIDNIGHT) && end.isAfter(start)
+                ? end.toLocalDate().minusDays(1) : end.toLocalDate();
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = start.toLocalDate(); !date.isAfter(last); date = date.plusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private DayAvailability.Slot toSlot(AvailableSlotResponse slot) {
+        return new DayAvailability.Slot(slot.getStartTime().toLocalTime(), slot.getEndTime().toLocalTime(), false);
+    }
+
+    private void evictDate(Long counselorId, LocalDate date) {
+        Cache cache = cacheManager.getCache(CacheNames.COUNSELOR_DAY_AVAILABILITY);
+        if (cache != null) cache.evict(key(counselorId, date));
+    }
+
+    private String key(Long counselorId, LocalDate date) {
+        return counselorId + ":" + date;
+    }
+}
@@ -0,0 +1,44 @@
+package service.saju_taro_service.service.scheduleService;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ✅ 반복 규칙 슬롯 → Schedule 행 저장 (예약 트랜잭션과 분리된 새 트랜잭션)
+ * 같은 슬롯을 동시에 저장하면 유니크 제약으로 한 건만 성공 → 나머지는 저장된 행을 다시 조회
+ */
+@Service
+@RequiredArgsConstructor
+public class ScheduleMaterializer {
+    private final ScheduleRepository scheduleRepository;
+    private final UserRepository userRepository;
+    private final DayAvailabilityService dayAvailabilityService;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Long insertIfAbsent(Long counselorId, LocalDateTime start, LocalDateTime end) {
+        return scheduleRepository.findIdByCounselorIdAndStartTime(counselorId, start)
+                .orElseGet(() -> {
+                    Long id = scheduleRepository.saveAndFlush(Schedule.builder()
+                            .counselor(userRepository.getReferenceById(counselorId))
+                            .startTime(start)
+                            .endTime(end)
+                            .isAvailable(true)
+                            .build()).getId();
+                    dayAvailabilityService.evict(counselorId, start, end);
+                    return id;
+                });
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public Optional<Long> findExisting(Long counselorId, LocalDateTime start) {
+        return scheduleRepository.findIdByCounselorIdAndStartTime(counselorId, start);
+    }
+}
@@ -1,41 +1,56 @@
 package service.saju_taro_service.service.scheduleService;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.dto.schedule.ScheduleBulkRequest;
+import service.saju_taro_service.dto.schedule.ScheduleBulkResponse;
+import service.saju_taro_service.dto.schedule.ScheduleBulkResponse.ConflictReason;
+import service.saju_taro_service.dto.schedule.ScheduleBulkResponse.SlotConflict;
 import service.saju_taro_service.dto.schedule.ScheduleRequest;
 import service.saju_taro_service.dto.schedule.ScheduleResponse;
 import service.saju_taro_service.global.exception.CustomException;
 import service.saju_taro_service.global.exception.ErrorCode;
+import service.saju_taro_service.global.util.IntervalTree;
 import service.saju_taro_service.global.util.SecurityUtil;
 import service.saju_taro_service.repository.ScheduleRepository;
 import service.saju_taro_service.repository.UserRepository;
 import service.saju_taro_service.domain.user.User;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DayAvailabilityService dayAvailabilityService;
+
+    private static final int MAX_BULK_SLOTS = 2000;
+    private static final int INSERT_BATCH_SIZE = 500;
+    private static final String INSERT_SQL = """
+            INSERT INTO schedules (counselor_id, start_time, end_time, is_available, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
 
     // 상담사 스케줄 등록
     @Transactional
     public ScheduleResponse createSchedule(ScheduleRequest req) {
-        Long counselorId = SecurityUtil.currentUserId();
-        String role = SecurityUtil.currentRole();
-
-        if (!"COUNSELOR".equals(role)) {
-            throw new CustomException(ErrorCode.ACCESS_DENIED, "상담사만 등록 가능합니다.");
-        }
-
-        User counselor = userRepository.findById(counselorId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND, "상담사를 찾을 수 없습니다."));
+        User counselor = currentCounselor();
 
         // 중복 시간 검증
-        boolean conflict = scheduleRepository.existsByCounselorIdAndStartTimeLessThanEqualAndEndTimeGreaterThanEqual(
-                counselorId, req.getEndTime(), req.getStartTime()
+        boolean conflict = scheduleRepository.existsByCounselorIdAndStartTimeLessThanAndEndTimeGreaterThan(
+                counselor.getId(), req.getEndTime(), req.getStartTime()
         );
 
         if (conflict) {
@@ -49,7 +64,126 @@ public class ScheduleService {
                 .isAvailable(true)
                 .build();
 
-        return ScheduleResponse.fromEntity(scheduleRepository.save(schedule));
+        Schedule saved = scheduleRepository.save(schedule);
+        dayAvailabilityService.evict(counselor.getId(), saved.getStartTime(), saved.getEndTime());
+        return ScheduleResponse.fromEntity(saved);
+    }
+
+    /**
+     * ✅ 상담사 스케줄 일괄 등록
+     * - 요청 기간과 겹치는 기존 스케줄을 한 번만 조회해 구간 트리로 검증 (요청 슬롯끼리의 겹침 포함)
+     * - 겹치지 않는 슬롯만 JDBC 배치로 저장하고, 나머지는 슬롯별 사유와 함께 반환
+     */
+    @Transactional
+    public ScheduleBulkResponse createSchedules(ScheduleBulkRequest req) {
+        User counselor = currentCounselor();
+        List<ScheduleRequest> slots = req.getSlots();
+        if (slots == null || slots.isEmpty()) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "등록할 스케줄이 없습니다.");
+        }
+        if (slots.size() > MAX_BULK_SLOTS) {
+            throw new CustomException(ErrorCode.BAD_REQUEST, "한 번에 최대 " + MAX_BULK_SLOTS + "개까지 등록할 수 있습니다.");
+        }
+
+        List<SlotConflict> conflicts = new ArrayList<>();
+        LocalDateTime windowStart = null;
+        LocalDateTime windowEnd = null;
+        for (int i = 0; i < slots.size(); i++) {
+            ScheduleRequest slot = slots.get(i);
+            if (!isValidRange(slot)) {
+                conflicts.add(new SlotConflict(i, slot == null ? null : slot.getStartTime(),
+                        slot == null ? null : slot.getEndTime(), ConflictReason.INVALID_RANGE, null, null));
+                continue;
+            }
+            if (windowStart == null || slot.getStartTime().isBefore(windowStart)) windowStart = slot.getStartTime();
+            if (windowEnd == null || slot.getEndTime().isAfter(windowEnd)) windowEnd = slot.getEndTime();
+        }
+
+        List<ScheduleRequest> accepted = new ArrayList<>();
+        if (windowStart != null) {
+            IntervalTree<LocalDateTime, Long> existing = new IntervalTree<>();
+            for (Schedule s : scheduleRepository.findOverlapping(counselor.getId(), windowStart, windowEnd)) {
+                existing.insert(s.getStartTime(), s.getEndTime(), s.getId());
+            }
+
+            IntervalTree<LocalDateTime, Integer> requested = new IntervalTree<>();
+            for (int i = 0; i < slots.size(); i++) {
+                ScheduleRequest slot = slots.get(i);
+                if (!isValidRange(slot)) continue;
+
+                Long existingId = existing.findAnyOverlap(slot.getStartTime(), slot.getEndTime());
+                if (existingId != null) {
+                    conflicts.add(new SlotConflict(i, slot.getStartTime(), slot.getEndTime(), ConflictReason.EXISTING_OVERLAP, existingId, null));
+                    continue;
+                }
+                Integer earlier = requested.findAnyOverlap(slot.getStartTime(), slot.getEndTime());
+                if (earlier != null) {
+                    conflicts.add(new SlotConflict(i, slot.getStartTime(), slot.getEndTime(), ConflictReason.REQUEST_OVERLAP, null, earlier));
+                    continue;
+                }
+                requested.insert(slot.getStartTime(), slot.getEndTime(), i);
+                accepted.add(slot);
+            }
+        }
+
+        List<ScheduleResponse> created = accepted.isEmpty()
+                ? List.of()
+                : insertAll(counselor.getId(), accepted, windowStart, windowEnd);
+
+        conflicts.sort(Comparator.comparingInt(SlotConflict::getIndex));
+        return ScheduleBulkResponse.builder()
+                .requested(slots.size())
+                .created(created.size())
+                .schedules(created)
+                .conflicts(conflicts)
+                .build();
+    }
+
+    // JDBC 배치 저장 후 기간을 다시 조회해 생성된 스케줄(ID 포함) 반환
+    private List<ScheduleResponse> insertAll(Long counselorId, List<ScheduleRequest> accepted,
+                                             LocalDateTime windowStart, LocalDateTime windowEnd) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, accepted, INSERT_BATCH_SIZE, (ps, slot) -> {
+            ps.setLong(1, counselorId);
+            ps.setTimestamp(2, Timestamp.valueOf(slot.getStartTime()));
+            ps.setTimestamp(3, Timestamp.valueOf(slot.getEndTime()));
+            ps.setBoolean(4, true);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        // 슬롯이 걸친 날짜의 비트맵 캐시 제거 (날짜별 1회)
+        Set<LocalDate> dates = new HashSet<>();
+        accepted.forEach(slot -> {
+            dates.add(slot.getStartTime().toLocalDate());
+            dates.add(slot.getEndTime().toLocalDate());
+        });
+        dayAvailabilityService.evictDates(counselorId, dates);
+
+        Set<String> createdKeys = new HashSet<>();
+        accepted.forEach(slot -> createdKeys.add(slot.getStartTime() + "/" + slot.getEndTime()));
+        return scheduleRepository.findOverlapping(counselorId, windowStart, windowEnd).stream()
+                .filter(s -> createdKeys.contains(s.getStartTime() + "/" + s.getEndTime()))
+                .sorted(Comparator.comparing(Schedule::getStartTime))
+                .map(ScheduleResponse::fromEntity)
+                .toList();
+    }
+
+    private boolean isValidRange(ScheduleRequest slot) {
+        return slot != null && slot.getStartTime() != null && slot.getEndTime() != null
+                && slot.getStartTime().isBefore(slot.getEndTime());
+    }
+
+    private User currentCounselor() {
+        Long counselorId = SecurityUtil.currentUserId();
+        String role = SecurityUtil.currentRole();
+
+        if (!"COUNSELOR".equals(role)) {
+            throw new CustomException(ErrorCode.ACCESS_DENIED, "상담사만 등록 가능합니다.");
+        }
+
+        return userRepository.findById(counselorId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND, "상담사를 찾을 수 없습니다."));
     }
 
     // 상담사별 스케줄 조회
@@ -76,5 +210,6 @@ public class ScheduleService {
             throw new CustomException(ErrorCode.ACCESS_DENIED, "본인 스케줄만 삭제할 수 있습니다.");
         }
         scheduleRepository.delete(schedule);
+        dayAvailabilityService.evict(schedule);
     }
 }
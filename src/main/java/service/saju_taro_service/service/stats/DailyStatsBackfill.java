@@ -0,0 +1,53 @@
+package service.saju_taro_service.service.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import service.saju_taro_service.repository.DailyStatsRepository;
+import service.saju_taro_service.repository.ReservationRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * ✅ daily_stats 1회성 전체 이력 백필
+ * 관리자 대시보드는 롤업만 읽으므로, 롤업 도입 이전 이력을 원본 기준으로 채운다.
+ * 가장 오래된 예약 생성일에 롤업 행이 생기면 다음 실행부터 건너뛰므로 여러 번 실행돼도 안전하다.
+ * 한 달 단위로 나눠 재계산 (달마다 커밋, 잠금 범위 제한)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyStatsBackfill {
+
+    private final DailyStatsService dailyStatsService;
+    private final DailyStatsRepository dailyStatsRepository;
+    private final ReservationRepository reservationRepository;
+
+    @Value("${stats.backfill.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (enabled) backfill();
+    }
+
+    /** @return 정정된 롤업 행 수 (이미 백필됐거나 원본이 없으면 0) */
+    public int backfill() {
+        Optional<LocalDate> first = reservationRepository.findFirstCreatedAt().map(LocalDateTime::toLocalDate);
+        if (first.isEmpty() || dailyStatsRepository.existsByStatDate(first.get())) return 0;
+
+        LocalDate today = LocalDate.now();
+        int corrected = 0;
+        for (LocalDate from = first.get(); !from.isAfter(today); from = from.withDayOfMonth(1).plusMonths(1)) {
+            LocalDate monthEnd = from.withDayOfMonth(from.lengthOfMonth());
+            corrected += dailyStatsService.reconcile(from, monthEnd.isBefore(today) ? monthEnd : today);
+        }
+        log.info("📊 [DailyStats] 전체 이력 백필 완료 - 기간: {} ~ {}, 정정: {}", first.get(), today, corrected);
+        return corrected;
+    }
+}
@@ -0,0 +1,28 @@
+package service.saju_taro_service.service.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+// 통계 롤업 보정
+public class DailyStatsScheduler {
+    private static final int RECONCILE_DAYS = 7;
+
+    private final DailyStatsService dailyStatsService;
+
+    /**
+     * ✅ 매일 새벽 3시 30분, 최근 7일 롤업을 원본 기준으로 재계산 (증분 누락/중복 보정)
+     */
+    @Scheduled(cron = "0 30 3 * * *")
+    public void reconcileRecentDays() {
+        LocalDate today = LocalDate.now();
+        log.info("🔁 [Scheduler] 통계 롤업 보정 시작...");
+        dailyStatsService.reconcile(today.minusDays(RECONCILE_DAYS), today);
+    }
+}
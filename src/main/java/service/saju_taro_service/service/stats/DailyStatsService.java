@@ -0,0 +1,168 @@
+package service.saju_taro_service.service.stats;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import service.saju_taro_service.domain.payment.Payment;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.review.Review;
+import service.saju_taro_service.domain.stats.DailyStats;
+import service.saju_taro_service.dto.stats.DailyCounselorAggregate;
+import service.saju_taro_service.repository.DailyStatsRepository;
+import service.saju_taro_service.repository.PaymentRepository;
+import service.saju_taro_service.repository.ReservationRepository;
+import service.saju_taro_service.repository.ReviewRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ✅ daily_stats 롤업 관리
+ * 예약/결제/후기 상태가 바뀌는 트랜잭션 안에서 증분을 반영하고, reconcile 로 원본 기준 재계산한다.
+ * 전체 이력 백필은 DailyStatsBackfill 이 기동 시 1회 수행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyStatsService {
+    private final DailyStatsRepository dailyStatsRepository;
+    private final ReservationRepository reservationRepository;
+    private final PaymentRepository paymentRepository;
+    private final ReviewRepository reviewRepository;
+
+    /** ✅ 예약 생성 반영 (생성일 기준) */
+    @Transactional
+    public void recordReservation(Reservation reservation) {
+        Long counselorId = counselorIdOf(reservation);
+        if (counselorId == null) return;
+        dailyStatsRepository.upsertDelta(LocalDate.now(), counselorId, 1, 0, 0, 0, 0);
+    }
+
+    /** ✅ 결제 완료 반영 (결제일 기준) */
+    @Transactional
+    public void recordPayment(Payment payment) {
+        Long counselorId = counselorIdOf(payment.getReservation());
+        if (counselorId == null || payment.getPaidAt() == null) return;
+        dailyStatsRepository.upsertDelta(payment.getPaidAt().toLocalDate(), counselorId,
+                0, 1, payment.getAmount(), 0, 0);
+    }
+
+    /** ✅ 결제 완료 건 환불 반영 (원래 결제일에서 차감) */
+    @Transactional
+    public void revertPayment(Payment payment) {
+        Long counselorId = counselorIdOf(payment.getReservation());
+        if (counselorId == null || payment.getPaidAt() == null) return;
+        dailyStatsRepository.upsertDelta(payment.getPaidAt().toLocalDate(), counselorId,
+                0, -1, -payment.getAmount(), 0, 0);
+    }
+
+    /** ✅ 여러 환불 건을 (결제일, 상담사)별로 합산해 행마다 upsert 한 번으로 반영 */
+    @Transactional
+    public void revertPayments(Collection<Payment> payments) {
+        Map<String, DailyStats> rows = new HashMap<>();
+        for (Payment payment : payments) {
+            Long counselorId = counselorIdOf(payment.getReservation());
+            if (counselorId == null || payment.getPaidAt() == null) continue;
+            DailyStats row = rowOf(rows, payment.getPaidAt().toLocalDate(), counselorId);
+            row.setPaidCount(row.getPaidCount() - 1);
+            row.setRevenue(row.getRevenue() - payment.getAmount());
+        }
+        for (DailyStats row : rows.values()) {
+            dailyStatsRepository.upsertDelta(row.getStatDate(), row.getCounselorId(),
+                    0, row.getPaidCount(), row.getRevenue(), 0, 0);
+        }
+    }
+
+    /** ✅ 후기 작성 반영 (작성일 기준) */
+    @Transactional
+    public void recordReview(Review review) {
+        if (review.getCounselor() == null) return;
+        LocalDate date = review.getCreatedAt() != null ? review.getCreatedAt().toLocalDate() : LocalDate.now();
+        dailyStatsRepository.upsertDelta(date, review.getCounselor().getId(), 0, 0, 0, review.getRating(), 1);
+    }
+
+    /** ✅ 후기 비활성화 반영 (원래 작성일에서 차감) */
+    @Transactional
+    public void revertReview(Review review) {
+        if (review.getCounselor() == null || review.getCreatedAt() == null) return;
+        dailyStatsRepository.upsertDelta(review.getCreatedAt().toLocalDate(), review.getCounselor().getId(),
+                0, 0, 0, -review.getRating(), -1);
+    }
+
+    /**
+     * ✅ 기간 재계산 (원본 테이블 기준으로 정정)
+     * 기간 내 롤업 행을 먼저 잠근 뒤 원본을 집계하고, (원본 값 - 저장 값) 차이만 증분으로 반영한다.
+     * 잠금 이전에 커밋된 증분은 집계에 이미 포함되고, 잠금 이후의 증분(upsertDelta)은 재계산 커밋까지 대기했다가
+     * 정정된 값 위에 더해진다. (MariaDB REPEATABLE READ: 일관 읽기 스냅샷은 잠금 이후 첫 일반 SELECT 시점에 생성)
+     * 원본에 더 이상 없는 기존 행은 0 으로 맞춤
+     * @return 정정된 롤업 행 수
+     */
+    @Transactional
+    public int reconcile(LocalDate from, LocalDate to) {
+        Map<String, DailyStats> stored = new HashMap<>();
+        for (DailyStats existing : dailyStatsRepository.findForUpdateByStatDateBetween(from, to)) {
+            stored.put(existing.getStatDate() + ":" + existing.getCounselorId(), existing);
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<String, DailyStats> rows = new HashMap<>();
+        for (DailyCounselorAggregate a : reservationRepository.countDailyByCounselor(start, end)) {
+            rowOf(rows, a).setReservationCount(a.getCount());
+        }
+        for (DailyCounselorAggregate a : paymentRepository.sumDailyPaidAmountByCounselor(start, end)) {
+            DailyStats row = rowOf(rows, a);
+            row.setPaidCount(a.getCount());
+            row.setRevenue(a.getSum());
+        }
+        for (DailyCounselorAggregate a : reviewRepository.sumDailyRatingByCounselor(start, end)) {
+            DailyStats row = rowOf(rows, a);
+            row.setRatingCount(a.getCount());
+            row.setRatingSum(a.getSum());
+        }
+
+        int zeroed = 0;
+        for (DailyStats existing : stored.values()) {
+            if (rows.containsKey(existing.getStatDate() + ":" + existing.getCounselorId())) continue;
+            rowOf(rows, existing.getStatDate(), existing.getCounselorId());
+            zeroed++;
+        }
+        int corrected = 0;
+        for (Map.Entry<String, DailyStats> e : rows.entrySet()) {
+            DailyStats row = e.getValue();
+            DailyStats current = stored.getOrDefault(e.getKey(), new DailyStats());
+            long reservationCount = row.getReservationCount() - current.getReservationCount();
+            long paidCount = row.getPaidCount() - current.getPaidCount();
+            long revenue = row.getRevenue() - current.getRevenue();
+            long ratingSum = row.getRatingSum() - current.getRatingSum();
+            long ratingCount = row.getRatingCount() - current.getRatingCount();
+            if (reservationCount == 0 && paidCount == 0 && revenue == 0 && ratingSum == 0 && ratingCount == 0) continue;
+            dailyStatsRepository.upsertDelta(row.getStatDate(), row.getCounselorId(),
+                    reservationCount, paidCount, revenue, ratingSum, ratingCount);
+            corrected++;
+        }
+
+        log.info("📊 [DailyStats] 재계산 완료 - 기간: {} ~ {}, 정정: {} (0 으로 정정: {})", from, to, corrected, zeroed);
+        return corrected;
+    }
+
+    private DailyStats rowOf(Map<String, DailyStats> rows, DailyCounselorAggregate a) {
+        return rowOf(rows, a.getDate(), a.getCounselorId());
+    }
+
+    private DailyStats rowOf(Map<String, DailyStats> rows, LocalDate date, Long counselorId) {
+        return rows.computeIfAbsent(date + ":" + counselorId, k -> DailyStats.builder()
+                .statDate(date)
+                .counselorId(counselorId)
+                .build());
+    }
+
+    private Long counselorIdOf(Reservation reservation) {
+        if (reservation == null || reservation.getCounselor() == null) return null;
+        return reservation.getCounselor().getId();
+    }
+}
@@ -0,0 +1,30 @@
+package service.saju_taro_service.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import service.saju_taro_service.global.cache.CacheNames;
+
+/**
+ * ✅ 상담사 정보(프로필, 평점, 활성 상태 등)가 바뀌면 관련 캐시 제거
+ * 목록은 정렬/페이지 구성이 바뀔 수 있으므로 전체 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class CounselorCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    public void evict(Long counselorId) {
+        evict(CacheNames.COUNSELOR_DETAIL, counselorId);
+        evict(CacheNames.COUNSELOR_PROFILE, counselorId);
+        Cache list = cacheManager.getCache(CacheNames.COUNSELOR_LIST);
+        if (list != null) list.clear();
+    }
+
+    private void evict(String cacheName, Long counselorId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) cache.evict(counselorId);
+    }
+}
@@ -1,17 +1,18 @@
 package service.saju_taro_service.service.user;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import service.saju_taro_service.domain.review.Review;
 import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.dto.review.ReviewResponse;
 import service.saju_taro_service.dto.user.CounselorDetailResponse;
 import service.saju_taro_service.dto.user.CounselorResponse;
+import service.saju_taro_service.global.cache.CacheNames;
 import service.saju_taro_service.global.exception.CustomException;
 import service.saju_taro_service.global.exception.ErrorCode;
 import service.saju_taro_service.repository.ReviewRepository;
@@ -26,6 +27,7 @@ public class CounselorService {
     private final ReviewRepository reviewRepository;
 
     // 상담사 목록
+    @Cacheable(cacheNames = CacheNames.COUNSELOR_LIST, key = "#sort + ':' + #page + ':' + #size")
     @Transactional(readOnly = true)
     public Page<CounselorResponse> getCounselorList(String sort, int page, int size) {
         // 정렬 기준 매핑
@@ -44,6 +46,7 @@ public class CounselorService {
     /**
      * ✅ 상담사 상세 조회 (평점 + 후기)
      */
+    @Cacheable(cacheNames = CacheNames.COUNSELOR_DETAIL, key = "#counselorId")
     @Transactional(readOnly = true)
     public CounselorDetailResponse getCounselorDetail(Long counselorId) {
         User counselor = userRepository.findById(counselorId)
@@ -55,13 +58,8 @@ public class CounselorService {
         // 최신 후기 3개만 조회
         PageRequest top3 = PageRequest.of(0, 3, Sort.by("createdAt").descending());
         List<ReviewResponse> reviews = reviewRepository
-                .findByCounselorIdAndIsActiveTrue(counselorId, top3)
-                .stream()
-                .map(r -> {
-                    User reviewer = userRepository.findById(r.getUser().getId()).orElse(null);
-                    return ReviewResponse.fromEntity(r, reviewer);
-                })
-                .toList();
+                .findResponsesByCounselorId(counselorId, top3)
+                .getContent();
         return CounselorDetailResponse.fromEntity(counselor, reviews);
     }
 
@@ -69,11 +67,6 @@ public class CounselorService {
     @Transactional(readOnly = true)
     public Page<ReviewResponse> getReviewsByCounselor(Long counselorId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        Page<Review> reviews = reviewRepository.findByCounselorIdAndIsActiveTrue(counselorId, pageable);
-
-        return reviews.map(r -> {
-            User user = userRepository.findById(r.getUser().getId()).orElse(null);
-            return ReviewResponse.fromEntity(r, user);
-        });
+        return reviewRepository.findResponsesByCounselorId(counselorId, pageable);
     }
 }
@@ -20,6 +20,7 @@ import java.util.List;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CounselorCacheEvictor counselorCacheEvictor;
 
     @Transactional
     public UserResponse signup(UserSignupRequest req) {
@@ -73,6 +74,7 @@ public class UserService {
             throw new CustomException(ErrorCode.BAD_REQUEST,"비활성화된 사용자입니다.");
         }
         user.updateInfo(req.getName(), req.getPhone());
+        counselorCacheEvictor.evict(id);
 
         return UserResponse.fromEntity(user);
     }
@@ -86,6 +88,7 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND,"사용자를 찾을 수 없습니다."));
         user.deactivate();
+        counselorCacheEvictor.evict(id);
     }
 
 
@@ -0,0 +1,142 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.cache.support.NoOpCacheManager;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.schedule.AvailableSlotResponse;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.repository.AvailabilityRuleRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+import service.saju_taro_service.service.scheduleService.ScheduleMaterializer;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 반복 규칙 테스트
+ * 조회 시 슬롯 계산(예외일/저장된 스케줄 제외)과 예약 시 Schedule 저장이 중복 없이 되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AvailabilityRuleService.class, ScheduleMaterializer.class, DayAvailabilityService.class, NoOpCacheManager.class, EventPublisher.class})
+class AvailabilityRuleServiceTest {
+
+    @Autowired
+    AvailabilityRuleService availabilityRuleService;
+    @Autowired
+    AvailabilityRuleRepository ruleRepository;
+    @Autowired
+    ScheduleRepository scheduleRepository;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    EntityManager em;
+
+    // 다음 주 월요일부터 2주 (오늘이 월요일이어도 미래 날짜만 사용)
+    private final LocalDate monday = LocalDate.now().plusDays(1).with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+
+    @Test
+    @DisplayName("✅ 규칙 슬롯 + 저장된 스케줄 병합 - 예외일/저장된 시간대 제외, 쿼리 2회")
+    void availableSlots_mergesRulesAndSchedules() {
+        User counselor = counselor("rule1");
+        em.persist(counselor);
+        em.persist(rule(counselor, Set.of(monday.plusWeeks(1))));
+        // 10:30~11:00 은 이미 예약되어 저장된 슬롯, 09:00~10:00 은 직접 등록한 빈 스케줄
+        em.persist(schedule(counselor, monday.atTime(10, 30), 30, false));
+        em.persist(schedule(counselor, monday.atTime(9, 0), 60, true));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<AvailableSlotResponse> slots = availabilityRuleService
+                .getAvailableSlots(counselor.getId(), monday, monday.plusWeeks(1).plusDays(6));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // 첫 주 월요일: 저장된 09:00 + 규칙 10:00, 11:00, 11:30 / 둘째 주 월요일: 예외일
+        assertThat(slots).extracting(s -> s.getStartTime().toLocalTime())
+                .containsExactly(LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0), LocalTime.of(11, 30));
+        assertThat(slots.get(0).getScheduleId()).isNotNull();
+        assertThat(slots.subList(1, 4)).allMatch(s -> s.getScheduleId() == null && s.getRuleId() != null);
+    }
+
+    @Test
+    @DisplayName("✅ 같은 슬롯을 두 번 저장해도 Schedule 행은 하나, 슬롯 경계가 아니면 거절")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void materialize_isIdempotent() {
+        User counselor = userRepository.save(counselor("rule2"));
+        AvailabilityRule rule = ruleRepository.save(rule(counselor, Set.of()));
+        try {
+            Long first = availabilityRuleService.materialize(counselor.getId(), rule.getId(), monday.atTime(11, 0));
+            Long second = availabilityRuleService.materialize(counselor.getId(), rule.getId(), monday.atTime(11, 0));
+
+            assertThat(second).isEqualTo(first);
+            assertThat(scheduleRepository.findById(first)).get()
+                    .satisfies(s -> assertThat(s.getEndTime()).isEqualTo(monday.atTime(11, 30)));
+            assertThatThrownBy(() -> availabilityRuleService
+                    .materialize(counselor.getId(), rule.getId(), monday.atTime(11, 15)))
+                    .isInstanceOf(CustomException.class);
+        } finally {
+            scheduleRepository.deleteAll(scheduleRepository.findOverlapping(counselor.getId(), monday.atStartOfDay(), monday.plusDays(1).atStartOfDay()));
+            ruleRepository.delete(rule);
+            userRepository.delete(counselor);
+        }
+    }
+
+    private User counselor(String nickname) {
+        return User.builder()
+                .name("상담사").nickname(nickname).email(nickname + "@test.com").password("pw")
+                .phone("010-0000-0002").userRole(UserRole.COUNSELOR).build();
+    }
+
+    // 매주 월요일 10:00~12:00, 30분 단위
+    private AvailabilityRule rule(User counselor, Set<LocalDate> exceptDates) {
+        return AvailabilityRule.builder()
+                .counselor(counselor)
+                .dayOfWeek(DayOfWeek.MONDAY)
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(12, 0))
+                .slotMinutes(30)
+                .validFrom(monday.minusDays(7))
+                .exceptDates(new HashSet<>(exceptDates))
+                .build();
+    }
+
+    private Schedule schedule(User counselor, LocalDateTime start, int minutes, boolean available) {
+        return Schedule.builder()
+                .counselor(counselor)
+                .startTime(start)
+                .endTime(start.plusMinutes(minutes))
+                .isAvailable(available)
+                .build();
+    }
+}
@@ -0,0 +1,191 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.schedule.FirstAvailableSlotResponse;
+import service.saju_taro_service.repository.AvailabilityRuleRepository;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.counselor.AvailabilitySearchIndex;
+import service.saju_taro_service.service.counselor.CounselorSearchService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ 빈 시간 검색 인덱스 테스트
+ * 조건(상담 종류/태그/평점/시간대)별 상담사마다 가장 이른 슬롯을 DB 조회 없이 찾는지, 예약 후 증분 갱신되는지,
+ * 재적재 도중 들어온 갱신이 스냅샷 교체 후에도 남는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AvailabilitySearchIndex.class, CounselorSearchService.class})
+class AvailabilitySearchIndexTest {
+
+    @Autowired
+    AvailabilitySearchIndex availabilitySearchIndex;
+    @Autowired
+    CounselorSearchService counselorSearchService;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    ScheduleRepository scheduleRepository;
+    @Autowired
+    AvailabilityRuleRepository ruleRepository;
+    @Autowired
+    UserRepository userRepository;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+    private User tarot;
+    private User ruleOnly;
+    private Schedule tarotEvening;
+
+    @BeforeEach
+    void setUp() {
+        // 타로 + 연애 + 평점 4.8: 20:00, 21:00
+        tarot = counselor("tarot", 4.8, true, "연애,진로", ServiceType.TAROT);
+        tarotEvening = schedule(tarot, tomorrow.atTime(20, 0), true);
+        schedule(tarot, tomorrow.atTime(21, 0), true);
+        // 사주 전문 (상담 종류 불일치): 19:00
+        schedule(counselor("saju", 4.9, true, "연애", ServiceType.SAJU), tomorrow.atTime(19, 0), true);
+        // 평점 미달: 18:00
+        schedule(counselor("lowRating", 3.0, true, "연애", ServiceType.TAROT), tomorrow.atTime(18, 0), true);
+        // 비활성 상담사: 17:00
+        schedule(counselor("inactive", 5.0, false, "연애", ServiceType.TAROT), tomorrow.atTime(17, 0), true);
+        // 반복 규칙만 있는 상담사: 19:00~21:00, 30분 단위 (19:00 슬롯은 이미 저장되어 예약됨)
+        ruleOnly = counselor("ruleOnly", 4.5, true, "연애", ServiceType.TAROT, ServiceType.SAJU);
+        em.persist(AvailabilityRule.builder()
+                .counselor(ruleOnly)
+                .dayOfWeek(tomorrow.getDayOfWeek())
+                .startTime(LocalTime.of(19, 0))
+                .endTime(LocalTime.of(21, 0))
+                .slotMinutes(30)
+                .validFrom(LocalDate.now())
+                .build());
+        schedule(ruleOnly, tomorrow.atTime(19, 0), false);
+        em.flush();
+
+        availabilitySearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("✅ 조건에 맞는 상담사별 가장 이른 슬롯 - 시작 시각 순, DB 조회 0회")
+    void findFirstAvailable_filtersAndOrders() {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        List<FirstAvailableSlotResponse> result = search(20);
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(result).extracting(FirstAvailableSlotResponse::getCounselorId, r -> r.getStartTime().toLocalTime())
+                .containsExactly(
+                        tuple(ruleOnly.getId(), LocalTime.of(19, 30)),
+                        tuple(tarot.getId(), LocalTime.of(20, 0)));
+        assertThat(result.get(0).getRuleId()).isNotNull();
+        assertThat(result.get(1).getScheduleId()).isEqualTo(tarotEvening.getId());
+        assertThat(search(1)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("✅ 슬롯이 예약되면 해당 상담사 구간만 다시 계산 → 다음 빈 슬롯 노출")
+    void refresh_afterBooking() {
+        tarotEvening.setAvailable(false);
+        em.flush();
+        availabilitySearchIndex.refresh(tarot.getId(), tarotEvening.getStartTime(), tarotEvening.getEndTime());
+
+        assertThat(search(20))
+                .filteredOn(r -> r.getCounselorId().equals(tarot.getId()))
+                .extracting(r -> r.getStartTime().toLocalTime())
+                .containsExactly(LocalTime.of(21, 0));
+    }
+
+    @Test
+    @DisplayName("✅ 재적재가 DB 를 읽은 뒤 들어온 갱신도 스냅샷 교체 후 유지")
+    void refreshDuringRebuild_survivesSwap() {
+        // 재적재의 마지막 조회(규칙 상담사 스케줄)가 끝난 직후 20:00 슬롯이 예약되고 갱신 이벤트가 들어옴
+        ScheduleRepository schedules = mock(ScheduleRepository.class, delegatesTo(scheduleRepository));
+        AvailabilitySearchIndex index = new AvailabilitySearchIndex(schedules, ruleRepository, userRepository);
+        ReflectionTestUtils.setField(index, "horizonDays", 14);
+        doAnswer(inv -> {
+            List<Schedule> rows = scheduleRepository.findOverlappingForCounselors(
+                    inv.getArgument(0), inv.getArgument(1), inv.getArgument(2));
+            tarotEvening.setAvailable(false);
+            em.flush();
+            index.refresh(tarot.getId(), tarotEvening.getStartTime(), tarotEvening.getEndTime());
+            return rows;
+        }).when(schedules).findOverlappingForCounselors(anyCollection(), any(), any());
+
+        index.rebuild();
+
+        assertThat(index.findFirstAvailable(ServiceType.TAROT, "연애", 4.0,
+                tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay(), 20))
+                .filteredOn(r -> r.getCounselorId().equals(tarot.getId()))
+                .extracting(r -> r.getStartTime().toLocalTime())
+                .containsExactly(LocalTime.of(21, 0));
+    }
+
+    @Test
+    @DisplayName("✅ 인덱스 범위(horizon) 이후에서 시작하는 검색은 빈 결과")
+    void findFirstAvailable_pastHorizon_returnsEmpty() {
+        LocalDateTime horizon = availabilitySearchIndex.horizonEnd(LocalDateTime.now());
+
+        assertThat(counselorSearchService.findFirstAvailable(ServiceType.TAROT, null, null,
+                horizon, null, 10)).isEmpty();
+        assertThat(counselorSearchService.findFirstAvailable(ServiceType.TAROT, null, null,
+                horizon.plusDays(3), horizon.plusDays(4), 10)).isEmpty();
+    }
+
+    private List<FirstAvailableSlotResponse> search(int limit) {
+        return counselorSearchService.findFirstAvailable(ServiceType.TAROT, "연애", 4.0,
+                tomorrow.atStartOfDay(), tomorrow.plusDays(1).atStartOfDay(), limit);
+    }
+
+    private User counselor(String nickname, double rating, boolean active, String tags, ServiceType... types) {
+        User counselor = User.builder()
+                .name("상담사").nickname(nickname).email(nickname + "@search.com").password("pw")
+                .phone("010-0000-0004").userRole(UserRole.COUNSELOR)
+                .averageRating(rating).isActive(active).build();
+        em.persist(counselor);
+        Profile profile = Profile.builder().counselor(counselor).build();
+        profile.updateTags(List.of(tags.split(",")));
+        profile.updateServiceTypes(List.of(types));
+        em.persist(profile);
+        return counselor;
+    }
+
+    private Schedule schedule(User counselor, LocalDateTime start, boolean available) {
+        Schedule schedule = Schedule.builder()
+                .counselor(counselor)
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .isAvailable(available)
+                .build();
+        em.persist(schedule);
+        return schedule;
+    }
+}
@@ -0,0 +1,145 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import service.saju_taro_service.domain.payment.Payment;
+import service.saju_taro_service.domain.payment.PaymentMethod;
+import service.saju_taro_service.domain.payment.PaymentStatus;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.user.CounselorMonthlyDashboardResponse;
+import service.saju_taro_service.global.util.JwtPrincipal;
+import service.saju_taro_service.service.counselor.CounselorDashboardService;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CounselorDashboardService.class)
+class CounselorDashboardServiceTest {
+
+    @Autowired
+    CounselorDashboardService counselorDashboardService;
+    @Autowired
+    EntityManager em;
+
+    private QueryBudgetFixture fixture;
+    private User user;
+    private User counselor;
+    private User otherCounselor;
+    private ServiceItem serviceItem;
+    private final YearMonth month = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        fixture = new QueryBudgetFixture(em);
+
+        user = fixture.persistUser(UserRole.USER);
+        counselor = fixture.persistUser(UserRole.COUNSELOR);
+        otherCounselor = fixture.persistUser(UserRole.COUNSELOR);
+
+        serviceItem = new ServiceItem();
+        serviceItem.setServiceType(ServiceType.TAROT);
+        serviceItem.setTitle("타로 상담");
+        serviceItem.setDuration(30);
+        serviceItem.setPrice(30000);
+        em.persist(serviceItem);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtPrincipal(counselor.getId(), "COUNSELOR"), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 월간 매출 - 해당 상담사 / 해당 월 / PAID 결제만 합산")
+    void monthlyRevenue_sumsOnlyPaidPaymentsOfCounselorInMonth() {
+        persistPaidReservation(counselor, month.atDay(1).atTime(10, 0), 30000, PaymentStatus.PAID);
+        persistPaidReservation(counselor, month.atEndOfMonth().atTime(18, 0), 20000, PaymentStatus.PAID);
+        persistPaidReservation(counselor, month.atDay(2).atTime(10, 0), 50000, PaymentStatus.REFUND);
+        persistPaidReservation(counselor, month.plusMonths(1).atDay(1).atTime(10, 0), 70000, PaymentStatus.PAID);
+        persistPaidReservation(otherCounselor, month.atDay(3).atTime(10, 0), 90000, PaymentStatus.PAID);
+        em.flush();
+        em.clear();
+
+        CounselorMonthlyDashboardResponse res =
+                counselorDashboardService.getMonthlyDashboard(month.getYear(), month.getMonthValue());
+
+        assertThat(res.getTotalRevenue()).isEqualTo(50000.0);
+    }
+
+    @Test
+    @DisplayName("✅ 후기 통계 - 상담사에 유지되는 평균 평점 / 후기 수 사용 (롤업 백필 여부와 무관)")
+    void reviewStats_comeFromCounselorAggregate() {
+        counselor.updateRating(4.5, 12);
+        em.flush();
+        em.clear();
+
+        CounselorMonthlyDashboardResponse res =
+                counselorDashboardService.getMonthlyDashboard(month.getYear(), month.getMonthValue());
+
+        assertThat(res.getAverageRating()).isEqualTo(4.5);
+        assertThat(res.getReviewCount()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("✅ 월간 대시보드 - 결제/예약 건수가 늘어도 SQL 실행 횟수는 일정해야 함")
+    void monthlyDashboard_statementCountDoesNotGrowWithData() {
+        long small = statementsForMonthlyDashboardAfterSeeding(3);
+        long large = statementsForMonthlyDashboardAfterSeeding(30);
+
+        assertThat(large)
+                .as("예약/결제 수에 비례해 쿼리가 늘어나면 안 됩니다.")
+                .isEqualTo(small);
+    }
+
+    private long statementsForMonthlyDashboardAfterSeeding(int count) {
+        for (int i = 0; i < count; i++) {
+            LocalDateTime time = month.atDay(1 + i % month.lengthOfMonth()).atTime(10, 0);
+            persistPaidReservation(counselor, time, 10000, PaymentStatus.PAID);
+            persistPaidReservation(otherCounselor, time, 10000, PaymentStatus.PAID);
+        }
+        return fixture.countQueries(() ->
+                counselorDashboardService.getMonthlyDashboard(month.getYear(), month.getMonthValue()));
+    }
+
+
+    private void persistPaidReservation(User counselor, LocalDateTime time, int amount, PaymentStatus status) {
+        Reservation reservation = Reservation.builder()
+                .user(user)
+                .counselor(counselor)
+                .serviceItem(serviceItem)
+                .reservationTime(time)
+                .build();
+        em.persist(reservation);
+
+        Payment payment = new Payment();
+        payment.setReservation(reservation);
+        payment.setAmount(amount);
+        payment.setMethod(PaymentMethod.CARD);
+        payment.setPaymentStatus(status);
+        payment.setTransactionId("tx-" + reservation.getId());
+        payment.setPaidAt(time.minusDays(1));
+        em.persist(payment);
+    }
+}
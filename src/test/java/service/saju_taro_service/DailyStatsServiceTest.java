@@ -0,0 +1,245 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import service.saju_taro_service.domain.payment.Payment;
+import service.saju_taro_service.domain.payment.PaymentMethod;
+import service.saju_taro_service.domain.payment.PaymentStatus;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.review.Review;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.stats.DailyStats;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.repository.DailyStatsRepository;
+import service.saju_taro_service.service.admin.AdminDashBoardService;
+import service.saju_taro_service.service.stats.DailyStatsBackfill;
+import service.saju_taro_service.service.stats.DailyStatsService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ daily_stats 롤업 테스트 (네이티브 upsert 실제 실행)
+ * 증분 반영 / 차감(일괄 차감 포함)이 같은 (날짜, 상담사) 행에 누적되는지, 재계산이 원본 기준으로 행을 정정하는지,
+ * 전체 이력 백필이 1회만 수행되는지, 관리자 대시보드가 재계산 / 증분이 반영된 롤업을 그대로 읽는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({DailyStatsService.class, DailyStatsBackfill.class, AdminDashBoardService.class})
+class DailyStatsServiceTest {
+
+    @Autowired
+    DailyStatsService dailyStatsService;
+    @Autowired
+    DailyStatsRepository dailyStatsRepository;
+    @Autowired
+    DailyStatsBackfill dailyStatsBackfill;
+    @Autowired
+    AdminDashBoardService adminDashBoardService;
+    @Autowired
+    EntityManager em;
+
+    private User user;
+    private User counselor;
+    private User otherCounselor;
+    private ServiceItem item;
+    private int seq;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        user = user(UserRole.USER);
+        counselor = user(UserRole.COUNSELOR);
+        otherCounselor = user(UserRole.COUNSELOR);
+        item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        em.persist(item);
+    }
+
+    @Test
+    @DisplayName("✅ 증분 - 예약/결제/후기 반영과 환불/후기 비활성화 차감이 같은 행에 누적")
+    void deltas_accumulateAndRevertOnSameRow() {
+        Reservation reservation = reservation(counselor);
+        Payment first = payment(reservation, 30000);
+        Payment second = payment(reservation(counselor), 20000);
+        Review review = review(reservation, 4);
+
+        dailyStatsService.recordReservation(reservation);
+        dailyStatsService.recordPayment(first);
+        dailyStatsService.recordPayment(second);
+        dailyStatsService.revertPayment(first);
+        dailyStatsService.recordReview(review);
+        dailyStatsService.recordReview(review(reservation(counselor), 5));
+        dailyStatsService.revertReview(review);
+
+        DailyStats row = row(today, counselor);
+        assertThat(row.getReservationCount()).isEqualTo(1);
+        assertThat(row.getPaidCount()).isEqualTo(1);
+        assertThat(row.getRevenue()).isEqualTo(20000);
+        assertThat(row.getRatingSum()).isEqualTo(5);
+        assertThat(row.getRatingCount()).isEqualTo(1);
+        assertThat(dailyStatsRepository.findAll()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("✅ 일괄 환불 차감 - (결제일, 상담사)별로 합산해 행마다 한 번 반영")
+    void revertPayments_groupsByDateAndCounselor() {
+        Payment a = payment(reservation(counselor), 30000);
+        Payment b = payment(reservation(counselor), 20000);
+        Payment c = payment(reservation(otherCounselor), 10000);
+        dailyStatsRepository.upsertDelta(today, counselor.getId(), 0, 2, 50000, 0, 0);
+        dailyStatsRepository.upsertDelta(today, otherCounselor.getId(), 0, 1, 10000, 0, 0);
+
+        dailyStatsService.revertPayments(List.of(a, b, c));
+
+        assertThat(row(today, counselor))
+                .extracting(DailyStats::getPaidCount, DailyStats::getRevenue)
+                .containsExactly(0L, 0L);
+        assertThat(row(today, otherCounselor))
+                .extracting(DailyStats::getPaidCount, DailyStats::getRevenue)
+                .containsExactly(0L, 0L);
+    }
+
+    @Test
+    @DisplayName("✅ 재계산 - 어긋난 행은 원본 값으로 정정하고(행 유지), 원본에 없는 행은 0 으로 정정")
+    void reconcile_overwritesDriftAndZeroesStaleRows() {
+        Reservation reservation = reservation(counselor);
+        payment(reservation, 30000);
+        review(reservation, 5);
+        em.flush();
+        // 어긋난 기존 행 (증분 누락/중복 가정)
+        dailyStatsRepository.upsertDelta(today, counselor.getId(), 7, 3, 90000, 1, 1);
+        dailyStatsRepository.upsertDelta(today.minusDays(1), otherCounselor.getId(), 2, 0, 0, 0, 0);
+        Long driftedId = row(today, counselor).getId();
+
+        int rows = dailyStatsService.reconcile(today.minusDays(1), today);
+
+        assertThat(rows).isEqualTo(2);
+        DailyStats fixed = row(today, counselor);
+        assertThat(fixed.getId()).isEqualTo(driftedId);
+        assertThat(fixed)
+                .extracting(DailyStats::getReservationCount, DailyStats::getPaidCount, DailyStats::getRevenue,
+                        DailyStats::getRatingSum, DailyStats::getRatingCount)
+                .containsExactly(1L, 1L, 30000L, 5L, 1L);
+        assertThat(row(today.minusDays(1), otherCounselor))
+                .extracting(DailyStats::getReservationCount, DailyStats::getPaidCount, DailyStats::getRevenue)
+                .containsExactly(0L, 0L, 0L);
+        // 이미 맞는 행은 다시 쓰지 않음
+        assertThat(dailyStatsService.reconcile(today.minusDays(1), today)).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 백필 - 가장 오래된 예약일부터 롤업을 채우고, 이미 채워졌으면 건너뜀")
+    void backfill_fillsHistoryOnce() {
+        LocalDate past = today.minusDays(40);
+        Reservation reservation = reservation(counselor);
+        Payment paid = payment(reservation, 30000);
+        paid.setPaidAt(past.atTime(10, 0));
+        em.flush();
+        em.createNativeQuery("UPDATE reservations SET created_at = :at WHERE id = :id")
+                .setParameter("at", past.atTime(9, 0))
+                .setParameter("id", reservation.getId())
+                .executeUpdate();
+
+        assertThat(dailyStatsBackfill.backfill()).isEqualTo(1);
+
+        assertThat(row(past, counselor))
+                .extracting(DailyStats::getReservationCount, DailyStats::getPaidCount, DailyStats::getRevenue)
+                .containsExactly(1L, 1L, 30000L);
+        assertThat(dailyStatsBackfill.backfill()).isZero();
+    }
+
+    @Test
+    @DisplayName("✅ 관리자 대시보드 - 재계산된 롤업 합계를 읽고, 이후 증분도 바로 반영 (결제 대기 건은 매출 제외)")
+    void adminDashboard_readsReconciledRollupAndLaterDeltas() {
+        Reservation first = reservation(counselor);
+        payment(first, 1000);
+        review(first, 3);
+        Reservation second = reservation(otherCounselor);
+        payment(second, 2000);
+        review(second, 5);
+        Payment pending = payment(reservation(counselor), 3000);
+        pending.setPaymentStatus(PaymentStatus.PENDING);
+        em.flush();
+
+        dailyStatsService.reconcile(today.minusDays(1), today);
+        Map<String, Object> reconciled = adminDashBoardService.getDashboardStats(today.minusDays(3), today);
+
+        assertThat(reconciled.get("totalRevenue")).isEqualTo(3000.0);
+        assertThat(reconciled.get("averageRating")).isEqualTo(4.0);
+        assertThat(reconciled.get("dailyReservationCount")).isEqualTo(Map.of(today.toString(), 3L));
+        assertThat(adminDashBoardService.getMonthlyRevenueStats(today.getYear()).get("grandTotal")).isEqualTo(3000.0);
+
+        pending.setPaymentStatus(PaymentStatus.PAID);
+        dailyStatsService.recordPayment(pending);
+        assertThat(adminDashBoardService.getDashboardStats(today.minusDays(3), today).get("totalRevenue"))
+                .isEqualTo(6000.0);
+    }
+
+    private DailyStats row(LocalDate date, User counselor) {
+        em.clear(); // 네이티브 upsert 는 영속성 컨텍스트를 거치지 않음
+        return dailyStatsRepository.findByStatDateBetween(date, date).stream()
+                .filter(d -> d.getCounselorId().equals(counselor.getId()))
+                .findFirst().orElseThrow();
+    }
+
+    private Reservation reservation(User counselor) {
+        Reservation reservation = Reservation.builder()
+                .user(user)
+                .counselor(counselor)
+                .serviceItem(item)
+                .reservationTime(LocalDateTime.now().plusDays(1))
+                .build();
+        em.persist(reservation);
+        return reservation;
+    }
+
+    private Payment payment(Reservation reservation, int amount) {
+        Payment payment = new Payment();
+        payment.setReservation(reservation);
+        payment.setAmount(amount);
+        payment.setMethod(PaymentMethod.CARD);
+        payment.setPaymentStatus(PaymentStatus.PAID);
+        payment.setTransactionId("tx-stats-" + (++seq));
+        payment.setPaidAt(LocalDateTime.now());
+        em.persist(payment);
+        return payment;
+    }
+
+    private Review review(Reservation reservation, int rating) {
+        Review review = Review.builder()
+                .user(user)
+                .counselor(reservation.getCounselor())
+                .reservation(reservation)
+                .rating(rating)
+                .build();
+        em.persist(review);
+        return review;
+    }
+
+    private User user(UserRole role) {
+        seq++;
+        User u = User.builder()
+                .name("stats" + seq).nickname("stats" + seq).email("stats" + seq + "@test.com").password("pw")
+                .phone("010-0000-0007").userRole(role).build();
+        em.persist(u);
+        return u;
+    }
+}
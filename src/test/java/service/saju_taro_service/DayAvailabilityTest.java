@@ -0,0 +1,258 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.schedule.AvailabilityRule;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse;
+import service.saju_taro_service.dto.schedule.CounselorCalendarResponse.DaySchedule;
+import service.saju_taro_service.dto.schedule.DayAvailability;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.service.counselor.CounselorCalendarService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 일별 스케줄 비트맵 테스트
+ * 월 달력이 캐시된 비트맵만으로 구성되는지, 변경 시 해당 날짜만 다시 계산되는지, 반복 규칙 슬롯이 포함되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CounselorCalendarService.class, DayAvailabilityService.class, ConcurrentMapCacheManager.class, EventPublisher.class})
+class DayAvailabilityTest {
+
+    @Autowired
+    CounselorCalendarService counselorCalendarService;
+    @Autowired
+    DayAvailabilityService dayAvailabilityService;
+    @Autowired
+    EntityManager em;
+
+    private Statistics statistics;
+    private User counselor;
+    private final YearMonth month = YearMonth.now().plusMonths(1);
+    private final LocalDate day = month.atDay(3);
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        counselor = User.builder()
+                .name("상담사").nickname("bitmap").email("bitmap@test.com").password("pw")
+                .phone("010-0000-0003").userRole(UserRole.COUNSELOR).build();
+        em.persist(counselor);
+    }
+
+    @Test
+    @DisplayName("✅ 월 달력 - 첫 조회는 스케줄 1회 + 반복 규칙 1회, 이후는 캐시된 비트맵만 사용 (SQL 0회)")
+    void calendar_readsBitmaps() {
+        // 10:00~11:00 가능 / 11:00~11:30 예약됨 (맞닿은 두 스케줄) / 14:00~15:30 가능
+        em.persist(schedule(day.atTime(10, 0), 60, true));
+        em.persist(schedule(day.atTime(11, 0), 30, false));
+        em.persist(schedule(day.atTime(14, 0), 90, true));
+        em.flush();
+        em.clear();
+
+        statistics.clear();
+        CounselorCalendarResponse first = calendar("COUNSELOR");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        statistics.clear();
+        CounselorCalendarResponse cached = calendar("COUNSELOR");
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        assertThat(first.getDays()).hasSize(month.lengthOfMonth());
+        assertThat(cached.getDays()).usingRecursiveFieldByFieldElementComparator().isEqualTo(first.getDays());
+        DaySchedule target = dayOf(first);
+        assertThat(target.isHasReservation()).isTrue();
+        assertThat(target.getSchedules())
+                .extracting("startTime", "endTime", "status")
+                .containsExactly(
+                        tuple("10:00", "11:00", "가능"),
+                        tuple("11:00", "11:30", "예약됨"),
+                        tuple("14:00", "15:30", "가능"));
+
+        // 사용자는 예약된 슬롯만 회색으로 표시
+        assertThat(dayOf(calendar("USER")).getSchedules())
+                .extracting("startTime", "status")
+                .containsExactly(tuple("11:00", "회색표시"));
+    }
+
+    @Test
+    @DisplayName("✅ 스케줄 변경 후 해당 날짜만 제거 → 그 날짜만 다시 조회 (스케줄 1회 + 반복 규칙 1회)")
+    void evict_recomputesOnlyThatDay() {
+        Schedule schedule = schedule(day.atTime(10, 0), 30, true);
+        em.persist(schedule);
+        em.flush();
+        calendar("COUNSELOR");
+
+        schedule.setAvailable(false);
+        em.flush();
+        dayAvailabilityService.evict(schedule);
+
+        statistics.clear();
+        assertThat(dayOf(calendar("COUNSELOR")).getSchedules())
+                .extracting("status")
+                .containsExactly("예약됨");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("✅ 반복 규칙만 있는 상담사 - 달력에 규칙 슬롯이 예약 가능으로 표시 (저장된 스케줄과 겹치는 슬롯 제외)")
+    void calendar_includesRuleSlots() {
+        em.persist(AvailabilityRule.builder()
+                .counselor(counselor)
+                .dayOfWeek(day.getDayOfWeek())
+                .startTime(LocalTime.of(10, 0))
+                .endTime(LocalTime.of(12, 0))
+                .slotMinutes(30)
+                .validFrom(month.atDay(1))
+                .build());
+        em.flush();
+
+        DaySchedule ruleOnly = dayOf(calendar("COUNSELOR"));
+        assertThat(ruleOnly.isHasReservation()).isFalse();
+        assertThat(ruleOnly.getSchedules())
+                .extracting("startTime", "endTime", "available", "status")
+                .containsExactly(
+                        tuple("10:00", "10:30", true, "가능"),
+                        tuple("10:30", "11:00", true, "가능"),
+                        tuple("11:00", "11:30", true, "가능"),
+                        tuple("11:30", "12:00", true, "가능"));
+        // 규칙 요일이 아닌 날짜는 비어 있음
+        assertThat(dayOf(calendar("COUNSELOR"), day.plusDays(1)).getSchedules()).isEmpty();
+
+        // 규칙 슬롯이 예약되어 저장되면 저장된 스케줄로 표시, 같은 시간의 규칙 슬롯은 제외
+        Schedule booked = schedule(day.atTime(10, 30), 30, false);
+        em.persist(booked);
+        em.flush();
+        dayAvailabilityService.evict(booked);
+
+        DaySchedule merged = dayOf(calendar("COUNSELOR"));
+        assertThat(merged.isHasReservation()).isTrue();
+        assertThat(merged.getSchedules())
+                .extracting("startTime", "status")
+                .containsExactly(
+                        tuple("10:00", "가능"),
+                        tuple("10:30", "예약됨"),
+                        tuple("11:00", "가능"),
+                        tuple("11:30", "가능"));
+
+        // 사용자는 예약된 슬롯만 표시 (규칙 슬롯 제외)
+        assertThat(dayOf(calendar("USER")).getSchedules())
+                .extracting("startTime", "status")
+                .containsExactly(tuple("10:30", "회색표시"));
+    }
+
+    @Test
+    @DisplayName("✅ 15분 격자에 맞지 않는 스케줄 → 비트맵 대신 기존 조회로 응답")
+    void unalignedSchedule_fallsBack() {
+        em.persist(schedule(day.atTime(10, 10), 50, true));
+        em.flush();
+
+        DayAvailability bitmap = dayAvailabilityService.getDays(counselor.getId(), day, day).get(day);
+        assertThat(bitmap.isExact()).isFalse();
+        assertThat(dayOf(calendar("COUNSELOR")).getSchedules())
+                .extracting("startTime", "endTime")
+                .containsExactly(tuple("10:10", "11:00"));
+    }
+
+    @Test
+    @DisplayName("✅ 기존 조회 경로 - 스케줄 조회 1회, 예약 여부는 점유 상태 기준 (취소된 예약만 있는 슬롯은 예약 가능)")
+    void fallback_singleQuery() {
+        Schedule unaligned = schedule(day.atTime(9, 10), 50, true);
+        Schedule rebooked = schedule(day.atTime(13, 0), 30, false);
+        Schedule cancelledOnly = schedule(day.plusDays(1).atTime(9, 10), 50, true);
+        em.persist(unaligned);
+        em.persist(rebooked);
+        em.persist(cancelledOnly);
+        User user = User.builder()
+                .name("사용자").nickname("booker").email("booker@test.com").password("pw")
+                .phone("010-0000-0005").userRole(UserRole.USER).build();
+        em.persist(user);
+        ServiceItem item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        em.persist(item);
+        // 취소 후 다시 예약된 스케줄
+        for (ReservationStatus status : new ReservationStatus[]{ReservationStatus.CANCELLED, ReservationStatus.RESERVED}) {
+            em.persist(Reservation.builder()
+                    .user(user).counselor(counselor).schedule(rebooked).serviceItem(item)
+                    .reservationTime(rebooked.getStartTime()).reservationStatus(status)
+                    .build());
+        }
+        // 취소된 예약만 있는 스케줄 (다시 예약 가능)
+        em.persist(Reservation.builder()
+                .user(user).counselor(counselor).schedule(cancelledOnly).serviceItem(item)
+                .reservationTime(cancelledOnly.getStartTime()).reservationStatus(ReservationStatus.CANCELLED)
+                .build());
+        em.flush();
+        calendar("COUNSELOR"); // 비트맵 캐시 적재
+
+        statistics.clear();
+        DaySchedule counselorView = dayOf(calendar("COUNSELOR"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(counselorView.isHasReservation()).isTrue();
+        assertThat(counselorView.getSchedules())
+                .extracting("startTime", "endTime", "status")
+                .containsExactly(
+                        tuple("09:10", "10:00", "가능"),
+                        tuple("13:00", "13:30", "예약됨"));
+
+        assertThat(dayOf(calendar("USER")).getSchedules())
+                .extracting("startTime", "status")
+                .containsExactly(tuple("13:00", "회색표시"));
+
+        // 취소된 예약은 예약으로 보지 않음 (비트맵 경로와 같이 점유 상태 기준)
+        DaySchedule cancelledDay = dayOf(calendar("COUNSELOR"), day.plusDays(1));
+        assertThat(cancelledDay.isHasReservation()).isFalse();
+        assertThat(cancelledDay.getSchedules()).extracting("status").containsExactly("가능");
+        assertThat(dayOf(calendar("USER"), day.plusDays(1)).getSchedules()).isEmpty();
+    }
+
+    private CounselorCalendarResponse calendar(String role) {
+        return counselorCalendarService.getCalendar(counselor.getId(), month.getYear(), month.getMonthValue(), role);
+    }
+
+    private DaySchedule dayOf(CounselorCalendarResponse response) {
+        return dayOf(response, day);
+    }
+
+    private DaySchedule dayOf(CounselorCalendarResponse response, LocalDate date) {
+        return response.getDays().stream().filter(d -> d.getDate().equals(date)).findFirst().orElseThrow();
+    }
+
+    private Schedule schedule(LocalDateTime start, int minutes, boolean available) {
+        return Schedule.builder()
+                .counselor(counselor)
+                .startTime(start)
+                .endTime(start.plusMinutes(minutes))
+                .isAvailable(available)
+                .build();
+    }
+}
@@ -0,0 +1,53 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import service.saju_taro_service.global.util.IntervalTree;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    @Test
+    @DisplayName("✅ 반열림 구간 - 맞닿은 구간은 겹치지 않음")
+    void halfOpen() {
+        IntervalTree<Integer, String> tree = new IntervalTree<>();
+        tree.insert(10, 20, "a");
+
+        assertThat(tree.findAnyOverlap(20, 30)).isNull();
+        assertThat(tree.findAnyOverlap(0, 10)).isNull();
+        assertThat(tree.findAnyOverlap(19, 21)).isEqualTo("a");
+        assertThat(tree.findAnyOverlap(0, 100)).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("✅ 무작위 구간 5000개 - 전수 비교와 겹침 여부 일치")
+    void matchesBruteForce() {
+        Random random = new Random(42);
+        IntervalTree<Integer, int[]> tree = new IntervalTree<>();
+        List<int[]> all = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            int start = random.nextInt(1_000_000);
+            int[] interval = {start, start + 1 + random.nextInt(200)};
+            tree.insert(interval[0], interval[1], interval);
+            all.add(interval);
+        }
+
+        for (int i = 0; i < 5000; i++) {
+            int start = random.nextInt(1_000_000);
+            int end = start + 1 + random.nextInt(200);
+            boolean expected = all.stream().anyMatch(iv -> iv[0] < end && start < iv[1]);
+
+            int[] found = tree.findAnyOverlap(start, end);
+            assertThat(found != null).isEqualTo(expected);
+            if (found != null) {
+                assertThat(found[0] < end && start < found[1]).isTrue();
+            }
+        }
+        assertThat(tree.size()).isEqualTo(5000);
+    }
+}
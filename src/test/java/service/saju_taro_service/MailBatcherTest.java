@@ -0,0 +1,158 @@
+package service.saju_taro_service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import service.saju_taro_service.global.mail.MailTemplate;
+import service.saju_taro_service.service.notification.MailBatcher;
+import service.saju_taro_service.service.notification.NotificationOutboxService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ 메일 묶음 발송 테스트 (GreenMail 내장 SMTP)
+ * 묶음마다 send(MimeMessage...) 한 번(= SMTP 연결 1개)으로 발송되는지, 실제 수신 내용이 템플릿대로인지,
+ * 발송된 EMAIL 행만 완료되고 실패한 메일의 행은 발송이 미뤄지는지 검증
+ */
+class MailBatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    /** send(MimeMessage...) 호출마다 묶음 크기를 기록 (JavaMailSenderImpl 은 호출당 연결 1개) */
+    static class CountingMailSender extends JavaMailSenderImpl {
+        final List<Integer> connections = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            connections.add(mimeMessages.length);
+            super.send(mimeMessages);
+        }
+    }
+
+    private static final MailTemplate TEMPLATE = MailTemplate.compile("안녕하세요, %s님.<br><br>%s");
+
+    private CountingMailSender mailSender;
+    private final NotificationOutboxService outboxService = mock(NotificationOutboxService.class);
+    private MailBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new CountingMailSender();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        batcher = start(mailSender);
+    }
+
+    private MailBatcher start(JavaMailSenderImpl sender) {
+        MailBatcher mailBatcher = new MailBatcher(sender, outboxService);
+        ReflectionTestUtils.setField(mailBatcher, "batchSize", 10);
+        // 묶음 경계가 크기(10)로만 정해지도록 창을 넉넉히 (첫 MimeMessage 생성이 느려도 묶음이 쪼개지지 않음)
+        ReflectionTestUtils.setField(mailBatcher, "batchWindow", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(mailBatcher, "concurrency", 1);
+        ReflectionTestUtils.setField(mailBatcher, "queueCapacity", 100);
+        mailBatcher.start();
+        return mailBatcher;
+    }
+
+    @Test
+    @DisplayName("✅ 25통 → SMTP 연결 3번(10/10/5)으로 모두 수신, 본문은 템플릿대로, 묶음마다 발송된 행 완료 처리")
+    void sendsBatchesOverOneConnectionEach() throws Exception {
+        for (int i = 0; i < 25; i++) {
+            assertThat(batcher.enqueue((long) i, "user" + i + "@test.com", "예약 완료 알림",
+                    TEMPLATE.render("사용자" + i, "예약이 완료되었습니다."))).isTrue();
+        }
+
+        batcher.stop(); // 남은 메일까지 발송 후 종료
+
+        assertThat(mailSender.connections).containsExactly(10, 10, 5);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(25);
+        MimeMessage first = greenMail.getReceivedMessagesForDomain("user0@test.com")[0];
+        assertThat(first.getSubject()).isEqualTo("예약 완료 알림");
+        assertThat(html(first)).isEqualTo("안녕하세요, 사용자0님.<br><br>예약이 완료되었습니다.");
+        ArgumentCaptor<Collection<Long>> done = ArgumentCaptor.captor();
+        verify(outboxService, times(3)).markDone(done.capture());
+        assertThat(done.getAllValues()).flatMap(ids -> ids).hasSize(25).doesNotHaveDuplicates();
+        verify(outboxService, never()).deferEmail(argThat(ids -> !ids.isEmpty()));
+    }
+
+    @Test
+    @DisplayName("✅ 일부 수신자 실패(MailSendException) → 실패한 메일의 행만 발송 연기, 나머지는 완료")
+    void partialFailure_defersOnlyFailedRows() throws Exception {
+        JavaMailSenderImpl rejecting = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                Map<Object, Exception> failed = new LinkedHashMap<>();
+                failed.put(mimeMessages[1], new MessagingException("550 mailbox unavailable"));
+                throw new MailSendException(failed);
+            }
+        };
+        MailBatcher partial = start(rejecting);
+
+        partial.enqueue(1L, "a@test.com", "알림", "a");
+        partial.enqueue(2L, "b@test.com", "알림", "b");
+        partial.enqueue(3L, "c@test.com", "알림", "c");
+        partial.stop();
+        batcher.stop();
+
+        verify(outboxService).deferEmail(List.of(2L));
+        verify(outboxService).markDone(List.of(1L, 3L));
+        assertThat(partial.stats()).containsEntry("failed", 1L);
+    }
+
+    @Test
+    @DisplayName("✅ SMTP 연결 실패 → 묶음 전체 행 발송 연기 (완료 처리 없음)")
+    void connectionFailure_defersWholeBatch() throws Exception {
+        JavaMailSenderImpl unreachable = new JavaMailSenderImpl();
+        unreachable.setHost("127.0.0.1");
+        unreachable.setPort(1); // 열려 있지 않은 포트
+        MailBatcher down = start(unreachable);
+
+        down.enqueue(1L, "a@test.com", "알림", "a");
+        down.enqueue(2L, "b@test.com", "알림", "b");
+        down.stop();
+        batcher.stop();
+
+        ArgumentCaptor<Collection<Long>> deferred = ArgumentCaptor.captor();
+        verify(outboxService).deferEmail(deferred.capture());
+        assertThat(deferred.getValue()).containsExactlyInAnyOrder(1L, 2L);
+        verify(outboxService, never()).markDone(argThat(ids -> !ids.isEmpty()));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 템플릿 - 자리 순서대로 채우고, 값 개수가 다르면 예외")
+    void template_rendersInOrder() throws Exception {
+        assertThat(TEMPLATE.render("홍길동", "결제 완료")).isEqualTo("안녕하세요, 홍길동님.<br><br>결제 완료");
+        assertThatThrownBy(() -> TEMPLATE.render("홍길동")).isInstanceOf(IllegalArgumentException.class);
+        batcher.stop();
+    }
+
+    /** multipart(mixed → related → html) 안의 HTML 본문 */
+    private String html(Part part) throws Exception {
+        Object content = part.getContent();
+        return content instanceof Multipart multipart ? html(multipart.getBodyPart(0)) : (String) content;
+    }
+}
@@ -0,0 +1,155 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import service.saju_taro_service.domain.notification.Notification;
+import service.saju_taro_service.domain.notification.NotificationType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.global.event.NotificationEvent;
+import service.saju_taro_service.global.event.NotificationEventListener;
+import service.saju_taro_service.global.fcm.PushMessage;
+import service.saju_taro_service.repository.NotificationRepository;
+import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.notification.MailBatcher;
+import service.saju_taro_service.service.notification.NotificationOutboxService;
+import service.saju_taro_service.service.notification.PushBatcher;
+import service.saju_taro_service.service.notification.PushRetryScheduler;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ 알림 발송 리스너 테스트 - 채널별 아웃박스 행 처리 (내부 알림 저장 실패는 예외로 알려 재저장, FCM / 이메일은 행 ID 와 함께 대기열로 / 오류 유형별 처리는 PushBatcherTest)
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationEventListenerTest {
+
+    @Mock
+    NotificationRepository notificationRepository;
+    @Mock
+    UserRepository userRepository;
+    @Mock
+    PushBatcher pushBatcher;
+    @Mock
+    MailBatcher mailBatcher;
+    @Mock
+    PushRetryScheduler pushRetryScheduler;
+    @Mock
+    NotificationOutboxService outboxService;
+
+    @InjectMocks
+    NotificationEventListener listener;
+
+    private User user;
+    private final NotificationEvent event = new NotificationEvent(1L, 2L, NotificationType.PAYMENT, "결제 완료");
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(1L);
+        user.setName("사용자");
+        user.setEmail("user@test.com");
+        user.setFcmToken("token-1");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    @DisplayName("✅ INBOX 행 - 내부 알림만 저장 (푸시 / 이메일은 각자의 행에서 처리)")
+    void saveInbox_storesNotificationOnly() {
+        listener.saveInbox(event);
+
+        ArgumentCaptor<Notification> saved = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationRepository).save(saved.capture());
+        assertThat(saved.getValue().getUser()).isSameAs(user);
+        assertThat(saved.getValue().getMessage()).isEqualTo("결제 완료");
+        verifyNoInteractions(pushBatcher, mailBatcher, pushRetryScheduler, outboxService);
+    }
+
+    @Test
+    @DisplayName("✅ EMAIL 행 발송 - 행 ID 와 함께 대기열에 넣음 (본문은 미리 나눠 둔 템플릿으로 생성, 완료 처리는 MailBatcher)")
+    void sendEmail_enqueuesWithOutboxRow() {
+        when(mailBatcher.enqueue(any(), any(), any(), any())).thenReturn(true);
+
+        assertThat(listener.sendEmail(20L, event)).isTrue();
+
+        verify(mailBatcher).enqueue(20L, "user@test.com", "결제 완료 알림",
+                "안녕하세요, 사용자님.<br><br>\n결제 완료<br><br>\n- 사주타로 서비스 드림 -\n");
+        verify(outboxService, never()).deferEmail(any());
+    }
+
+    @Test
+    @DisplayName("✅ PUSH 행 발송 - 행 ID 와 함께 대기열에 넣고, 완료 처리는 PushBatcher 에 넘김")
+    void sendPush_enqueuesWithOutboxRow() {
+        when(pushBatcher.enqueue(eq(10L), any(), eq(0))).thenReturn(true);
+
+        assertThat(listener.sendPush(10L, event, 0)).isTrue();
+
+        ArgumentCaptor<PushMessage> message = ArgumentCaptor.forClass(PushMessage.class);
+        verify(pushBatcher).enqueue(eq(10L), message.capture(), eq(0));
+        assertThat(message.getValue().token()).isEqualTo("token-1");
+        assertThat(message.getValue().title()).isEqualTo("결제 완료");
+        assertThat(message.getValue().data()).containsEntry("type", "PAYMENT").containsEntry("counselorId", "2");
+        verifyNoInteractions(pushRetryScheduler);
+    }
+
+    @Test
+    @DisplayName("✅ 대기열이 가득 차면 같은 행을 다음 회차 재시도로 예약, 최대 횟수를 넘기면 행 실패 처리")
+    void fullQueue_schedulesRetry() {
+        when(pushBatcher.enqueue(any(), any(), anyInt())).thenReturn(false);
+        when(pushRetryScheduler.reschedule(10L, 3)).thenReturn(true);
+        when(pushRetryScheduler.reschedule(11L, 4)).thenReturn(false);
+
+        assertThat(listener.sendPush(10L, event, 2)).isTrue();
+        assertThat(listener.sendPush(11L, event, 3)).isTrue();
+
+        verify(pushRetryScheduler).reschedule(10L, 3);
+        verify(outboxService).markFailed(List.of(11L));
+        verify(outboxService, never()).markFailed(List.of(10L));
+        assertThat(user.getFcmToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("✅ 그 사이 토큰이 지워졌으면 보낼 것이 없음 → 릴레이가 바로 완료 처리")
+    void sendPush_withoutToken_completesImmediately() {
+        user.setFcmToken(null);
+
+        assertThat(listener.sendPush(10L, event, 0)).isFalse();
+
+        verifyNoInteractions(pushBatcher, pushRetryScheduler);
+    }
+
+    @Test
+    @DisplayName("✅ 메일 대기열이 가득 차면 EMAIL 행만 발송을 미룸 (그 사이 이메일이 지워졌으면 바로 완료)")
+    void fullMailQueue_defersEmailOnly() {
+        when(mailBatcher.enqueue(any(), any(), any(), any())).thenReturn(false);
+
+        assertThat(listener.sendEmail(20L, event)).isTrue();
+        verify(outboxService).deferEmail(List.of(20L));
+
+        user.setEmail(" ");
+        assertThat(listener.sendEmail(21L, event)).isFalse();
+        verify(mailBatcher, times(1)).enqueue(any(), any(), any(), any());
+        verifyNoInteractions(pushBatcher, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("✅ 내부 알림 저장 실패 → 예외 그대로 (릴레이가 INBOX 행을 완료하지 않아 다시 저장, 푸시 / 이메일 행과 무관)")
+    void inboxFailure_propagatesForRedelivery() {
+        when(notificationRepository.save(any())).thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(() -> listener.saveInbox(event)).isInstanceOf(IllegalStateException.class);
+
+        verifyNoInteractions(pushBatcher, mailBatcher, outboxService);
+    }
+}
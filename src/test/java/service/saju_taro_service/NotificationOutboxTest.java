@@ -0,0 +1,234 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import service.saju_taro_service.domain.notification.NotificationChannel;
+import service.saju_taro_service.domain.notification.NotificationOutbox;
+import service.saju_taro_service.domain.notification.NotificationOutboxStatus;
+import service.saju_taro_service.domain.notification.NotificationType;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.event.NotificationEvent;
+import service.saju_taro_service.global.event.NotificationEventListener;
+import service.saju_taro_service.repository.NotificationOutboxRepository;
+import service.saju_taro_service.service.notification.NotificationOutboxRelay;
+import service.saju_taro_service.service.notification.NotificationOutboxService;
+import service.saju_taro_service.service.notification.PushRetryScheduler;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ 알림 아웃박스 테스트 (테스트 트랜잭션 없이 실제 커밋/롤백)
+ * 롤백된 업무 변경은 알림이 남지 않는지, 릴레이가 커밋된 알림을 한 번 발송 후 완료 처리하는지,
+ * 발송 중 죽은 행은 임대 만료 후 다시 발송되는지, 푸시 행은 발송 결과가 나오기 전까지 완료되지 않는지,
+ * 푸시 재시도 / 미룬 이메일이 정해진 시각 이후에만 발송되는지 검증
+ */
+@DataJpaTest(properties = "notification.outbox.max-attempts=2")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EventPublisher.class, NotificationOutboxService.class, NotificationOutboxRelay.class,
+        PushRetryScheduler.class, NotificationOutboxTest.SyncExecutorConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NotificationOutboxTest {
+
+    @TestConfiguration
+    static class SyncExecutorConfig {
+        @Bean
+        Executor notificationExecutor() {
+            return Runnable::run;
+        }
+    }
+
+    @Autowired
+    EventPublisher eventPublisher;
+    @Autowired
+    NotificationOutboxRelay relay;
+    @Autowired
+    NotificationOutboxService outboxService;
+    @Autowired
+    NotificationOutboxRepository outboxRepository;
+    @Autowired
+    PushRetryScheduler pushRetryScheduler;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockBean
+    NotificationEventListener notificationEventListener;
+
+    @AfterEach
+    void tearDown() {
+        outboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("✅ 업무 트랜잭션이 롤백되면 알림도 남지 않음, 커밋되면 채널별(내부 알림 / 푸시 / 이메일) 한 행씩 저장")
+    void publish_followsBusinessTransaction() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            eventPublisher.publishNotification(event("rolled back"));
+            status.setRollbackOnly();
+        });
+        tx.executeWithoutResult(status -> eventPublisher.publishNotification(event("committed")));
+
+        assertThat(outboxRepository.findAll())
+                .extracting(NotificationOutbox::getMessage, NotificationOutbox::getChannel)
+                .containsExactlyInAnyOrder(
+                        tuple("committed", NotificationChannel.INBOX),
+                        tuple("committed", NotificationChannel.PUSH),
+                        tuple("committed", NotificationChannel.EMAIL));
+    }
+
+    @Test
+    @DisplayName("✅ 릴레이 - 커밋된 알림을 채널별로 한 번씩 처리 후 DONE, 다음 폴링에서는 다시 보내지 않음")
+    void relay_dispatchesOnceAndMarksDone() {
+        eventPublisher.publishNotification(event("예약 완료"));
+
+        relay.relay();
+        relay.relay();
+
+        verify(notificationEventListener, times(1)).saveInbox(any());
+        verify(notificationEventListener, times(1)).sendPush(any(), any(), eq(0));
+        verify(notificationEventListener, times(1)).sendEmail(any(), any());
+        // 보낼 토큰 / 이메일이 없으면(false) 릴레이가 바로 완료 처리
+        assertThat(outboxRepository.findAll())
+                .extracting(NotificationOutbox::getStatus, NotificationOutbox::getAttempts)
+                .containsOnly(tuple(NotificationOutboxStatus.DONE, 1));
+    }
+
+    @Test
+    @DisplayName("✅ 가져간 뒤 완료 처리 안 된 행 → 임대 만료 후 재발송, 최대 시도 초과 시 FAILED (내부 알림 실패는 푸시 / 이메일 행과 무관)")
+    void expiredLease_isRedeliveredThenFails() {
+        eventPublisher.publishNotification(event("결제 완료"));
+        // 다른 노드가 가져간 뒤 죽음
+        List<NotificationOutbox> claimed = outboxService.claim(10);
+        assertThat(claimed).hasSize(3);
+        relay.relay();
+        verifyNoInteractions(notificationEventListener);
+
+        claimed.forEach(row -> expireLease(row.getId()));
+        doThrow(new IllegalStateException("down")).when(notificationEventListener).saveInbox(any());
+        relay.relay(); // 두 번째 시도 - 내부 알림만 실패
+
+        Long inboxId = channelRow(NotificationChannel.INBOX).getId();
+        expireLease(inboxId);
+        relay.relay(); // 최대 시도(2) 초과 → FAILED
+
+        verify(notificationEventListener, times(1)).saveInbox(any());
+        assertThat(outboxRepository.findById(inboxId).orElseThrow())
+                .extracting(NotificationOutbox::getStatus, NotificationOutbox::getAttempts)
+                .containsExactly(NotificationOutboxStatus.FAILED, 2);
+        assertThat(channelRow(NotificationChannel.PUSH).getStatus()).isEqualTo(NotificationOutboxStatus.DONE);
+        assertThat(channelRow(NotificationChannel.EMAIL).getStatus()).isEqualTo(NotificationOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("✅ PUSH 행 - 대기열에 넘긴 뒤에는 릴레이가 완료 처리하지 않음 (발송 결과 전 재시작 → 임대 만료 후 재발송)")
+    void push_staysPendingUntilBatcherCompletes() {
+        outboxRepository.save(NotificationOutbox.of(event("푸시"), NotificationChannel.PUSH));
+        when(notificationEventListener.sendPush(any(), any(), anyInt())).thenReturn(true);
+
+        relay.relay();
+
+        NotificationOutbox push = outboxRepository.findAll().get(0);
+        verify(notificationEventListener).sendPush(eq(push.getId()), any(), eq(0));
+        verify(notificationEventListener, never()).saveInbox(any());
+        assertThat(push.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+
+        expireLease(push.getId());
+        relay.relay();
+        verify(notificationEventListener, times(2)).sendPush(eq(push.getId()), any(), eq(0));
+
+        outboxService.markDone(List.of(push.getId())); // PushBatcher 가 sendEach 결과 처리 후 호출
+        assertThat(outboxRepository.findById(push.getId()).orElseThrow().getStatus())
+                .isEqualTo(NotificationOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("✅ 푸시 재시도 - 같은 행을 백오프(지터 포함) 시각까지 미룬 뒤 해당 회차로 재발송, 최대 횟수 초과 시 예약 안 함")
+    void pushRetry_waitsForBackoff() {
+        outboxRepository.save(NotificationOutbox.of(event("재시도"), NotificationChannel.PUSH));
+        Long id = outboxRepository.findAll().get(0).getId();
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(pushRetryScheduler.reschedule(id, 2)).isTrue();
+        assertThat(pushRetryScheduler.reschedule(id, 4)).isFalse(); // 기본 최대 3회
+
+        NotificationOutbox retry = outboxRepository.findById(id).orElseThrow();
+        assertThat(retry.getChannel()).isEqualTo(NotificationChannel.PUSH);
+        assertThat(retry.getPushAttempt()).isEqualTo(2);
+        // 1s * 2^(2-1) = 2s → 지터로 1s~2s
+        assertThat(retry.getAvailableAt()).isBetween(before.plusSeconds(1), LocalDateTime.now().plusSeconds(2));
+
+        relay.relay();
+        verify(notificationEventListener, never()).sendPush(any(), any(), anyInt());
+
+        expireLease(id);
+        relay.relay();
+        verify(notificationEventListener).sendPush(eq(id), any(), eq(2));
+        verify(notificationEventListener, never()).saveInbox(any());
+        // 보낼 토큰이 없으면(false) 릴레이가 바로 완료 처리
+        assertThat(outboxRepository.findById(id).orElseThrow().getStatus()).isEqualTo(NotificationOutboxStatus.DONE);
+    }
+
+    @Test
+    @DisplayName("✅ EMAIL 행 - 대기열에 넘긴 뒤에는 완료되지 않고, 발송 실패로 미루면 연기 시각 이후 이메일만 재발송")
+    void deferredEmail_dispatchesEmailOnly() {
+        outboxRepository.save(NotificationOutbox.of(event("메일"), NotificationChannel.EMAIL));
+        when(notificationEventListener.sendEmail(any(), any())).thenReturn(true);
+
+        relay.relay();
+        NotificationOutbox email = outboxRepository.findAll().get(0);
+        assertThat(email.getChannel()).isEqualTo(NotificationChannel.EMAIL);
+        assertThat(email.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        verify(notificationEventListener).sendEmail(eq(email.getId()), any());
+
+        // MailBatcher 가 SMTP 실패로 미룸 → 연기 시각 전에는 다시 가져가지 않음
+        LocalDateTime before = LocalDateTime.now();
+        outboxService.deferEmail(List.of(email.getId()));
+        assertThat(outboxRepository.findById(email.getId()).orElseThrow().getAvailableAt())
+                .isAfterOrEqualTo(before.plusSeconds(30));
+        relay.relay();
+        verify(notificationEventListener, times(1)).sendEmail(any(), any());
+
+        expireLease(email.getId());
+        relay.relay();
+
+        verify(notificationEventListener, times(2)).sendEmail(eq(email.getId()), any());
+        verify(notificationEventListener, never()).saveInbox(any());
+    }
+
+    private NotificationOutbox channelRow(NotificationChannel channel) {
+        return outboxRepository.findAll().stream()
+                .filter(row -> row.getChannel() == channel)
+                .findFirst().orElseThrow();
+    }
+
+    private void expireLease(Long id) {
+        NotificationOutbox row = outboxRepository.findById(id).orElseThrow();
+        row.setAvailableAt(LocalDateTime.now().minusSeconds(1));
+        outboxRepository.save(row);
+    }
+
+    private NotificationEvent event(String message) {
+        return new NotificationEvent(1L, 2L, NotificationType.RESERVATION, message);
+    }
+}
@@ -1,129 +1,257 @@
 package service.saju_taro_service;
 
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Mock;
-import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import service.saju_taro_service.domain.payment.Payment;
+import service.saju_taro_service.domain.payment.PaymentMethod;
 import service.saju_taro_service.domain.payment.PaymentStatus;
 import service.saju_taro_service.domain.reservation.Reservation;
 import service.saju_taro_service.domain.reservation.ReservationStatus;
 import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
 import service.saju_taro_service.domain.user.User;
-import service.saju_taro_service.repository.PaymentRepository;
-import service.saju_taro_service.repository.ReservationRepository;
-import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.service.counselor.AvailabilitySearchIndex;
+import service.saju_taro_service.service.payment.AutoRefundProcessor;
 import service.saju_taro_service.service.payment.PaymentScheduler;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+import service.saju_taro_service.service.stats.DailyStatsService;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.*;
 
-@ExtendWith(MockitoExtension.class)
+/**
+ * ✅ 자동 환불 스케줄러 테스트 (테스트 트랜잭션 없이 청크마다 실제 커밋)
+ * 청크(배치 크기 2) 단위 일괄 UPDATE 로 결제/예약/스케줄 상태가 바뀌는지, 제외 대상은 그대로인지,
+ * 중간 청크가 실패해도 앞선 청크는 커밋되어 남는지, 커밋 후 빈 시간 인덱스에 복구된 슬롯이 다시 들어가는지 검증
+ */
+@DataJpaTest(properties = "payment.auto-refund.batch-size=2")
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({PaymentScheduler.class, AutoRefundProcessor.class, DayAvailabilityService.class, NoOpCacheManager.class,
+        EventPublisher.class, AvailabilitySearchIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
 class PaymentSchedulerTest {
 
-    @Mock
-    PaymentRepository paymentRepository;
-    @Mock
-    ReservationRepository reservationRepository;
-    @Mock
-    ScheduleRepository scheduleRepository;
-
-    @InjectMocks
+    @Autowired
     PaymentScheduler paymentScheduler;
+    @Autowired
+    AvailabilitySearchIndex availabilitySearchIndex;
+    @Autowired
+    EntityManager em;
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @MockBean
+    DailyStatsService dailyStatsService;
 
+    private TransactionTemplate tx;
     private User user;
-    private Schedule schedule;
-    private Reservation reservation;
-    private Payment payment;
+    private User counselor;
+    private ServiceItem item;
+    private int seq;
+    // 테스트가 만든 행 (DB 를 다른 테스트와 공유하므로 직접 정리)
+    private final List<Long> paymentIds = new ArrayList<>();
+    private final List<Long> reservationIds = new ArrayList<>();
+    private final List<Long> scheduleIds = new ArrayList<>();
 
     @BeforeEach
     void setUp() {
-        user = new User();
-        user.setId(1L);
-
-        schedule = new Schedule();
-        schedule.setId(10L);
-        schedule.setAvailable(false); // 현재 점유 상태
-
-        reservation = Reservation.builder()
-                .user(user)
-                .schedule(schedule)
-                .reservationStatus(ReservationStatus.CONFIRMED)
-                .reservationTime(LocalDateTime.now().minusDays(2))
-                .isActive(true)
-                .build();
-
-        payment = new Payment();
-        payment.setId(100L);
-        payment.setPaymentStatus(PaymentStatus.PAID);
-        payment.setPaidAt(LocalDateTime.now().minusHours(25)); // 24시간 초과
-        payment.setAmount(50000);
-        payment.setReservation(reservation);
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            user = user("user", UserRole.USER);
+            counselor = user("counselor", UserRole.COUNSELOR);
+            item = new ServiceItem();
+            item.setServiceType(ServiceType.TAROT);
+            item.setTitle("타로 상담");
+            item.setDuration(30);
+            item.setPrice(50000);
+            em.persist(item);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            delete("Payment", paymentIds);
+            delete("Reservation", reservationIds);
+            delete("Schedule", scheduleIds);
+            delete("ServiceItem", List.of(item.getId()));
+            delete("User", List.of(user.getId(), counselor.getId()));
+        });
     }
 
     @Test
     @DisplayName("✅ 자동 환불 - 24시간 초과 미완료 예약: 결제 REFUND + 예약 CANCELLED + 스케줄 복구")
     void autoRefund_expiredAndNotCompleted_shouldCancelAndRestoreSchedule() {
-        // findExpiredPaidPayments 가 이미 조건 필터된 결과를 반환
-        when(paymentRepository.findExpiredPaidPayments(any())).thenReturn(List.of(payment));
-        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
-        when(paymentRepository.save(any())).thenReturn(payment);
-        when(reservationRepository.save(any())).thenReturn(reservation);
-        when(scheduleRepository.save(any())).thenReturn(schedule);
+        Payment payment = paidReservation(ReservationStatus.CONFIRMED, 25);
 
         paymentScheduler.autoRefundUncompletedPayments();
 
-        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.REFUND);
-        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
-        assertThat(schedule.isAvailable()).isTrue(); // ✅ 스케줄 복구 확인
-        verify(scheduleRepository).save(schedule);
+        Payment refunded = reload(payment);
+        assertThat(refunded.getPaymentStatus()).isEqualTo(PaymentStatus.REFUND);
+        assertThat(refunded.getReservation().getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(refunded.getReservation().getSchedule().isAvailable()).isTrue(); // ✅ 스케줄 복구 확인
+        verify(dailyStatsService).revertPayments(anyCollection());
     }
 
     @Test
     @DisplayName("✅ 자동 환불 제외 - 상담 완료된 예약은 환불하지 않음")
     void autoRefund_completedReservation_shouldSkip() {
-        reservation.setReservationStatus(ReservationStatus.COMPLETED);
-
-        // DB 쿼리가 이미 만료된 결제를 반환하지만 예약 완료 상태라 스킵
-        when(paymentRepository.findExpiredPaidPayments(any())).thenReturn(List.of(payment));
-        when(reservationRepository.findById(any())).thenReturn(Optional.of(reservation));
+        Payment payment = paidReservation(ReservationStatus.COMPLETED, 25);
 
         paymentScheduler.autoRefundUncompletedPayments();
 
-        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PAID);
-        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.COMPLETED);
-        assertThat(schedule.isAvailable()).isFalse();
-        verify(scheduleRepository, never()).save(any());
+        Payment kept = reload(payment);
+        assertThat(kept.getPaymentStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(kept.getReservation().getReservationStatus()).isEqualTo(ReservationStatus.COMPLETED);
+        assertThat(kept.getReservation().getSchedule().isAvailable()).isFalse();
+        verify(dailyStatsService, never()).revertPayments(any());
     }
 
     @Test
     @DisplayName("✅ 자동 환불 제외 - 만료 결제가 없으면 아무것도 처리하지 않음")
     void autoRefund_noExpiredPayments_shouldDoNothing() {
-        // DB 쿼리가 빈 결과 반환 (24시간 미만 or PAID 아님)
-        when(paymentRepository.findExpiredPaidPayments(any())).thenReturn(List.of());
+        // 24시간 미만 결제
+        Payment payment = paidReservation(ReservationStatus.CONFIRMED, 23);
+
+        paymentScheduler.autoRefundUncompletedPayments();
+
+        Payment kept = reload(payment);
+        assertThat(kept.getPaymentStatus()).isEqualTo(PaymentStatus.PAID);
+        assertThat(kept.getReservation().getSchedule().isAvailable()).isFalse();
+        verify(dailyStatsService, never()).revertPayments(any());
+    }
+
+    @Test
+    @DisplayName("✅ 자동 환불 - 여러 청크에 걸친 대상도 키셋으로 이어서 모두 처리 (완료 예약은 건너뜀), 통계는 청크당 한 번")
+    void autoRefund_spansChunks() {
+        List<Payment> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(paidReservation(ReservationStatus.CONFIRMED, 25 + i));
+            if (i == 2) paidReservation(ReservationStatus.COMPLETED, 30);
+        }
 
         paymentScheduler.autoRefundUncompletedPayments();
 
-        verify(reservationRepository, never()).findById(any());
-        verify(scheduleRepository, never()).save(any());
+        assertThat(expired).map(this::reload)
+                .extracting(Payment::getPaymentStatus)
+                .containsOnly(PaymentStatus.REFUND);
+        verify(dailyStatsService, times(3)).revertPayments(anyCollection()); // 2 + 2 + 1
+    }
+
+    @Test
+    @DisplayName("✅ 청크마다 커밋 - 두 번째 청크가 실패해도 첫 청크 환불은 남고, 나머지는 PAID 로 다음 실행 대상")
+    void autoRefund_failedChunk_keepsCommittedChunks() {
+        List<Payment> expired = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            expired.add(paidReservation(ReservationStatus.CONFIRMED, 25));
+        }
+        doNothing().doThrow(new IllegalStateException("stats down"))
+                .when(dailyStatsService).revertPayments(anyCollection());
+
+        assertThatThrownBy(() -> paymentScheduler.autoRefundUncompletedPayments())
+                .isInstanceOf(IllegalStateException.class);
+
+        assertThat(expired).map(this::reload)
+                .extracting(Payment::getPaymentStatus)
+                .containsExactly(PaymentStatus.REFUND, PaymentStatus.REFUND, PaymentStatus.PAID, PaymentStatus.PAID);
+        assertThat(reload(expired.get(0)).getReservation().getSchedule().isAvailable()).isTrue();
+        assertThat(reload(expired.get(2)).getReservation().getSchedule().isAvailable()).isFalse();
     }
 
     @Test
-    @DisplayName("✅ 자동 환불 제외 - 예약 없는 경우 NPE 없이 스킵")
-    void autoRefund_reservationNotFound_shouldSkipGracefully() {
-        when(paymentRepository.findExpiredPaidPayments(any())).thenReturn(List.of(payment));
-        when(reservationRepository.findById(any())).thenReturn(Optional.empty());
-
-        // 예외 없이 정상 실행되어야 함
-        assertThatNoException().isThrownBy(() ->
-                paymentScheduler.autoRefundUncompletedPayments());
+    @DisplayName("✅ 커밋 후 빈 시간 인덱스 갱신 - 복구된 스케줄이 다시 검색 대상에 들어감")
+    void autoRefund_releasedSlotsReturnToSearchIndex() {
+        paidReservation(ReservationStatus.CONFIRMED, 25);
+        paidReservation(ReservationStatus.CONFIRMED, 26);
+        paidReservation(ReservationStatus.CONFIRMED, 27);
+        availabilitySearchIndex.rebuild();
+        int before = availabilitySearchIndex.slotCount();
+
+        paymentScheduler.autoRefundUncompletedPayments();
+
+        assertThat(availabilitySearchIndex.slotCount()).isEqualTo(before + 3);
+    }
+
+    /** 내일 스케줄을 점유한 결제 완료 예약 (빈 시간 인덱스 범위 안) */
+    private Payment paidReservation(ReservationStatus status, int paidHoursAgo) {
+        LocalDateTime time = LocalDate.now().plusDays(1).atTime(9, 0).plusMinutes(30L * seq++);
+        Payment payment = tx.execute(s -> {
+            Schedule schedule = Schedule.builder()
+                    .counselor(counselor)
+                    .startTime(time)
+                    .endTime(time.plusMinutes(30))
+                    .isAvailable(false) // 현재 점유 상태
+                    .build();
+            em.persist(schedule);
+            Reservation reservation = Reservation.builder()
+                    .user(em.merge(user))
+                    .counselor(em.merge(counselor))
+                    .schedule(schedule)
+                    .serviceItem(em.merge(item))
+                    .reservationStatus(status)
+                    .reservationTime(time)
+                    .isActive(true)
+                    .build();
+            em.persist(reservation);
+
+            Payment p = new Payment();
+            p.setReservation(reservation);
+            p.setMethod(PaymentMethod.CARD);
+            p.setPaymentStatus(PaymentStatus.PAID);
+            p.setPaidAt(LocalDateTime.now().minusHours(paidHoursAgo));
+            p.setAmount(50000);
+            em.persist(p);
+            return p;
+        });
+        paymentIds.add(payment.getId());
+        reservationIds.add(payment.getReservation().getId());
+        scheduleIds.add(payment.getReservation().getSchedule().getId());
+        return payment;
+    }
+
+    private Payment reload(Payment payment) {
+        return tx.execute(s -> {
+            Payment found = em.find(Payment.class, payment.getId());
+            found.getReservation().getSchedule().isAvailable(); // 연관 엔티티 초기화
+            return found;
+        });
+    }
+
+    private void delete(String entity, List<Long> ids) {
+        if (ids.isEmpty()) return;
+        em.createQuery("DELETE FROM " + entity + " e WHERE e.id IN :ids").setParameter("ids", ids).executeUpdate();
+    }
+
+    private User user(String name, UserRole role) {
+        User u = User.builder()
+                .name(name).nickname(name).email(name + "@refund.com").password("pw")
+                .phone("010-0000-0006").userRole(role).build();
+        em.persist(u);
+        return u;
     }
 }
@@ -18,11 +18,15 @@ import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.global.event.EventPublisher;
 import service.saju_taro_service.global.event.NotificationEvent;
 import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
 import service.saju_taro_service.global.toss.TossPaymentsClient;
 import service.saju_taro_service.repository.PaymentRepository;
 import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
 import service.saju_taro_service.service.payment.PaymentService;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,6 +50,12 @@ class PaymentServiceTest {
     EventPublisher eventPublisher;
     @Mock
     TossPaymentsClient tossPaymentsClient;
+    @Mock
+    DailyStatsService dailyStatsService;
+    @Mock
+    SlotHoldService slotHoldService;
+    @Mock
+    DayAvailabilityService dayAvailabilityService;
 
     @InjectMocks
     PaymentService paymentService;
@@ -120,7 +130,7 @@ class PaymentServiceTest {
     @Test
     @DisplayName("✅ Toss 환불 - 정상 케이스: 스케줄이 isAvailable=true로 복구되어야 함")
     void refundTossPayment_restoresSchedule() {
-        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
         doNothing().when(tossPaymentsClient).cancelPayment(anyString(), anyString());
         when(paymentRepository.save(any())).thenReturn(payment);
         when(reservationRepository.save(any())).thenReturn(reservation);
@@ -141,17 +151,31 @@ class PaymentServiceTest {
     @DisplayName("❌ Toss 환불 - PAID 아닌 결제 환불 시도 → CustomException")
     void refundTossPayment_notPaidStatus() {
         payment.setPaymentStatus(PaymentStatus.PENDING);
-        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
 
         assertThatThrownBy(() -> paymentService.refundTossPayment("tx-001", "테스트"))
                 .isInstanceOf(CustomException.class);
     }
 
+    @Test
+    @DisplayName("❌ Toss 환불 - 잠금 후 보니 자동 환불이 먼저 처리(REFUND) → 400, Toss 호출/통계 차감 없음")
+    void refundTossPayment_alreadyAutoRefunded() {
+        payment.setPaymentStatus(PaymentStatus.REFUND);
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
+
+        assertThatThrownBy(() -> paymentService.refundTossPayment("tx-001", "테스트"))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.BAD_REQUEST);
+        verify(tossPaymentsClient, never()).cancelPayment(anyString(), anyString());
+        verify(dailyStatsService, never()).revertPayment(any());
+        verify(paymentRepository, never()).findByTransactionId(anyString());
+    }
+
     @Test
     @DisplayName("❌ Toss 환불 - paymentKey 없는 경우 → CustomException")
     void refundTossPayment_noPaymentKey() {
         payment.setPaymentKey(null);
-        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
 
         assertThatThrownBy(() -> paymentService.refundTossPayment("tx-001", "테스트"))
                 .isInstanceOf(CustomException.class);
@@ -160,7 +184,7 @@ class PaymentServiceTest {
     @Test
     @DisplayName("❌ Toss 환불 - Toss API 호출 실패 → CustomException")
     void refundTossPayment_tossApiFails() {
-        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
         doThrow(new RuntimeException("Toss API 오류")).when(tossPaymentsClient).cancelPayment(anyString(), anyString());
 
         assertThatThrownBy(() -> paymentService.refundTossPayment("tx-001", "테스트"))
@@ -173,7 +197,7 @@ class PaymentServiceTest {
     @DisplayName("✅ 기존 환불 - 스케줄이 isAvailable=true로 복구되어야 함")
     void refundPayment_restoresSchedule() {
         payment.setPaymentStatus(PaymentStatus.PENDING);
-        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(paymentRepository.findByTransactionIdForUpdate("tx-001")).thenReturn(Optional.of(payment));
         when(paymentRepository.save(any())).thenReturn(payment);
         when(reservationRepository.save(any())).thenReturn(reservation);
         when(scheduleRepository.save(any())).thenReturn(schedule);
@@ -196,6 +220,7 @@ class PaymentServiceTest {
                 .thenReturn(Map.of("method", "카드"));
         when(paymentRepository.save(any())).thenReturn(payment);
         when(reservationRepository.save(any())).thenReturn(reservation);
+        when(reservationRepository.updateStatusIfIn(any(), any(), eq(ReservationStatus.CONFIRMED))).thenReturn(1);
 
         // paymentKey 없는 payment에 설정
         payment.setPaymentStatus(PaymentStatus.PENDING);
@@ -230,4 +255,35 @@ class PaymentServiceTest {
                 .as("상담사 알림의 발신자는 사용자(1L)여야 합니다.")
                 .isEqualTo(1L);
     }
+
+    // ===================== 결제 대기 선점 =====================
+
+    @Test
+    @DisplayName("✅ Toss 결제 승인 - 예약 잠금 후 승인, 완료되면 선점 해제")
+    void confirmTossPayment_releasesHold() {
+        payment.setPaymentStatus(PaymentStatus.PENDING);
+        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(reservationRepository.updateStatusIfIn(any(), any(), eq(ReservationStatus.CONFIRMED))).thenReturn(1);
+        when(tossPaymentsClient.confirmPayment(anyString(), anyString(), anyInt())).thenReturn(Map.of());
+
+        paymentService.confirmTossPayment("pk-001", "tx-001", 50000);
+
+        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PAID);
+        verify(slotHoldService).release(10L, reservation.getId());
+        verify(dailyStatsService).recordPayment(payment);
+    }
+
+    @Test
+    @DisplayName("❌ Toss 결제 승인 - 결제 대기 만료로 이미 취소된 예약 → 409, Toss 호출 안 함")
+    void confirmTossPayment_holdExpired() {
+        payment.setPaymentStatus(PaymentStatus.PENDING);
+        when(paymentRepository.findByTransactionId("tx-001")).thenReturn(Optional.of(payment));
+        when(reservationRepository.updateStatusIfIn(any(), any(), eq(ReservationStatus.CONFIRMED))).thenReturn(0);
+
+        assertThatThrownBy(() -> paymentService.confirmTossPayment("pk-001", "tx-001", 50000))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.RESERVATION_HOLD_EXPIRED);
+        verify(tossPaymentsClient, never()).confirmPayment(anyString(), anyString(), anyInt());
+        assertThat(payment.getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+    }
 }
@@ -0,0 +1,159 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.profile.ProfileResponse;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.service.profile.ProfileService;
+import service.saju_taro_service.service.profile.ProfileTagIndex;
+import service.saju_taro_service.service.user.CounselorCacheEvictor;
+import service.saju_taro_service.service.profile.ProfileTagMigration;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 상담사 디렉토리(프로필 목록) 테스트
+ * 정렬/페이징이 DB에서 처리되고, 상담사 지연 로딩이 발생하지 않는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProfileService.class, ProfileTagMigration.class, ProfileTagIndex.class, EventPublisher.class, CounselorCacheEvictor.class, NoOpCacheManager.class})
+class ProfileDirectoryTest {
+
+    private static final int PROFILE_COUNT = 25;
+
+    @Autowired
+    ProfileService profileService;
+    @Autowired
+    ProfileTagMigration profileTagMigration;
+    @Autowired
+    EntityManager em;
+
+    private Statistics statistics;
+    private int seq = 0;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // 평점은 i 에 비례, 후기 수는 반비례 / 짝수번째만 "연애" 태그, 3의 배수는 "진로" 추가
+        for (int i = 1; i <= PROFILE_COUNT; i++) {
+            User counselor = persistCounselor(i / 10.0 * 2, PROFILE_COUNT - i);
+            Profile profile = Profile.builder().counselor(counselor).bio("소개" + i).build();
+            profile.updateTags(i % 2 == 0
+                    ? (i % 3 == 0 ? List.of("타로", "연애", "진로") : List.of("타로", "연애"))
+                    : List.of("사주", i % 3 == 0 ? "진로" : "연애운"));
+            em.persist(profile);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("✅ 평점순 페이지 - 목록 + 개수 = SQL 2회")
+    void ratingPage_sortedInDatabase() {
+        Page<ProfileResponse> first = withinBudget(2, () -> profileService.getCounselorList(null, null, "rating", 0, 10));
+        Page<ProfileResponse> last = withinBudget(2, () -> profileService.getCounselorList(null, null, "rating", 2, 10));
+
+        assertThat(first.getTotalElements()).isEqualTo(PROFILE_COUNT);
+        assertThat(first.getContent()).hasSize(10)
+                .extracting(ProfileResponse::getAverageRating)
+                .isSortedAccordingTo((a, b) -> Double.compare(b, a));
+        assertThat(first.getContent().get(0).getCounselorName()).isEqualTo("상담사" + PROFILE_COUNT);
+        assertThat(last.getContent()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("✅ 후기순 정렬")
+    void reviewsSort() {
+        Page<ProfileResponse> page = profileService.getCounselorList(null, null, "reviews", 0, 5);
+
+        assertThat(page.getContent()).extracting(ProfileResponse::getReviewCount)
+                .containsExactly(24, 23, 22, 21, 20);
+    }
+
+    @Test
+    @DisplayName("✅ 태그 필터 + 페이징 - 정확히 일치하는 태그만 (연애운 ≠ 연애)")
+    void tagFilter() {
+        Page<ProfileResponse> page = withinBudget(2, () ->
+                profileService.getCounselorList(List.of("연애"), "any", "rating", 0, 5));
+
+        assertThat(page.getTotalElements()).isEqualTo(PROFILE_COUNT / 2);
+        assertThat(page.getContent()).hasSize(5).allSatisfy(p -> assertThat(p.getTags()).contains("연애"));
+    }
+
+    @Test
+    @DisplayName("✅ 다중 태그 AND / OR 검색")
+    void multiTagSearch() {
+        // 연애 AND 진로 → 6의 배수 (6, 12, 18, 24)
+        Page<ProfileResponse> all = profileService.getCounselorList(List.of("연애", " 진로 "), "all", "rating", 0, 10);
+        // 연애 OR 진로 → 짝수 12개 + 홀수 3의 배수 (3, 9, 15, 21)
+        List<ProfileResponse> any = profileService.searchByTag(List.of("연애", "진로"), "any");
+
+        assertThat(all.getTotalElements()).isEqualTo(4);
+        assertThat(all.getContent()).allSatisfy(p -> assertThat(p.getTags()).contains("연애", "진로"));
+        assertThat(any).hasSize(16);
+    }
+
+    @Test
+    @DisplayName("✅ 기존 콤마 컬럼 → profile_tags 1회성 이관")
+    void migrateLegacyTags() {
+        User counselor = persistCounselor(5.0, 0);
+        em.persist(Profile.builder().counselor(counselor).bio("이관 대상").tags("타로, 연애 ,,심리").build());
+        em.flush();
+        em.clear();
+
+        assertThat(profileTagMigration.migrate()).isEqualTo(1);
+        em.flush();
+        em.clear();
+        assertThat(profileTagMigration.migrate()).isZero();
+
+        List<ProfileResponse> found = profileService.searchByTag(List.of("심리"), "any");
+        assertThat(found).singleElement()
+                .satisfies(p -> assertThat(p.getTags()).containsExactly("타로", "연애", "심리"));
+    }
+
+    private <T> T withinBudget(int budget, Supplier<T> call) {
+        em.clear();
+        statistics.clear();
+        T result = call.get();
+        assertThat(statistics.getPrepareStatementCount())
+                .as("쿼리 예산(%d회) 초과 - 상담사 디렉토리 조회에서 N+1이 발생했습니다.", budget)
+                .isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    private User persistCounselor(double rating, int reviewCount) {
+        seq++;
+        User u = User.builder()
+                .name("상담사" + seq)
+                .nickname("counselor" + seq)
+                .email("counselor" + seq + "@test.com")
+                .password("pw")
+                .phone("010-0000-" + String.format("%04d", seq))
+                .userRole(UserRole.COUNSELOR)
+                .averageRating(rating)
+                .reviewCount(reviewCount)
+                .build();
+        em.persist(u);
+        return u;
+    }
+}
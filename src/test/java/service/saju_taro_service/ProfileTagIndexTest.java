@@ -0,0 +1,148 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import service.saju_taro_service.dto.profile.TagCount;
+import service.saju_taro_service.global.event.ProfileTagsChangedEvent;
+import service.saju_taro_service.repository.ProfileRepository;
+import service.saju_taro_service.service.profile.ProfileTagIndex;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileTagIndexTest {
+
+    @Mock
+    ProfileRepository profileRepository;
+
+    @InjectMocks
+    ProfileTagIndex profileTagIndex;
+
+    // profile_tags 대신 쓰는 태그별 상담사 수
+    private final Map<String, AtomicLong> db = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        db.put("연애", new AtomicLong(42));
+        db.put("연애운", new AtomicLong(7));
+        db.put("진로", new AtomicLong(17));
+        db.put("타로", new AtomicLong(30));
+        when(profileRepository.countByTag()).thenAnswer(inv -> counts(db.keySet()));
+        lenient().when(profileRepository.countByTagIn(anyCollection()))
+                .thenAnswer(inv -> counts(inv.getArgument(0)));
+        profileTagIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("✅ 접두어 검색 - 상담사 수 내림차순, limit 적용")
+    void searchByPrefix() {
+        assertThat(profileTagIndex.search("연", 10))
+                .extracting(TagCount::getTag, TagCount::getCount)
+                .containsExactly(tuple("연애", 42L), tuple("연애운", 7L));
+        assertThat(profileTagIndex.search(null, 2))
+                .extracting(TagCount::getTag)
+                .containsExactly("연애", "타로");
+        assertThat(profileTagIndex.search("사주", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 증분 갱신 - 0이 된 태그는 제거, 새 태그는 추가")
+    void incrementalUpdate() {
+        change("연애운", -1);
+        change("사주", 1);
+        profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of("연애운"), Set.of("사주")));
+
+        assertThat(profileTagIndex.search("연애운", 10)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo(6L);
+        assertThat(profileTagIndex.search("사", 10)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo(1L);
+
+        for (int i = 0; i < 6; i++) {
+            change("연애운", -1);
+            profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of("연애운"), Set.of()));
+        }
+        assertThat(profileTagIndex.search("연애운", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("✅ 적재 도중 바뀐 태그 - 적재 결과 교체 후에도 반영, 적재 결과와 겹쳐도 중복 가산 없음")
+    void changeDuringRebuild_survivesSwap() {
+        // 적재 쿼리가 읽은 직후 "사주" 상담사 추가 + 같은 변경이 이미 반영된 "진로" 이벤트가 늦게 도착
+        when(profileRepository.countByTag()).thenAnswer(inv -> {
+            change("진로", 1);
+            List<TagCount> rows = counts(db.keySet());
+            change("사주", 1);
+            profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of(), Set.of("사주", "진로")));
+            return rows;
+        });
+
+        profileTagIndex.rebuild();
+
+        assertThat(profileTagIndex.search("사주", 10)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo(1L);
+        assertThat(profileTagIndex.search("진로", 10)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo(18L);
+    }
+
+    @Test
+    @DisplayName("✅ 동시 갱신 - 스레드 간 변경분이 유실되지 않음")
+    void concurrentUpdates() throws InterruptedException {
+        int threads = 8;
+        int perThread = 1000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    // 상담사가 "진로" → "심리" 로 바꿨다가 다시 되돌림 (순변화 0), 동시에 조회
+                    change("심리", 1);
+                    profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of(), Set.of("심리")));
+                    change("진로", -1);
+                    profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of("진로"), Set.of()));
+                    profileTagIndex.search("", 10);
+                    change("진로", 1);
+                    profileTagIndex.onTagsChanged(new ProfileTagsChangedEvent(Set.of(), Set.of("진로")));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(profileTagIndex.search("심리", 1)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo((long) threads * perThread);
+        assertThat(profileTagIndex.search("진로", 1)).singleElement()
+                .extracting(TagCount::getCount).isEqualTo(17L);
+    }
+
+    private void change(String tag, long delta) {
+        db.computeIfAbsent(tag, t -> new AtomicLong()).addAndGet(delta);
+    }
+
+    private List<TagCount> counts(Collection<String> tags) {
+        return tags.stream()
+                .filter(tag -> db.containsKey(tag) && db.get(tag).get() > 0)
+                .map(tag -> new TagCount(tag, db.get(tag).get()))
+                .toList();
+    }
+}
@@ -0,0 +1,153 @@
+package service.saju_taro_service;
+
+import com.google.firebase.ErrorCode;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.MessagingErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.global.fcm.FirebasePushGateway;
+import service.saju_taro_service.global.fcm.PushGateway;
+import service.saju_taro_service.global.fcm.PushMessage;
+import service.saju_taro_service.global.fcm.PushResult;
+import service.saju_taro_service.repository.UserRepository;
+import service.saju_taro_service.service.notification.NotificationOutboxService;
+import service.saju_taro_service.service.notification.PushBatcher;
+import service.saju_taro_service.service.notification.PushRetryScheduler;
+
+import java.time.Duration;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * ✅ FCM 묶음 발송 테스트 (가짜 PushGateway 주입)
+ * 짧은 창 안에 들어온 메시지가 500건 단위로 묶이는지, 토큰별 결과로 토큰 삭제 / 재시도 예약이 되는지,
+ * 아웃박스 행이 sendEach 결과가 나온 뒤에만 완료 처리되는지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PushBatcherTest {
+
+    /** 호출마다 묶음 크기를 기록하고, 토큰별로 정해 둔 결과를 돌려주는 가짜 게이트웨이 */
+    static class FakePushGateway implements PushGateway {
+        final List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+        final Map<String, PushResult> failures = new HashMap<>();
+
+        @Override
+        public List<PushResult> sendEach(List<PushMessage> messages) {
+            batchSizes.add(messages.size());
+            return messages.stream()
+                    .map(m -> failures.getOrDefault(m.token(), PushResult.ok("id-" + m.token())))
+                    .toList();
+        }
+    }
+
+    @Mock
+    PushRetryScheduler pushRetryScheduler;
+    @Mock
+    NotificationOutboxService outboxService;
+    @Mock
+    UserRepository userRepository;
+
+    private final FakePushGateway gateway = new FakePushGateway();
+    private PushBatcher batcher;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new PushBatcher(gateway, pushRetryScheduler, outboxService, userRepository);
+        ReflectionTestUtils.setField(batcher, "batchWindow", Duration.ofMillis(200));
+        ReflectionTestUtils.setField(batcher, "queueCapacity", 5000);
+        batcher.start();
+    }
+
+    @Test
+    @DisplayName("✅ 창 안에 들어온 1200건 → 500 / 500 / 200 세 번의 sendEach, 묶음마다 발송된 행 완료 처리")
+    void coalescesIntoBatchesOfAtMost500() throws Exception {
+        for (int i = 0; i < 1200; i++) {
+            assertThat(batcher.enqueue((long) i, message("token-" + i), 0)).isTrue();
+        }
+
+        batcher.stop(); // 남은 메시지까지 발송 후 종료
+
+        assertThat(gateway.batchSizes).containsExactly(500, 500, 200);
+        assertThat(batcher.stats())
+                .containsEntry("accepted", 1200L)
+                .containsEntry("rejected", 0L)
+                .containsEntry("batches", 3L)
+                .containsEntry("failed", 0L);
+        verifyNoInteractions(pushRetryScheduler, userRepository);
+        ArgumentCaptor<Collection<Long>> done = ArgumentCaptor.captor();
+        verify(outboxService, times(3)).markDone(done.capture());
+        assertThat(done.getAllValues()).flatMap(ids -> ids).hasSize(1200).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("✅ 토큰별 결과 - 성공은 DONE, 등록 해제 토큰은 삭제 후 FAILED, 일시 오류는 같은 행을 다음 회차로 예약")
+    void perTokenResults_feedBackIntoTokenAndRetryHandling() throws Exception {
+        gateway.failures.put("gone", new PushResult(false, ErrorCode.NOT_FOUND, MessagingErrorCode.UNREGISTERED, "unregistered"));
+        gateway.failures.put("busy", new PushResult(false, ErrorCode.UNAVAILABLE, MessagingErrorCode.UNAVAILABLE, "unavailable"));
+        User user = new User();
+        user.setId(7L);
+        user.setFcmToken("gone");
+        when(userRepository.findByFcmToken("gone")).thenReturn(Optional.of(user));
+        when(pushRetryScheduler.reschedule(12L, 2)).thenReturn(true);
+
+        batcher.enqueue(10L, message("ok"), 1);
+        batcher.enqueue(11L, message("gone"), 1);
+        batcher.enqueue(12L, message("busy"), 1);
+        batcher.stop();
+
+        assertThat(gateway.batchSizes).containsExactly(3);
+        assertThat(user.getFcmToken()).isNull();
+        verify(userRepository).save(user);
+        verify(pushRetryScheduler, times(1)).reschedule(12L, 2);
+        verify(outboxService).markDone(List.of(10L));
+        verify(outboxService).markFailed(List.of(11L));
+    }
+
+    @Test
+    @DisplayName("✅ 발송 중 오류로 결과가 없으면 행을 완료 처리하지 않음 → 임대 만료 후 다시 발송")
+    void sendError_leavesRowsForRedelivery() throws Exception {
+        PushBatcher failing = new PushBatcher(messages -> {
+            throw new IllegalStateException("connection reset");
+        }, pushRetryScheduler, outboxService, userRepository);
+        ReflectionTestUtils.setField(failing, "batchWindow", Duration.ofMillis(50));
+        ReflectionTestUtils.setField(failing, "queueCapacity", 10);
+        failing.start();
+
+        failing.enqueue(20L, message("a"), 0);
+        failing.stop();
+        batcher.stop();
+
+        assertThat(failing.stats()).containsEntry("errors", 1L);
+        verifyNoInteractions(outboxService, pushRetryScheduler);
+    }
+
+    @Test
+    @DisplayName("✅ FirebasePushGateway - 요청 자체가 실패하면 모든 메시지에 같은 오류 결과")
+    void firebaseGateway_requestFailureAppliesToEveryMessage() throws Exception {
+        FirebaseMessaging firebaseMessaging = mock(FirebaseMessaging.class);
+        FirebaseMessagingException unavailable = mock(FirebaseMessagingException.class);
+        when(unavailable.getErrorCode()).thenReturn(ErrorCode.UNAVAILABLE);
+        when(firebaseMessaging.sendEach(anyList())).thenThrow(unavailable);
+
+        List<PushResult> results = new FirebasePushGateway(firebaseMessaging)
+                .sendEach(List.of(message("a"), message("b")));
+
+        assertThat(results).hasSize(2).allMatch(PushResult::isRetryable);
+        batcher.stop();
+    }
+
+    private PushMessage message(String token) {
+        return new PushMessage(token, "예약 완료", "예약 완료", Map.of("type", "RESERVATION"));
+    }
+}
@@ -0,0 +1,62 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ 쿼리 예산 테스트 공용 픽스처 (@DataJpaTest 의 EntityManager 로 생성)
+ * - persistUser: 순번으로 이름/이메일/전화번호가 겹치지 않는 사용자 저장
+ * - countQueries / withinBudget: 영속성 컨텍스트를 비운 뒤 호출 한 번의 SQL 실행 횟수 측정 (Hibernate Statistics)
+ */
+class QueryBudgetFixture {
+    private final EntityManager em;
+    private final Statistics statistics;
+    private int seq = 0;
+
+    QueryBudgetFixture(EntityManager em) {
+        this.em = em;
+        this.statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    User persistUser(UserRole role) {
+        seq++;
+        User u = User.builder()
+                .name("테스트" + seq)
+                .nickname("nick" + seq)
+                .email("user" + seq + "@test.com")
+                .password("pw")
+                .phone("010-0000-" + String.format("%04d", seq))
+                .userRole(role)
+                .build();
+        em.persist(u);
+        return u;
+    }
+
+    /** 호출 한 번에 실행된 SQL 수 */
+    long countQueries(Runnable call) {
+        em.flush();
+        em.clear();
+        statistics.clear();
+        call.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** SQL 실행 횟수가 budget 이하인지 확인 (reason: 초과 시 표시할 원인) */
+    <T> T withinBudget(int budget, String reason, Supplier<T> call) {
+        Object[] result = new Object[1];
+        long count = countQueries(() -> result[0] = call.get());
+        assertThat(count)
+                .as("쿼리 예산(%d회) 초과 - %s", budget, reason)
+                .isLessThanOrEqualTo(budget);
+        @SuppressWarnings("unchecked")
+        T value = (T) result[0];
+        return value;
+    }
+}
@@ -0,0 +1,176 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.cache.support.NoOpCacheManager;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.reservation.ReservationRequest;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
+import service.saju_taro_service.repository.*;
+import service.saju_taro_service.service.reservation.ReservationService;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * ✅ 동일 스케줄 동시 예약 테스트
+ * 실제 트랜잭션(커밋)으로 수백 건을 동시에 요청해 정확히 1건만 성공하는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReservationService.class, DailyStatsService.class, EventPublisher.class, DayAvailabilityService.class, NoOpCacheManager.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationConcurrencyTest {
+
+    private static final int REQUESTS = 300;
+    private static final int THREADS = 64;
+
+    @Autowired
+    ReservationService reservationService;
+    @MockBean
+    SlotHoldService slotHoldService;
+    @MockBean
+    AvailabilityRuleService availabilityRuleService;
+    @Autowired
+    UserRepository userRepository;
+    @Autowired
+    ScheduleRepository scheduleRepository;
+    @Autowired
+    ServiceItemRepository serviceItemRepository;
+    @Autowired
+    ReservationRepository reservationRepository;
+    @Autowired
+    DailyStatsRepository dailyStatsRepository;
+
+    private User counselor;
+    private List<User> users;
+    private ServiceItem serviceItem;
+    private Schedule schedule;
+
+    @BeforeEach
+    void setUp() {
+        when(slotHoldService.hold(any(), any())).thenReturn(true);
+        counselor = userRepository.save(newUser(0, UserRole.COUNSELOR));
+        List<User> newUsers = new ArrayList<>();
+        for (int i = 1; i <= REQUESTS; i++) {
+            newUsers.add(newUser(i, UserRole.USER));
+        }
+        users = userRepository.saveAll(newUsers);
+
+        ServiceItem item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        serviceItem = serviceItemRepository.save(item);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        schedule = scheduleRepository.save(Schedule.builder()
+                .counselor(counselor)
+                .startTime(start)
+                .endTime(start.plusMinutes(30))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAllInBatch();
+        dailyStatsRepository.deleteAllInBatch();
+        scheduleRepository.deleteAllInBatch();
+        serviceItemRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("✅ 한 스케줄에 300건 동시 예약 → 정확히 1건 성공, 나머지는 409")
+    void stampede_exactlyOneWinner() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger conflict = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (User user : users) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                try {
+                    reservationService.createReservation(user.getId(), request());
+                    success.incrementAndGet();
+                } catch (CustomException e) {
+                    if (e.getErrorCode() == ErrorCode.SCHEDULE_ALREADY_BOOKED) conflict.incrementAndGet();
+                    else throw e;
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get(60, TimeUnit.SECONDS); // 예상치 못한 예외가 있으면 여기서 실패
+        }
+        pool.shutdown();
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(conflict.get()).isEqualTo(REQUESTS - 1);
+        assertThat(reservationRepository.count()).isEqualTo(1);
+        assertThat(scheduleRepository.findById(schedule.getId()).orElseThrow().isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("❌ 존재하지 않는 스케줄 → 404")
+    void unknownSchedule_notFound() {
+        ReservationRequest req = request();
+        req.setScheduleId(-1L);
+
+        assertThatThrownBy(() -> reservationService.createReservation(users.get(0).getId(), req))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.NOT_FOUND);
+    }
+
+    private ReservationRequest request() {
+        ReservationRequest req = new ReservationRequest();
+        req.setCounselorId(counselor.getId());
+        req.setServiceItemId(serviceItem.getId());
+        req.setScheduleId(schedule.getId());
+        req.setReservationTime(schedule.getStartTime());
+        return req;
+    }
+
+    private User newUser(int seq, UserRole role) {
+        return User.builder()
+                .name("동시성" + seq)
+                .nickname("race" + seq)
+                .email("race" + seq + "@test.com")
+                .password("pw")
+                .phone("010-1111-" + String.format("%04d", seq))
+                .userRole(role)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.cache.support.NoOpCacheManager;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.reservation.ReservationResponse;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.util.JwtPrincipal;
+import service.saju_taro_service.service.counselor.CounselorDashboardService;
+import service.saju_taro_service.service.reservation.ReservationService;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 예약 목록 API 쿼리 예산 테스트
+ * 목록 크기와 무관하게 정해진 SQL 실행 횟수를 넘으면 실패 (지연 로딩 N+1 회귀 방지)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ReservationService.class, CounselorDashboardService.class, DailyStatsService.class, EventPublisher.class, DayAvailabilityService.class, NoOpCacheManager.class})
+class ReservationQueryBudgetTest {
+
+    private static final int RESERVATION_COUNT = 50;
+    private static final String N_PLUS_ONE = "목록 조회에서 지연 로딩(N+1)이 발생했습니다.";
+
+    @Autowired
+    ReservationService reservationService;
+    @MockBean
+    SlotHoldService slotHoldService;
+    @MockBean
+    AvailabilityRuleService availabilityRuleService;
+    @Autowired
+    CounselorDashboardService counselorDashboardService;
+    @Autowired
+    EntityManager em;
+
+    private QueryBudgetFixture fixture;
+    private User me;
+    private User counselor;
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        fixture = new QueryBudgetFixture(em);
+
+        me = fixture.persistUser(UserRole.USER);
+        counselor = fixture.persistUser(UserRole.COUNSELOR);
+
+        // 상담사 1명 ← 서로 다른 사용자 50명 (오늘 / 다가올 / 완료 예약)
+        // 사용자 1명 → 서로 다른 상담사 50명
+        for (int i = 0; i < RESERVATION_COUNT; i++) {
+            User otherUser = fixture.persistUser(UserRole.USER);
+            User otherCounselor = fixture.persistUser(UserRole.COUNSELOR);
+            ServiceItem item = persistServiceItem();
+
+            persistReservation(otherUser, counselor, item, today.atStartOfDay().plusMinutes(i), ReservationStatus.CONFIRMED);
+            persistReservation(otherUser, counselor, item, LocalDateTime.now().plusDays(1).plusMinutes(i), ReservationStatus.RESERVED);
+            persistReservation(otherUser, counselor, item, LocalDateTime.now().minusDays(1).minusMinutes(i), ReservationStatus.COMPLETED);
+            persistReservation(me, otherCounselor, item, LocalDateTime.now().plusDays(2).plusMinutes(i), ReservationStatus.RESERVED);
+        }
+        em.flush();
+        em.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                new JwtPrincipal(counselor.getId(), "COUNSELOR"), null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 내 예약 목록 - SQL 1회")
+    void userReservations_withinBudget() {
+        List<ReservationResponse> all = fixture.withinBudget(1, N_PLUS_ONE, () -> reservationService.getUserReservations(me.getId(), null));
+        List<ReservationResponse> filtered = fixture.withinBudget(1, N_PLUS_ONE, () -> reservationService.getUserReservations(me.getId(), "RESERVED"));
+
+        assertThat(all).hasSize(RESERVATION_COUNT).allSatisfy(r -> assertThat(r.getCounselorName()).isNotNull());
+        assertThat(filtered).hasSize(RESERVATION_COUNT);
+    }
+
+    @Test
+    @DisplayName("✅ 상담사 전체 / 날짜별 예약 목록 - SQL 1회")
+    void counselorReservations_withinBudget() {
+        List<ReservationResponse> all = fixture.withinBudget(1, N_PLUS_ONE, () -> reservationService.getCounselorReservations(counselor.getId()));
+        List<ReservationResponse> byDay = fixture.withinBudget(1, N_PLUS_ONE, () ->
+                reservationService.getCounselorReservationsByDay(counselor.getId(), today.toString()));
+
+        assertThat(all).hasSize(RESERVATION_COUNT * 3);
+        assertThat(byDay).hasSizeGreaterThanOrEqualTo(RESERVATION_COUNT)
+                .allSatisfy(r -> assertThat(r.getUserPhone()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("✅ 상담사 대시보드 - 오늘 스케줄 / 다가올 예약 / 최근 완료 = SQL 3회")
+    void dashboard_withinBudget() {
+        var res = fixture.withinBudget(3, N_PLUS_ONE, () -> counselorDashboardService.getDashboard());
+
+        assertThat(res.getUpcomingReservations()).hasSize(RESERVATION_COUNT);
+        assertThat(res.getRecentCompleted()).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("✅ 상담사 월간 대시보드 - 스케줄 / 예약 / 매출 / 후기 통계 = SQL 4회")
+    void monthlyDashboard_withinBudget() {
+        var res = fixture.withinBudget(4, N_PLUS_ONE, () ->
+                counselorDashboardService.getMonthlyDashboard(today.getYear(), today.getMonthValue()));
+
+        assertThat(res.getReservations()).hasSizeGreaterThanOrEqualTo(RESERVATION_COUNT)
+                .allSatisfy(r -> assertThat(r.getUserName()).isNotNull());
+    }
+
+
+
+    private ServiceItem persistServiceItem() {
+        ServiceItem item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        em.persist(item);
+        return item;
+    }
+
+    private void persistReservation(User user, User counselor, ServiceItem item, LocalDateTime time, ReservationStatus status) {
+        em.persist(Reservation.builder()
+                .user(user)
+                .counselor(counselor)
+                .serviceItem(item)
+                .reservationTime(time)
+                .reservationStatus(status)
+                .build());
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import service.saju_taro_service.domain.payment.PaymentStatus;
 import service.saju_taro_service.domain.reservation.Reservation;
 import service.saju_taro_service.domain.reservation.ReservationStatus;
 import service.saju_taro_service.domain.schedule.Schedule;
@@ -15,17 +16,25 @@ import service.saju_taro_service.domain.user.User;
 import service.saju_taro_service.dto.reservation.ReservationRequest;
 import service.saju_taro_service.global.event.EventPublisher;
 import service.saju_taro_service.global.exception.CustomException;
+import service.saju_taro_service.global.exception.ErrorCode;
+import service.saju_taro_service.repository.PaymentRepository;
 import service.saju_taro_service.repository.ReservationRepository;
 import service.saju_taro_service.repository.ScheduleRepository;
 import service.saju_taro_service.repository.ServiceItemRepository;
 import service.saju_taro_service.repository.UserRepository;
 import service.saju_taro_service.service.reservation.ReservationService;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+import service.saju_taro_service.service.scheduleService.AvailabilityRuleService;
+import service.saju_taro_service.service.stats.DailyStatsService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +50,16 @@ class ReservationServiceTest {
     UserRepository userRepository;
     @Mock
     EventPublisher eventPublisher;
+    @Mock
+    DailyStatsService dailyStatsService;
+    @Mock
+    PaymentRepository paymentRepository;
+    @Mock
+    SlotHoldService slotHoldService;
+    @Mock
+    AvailabilityRuleService availabilityRuleService;
+    @Mock
+    DayAvailabilityService dayAvailabilityService;
 
     @InjectMocks
     ReservationService reservationService;
@@ -82,7 +101,7 @@ class ReservationServiceTest {
     // ===================== createReservation =====================
 
     @Test
-    @DisplayName("✅ 예약 생성 - 정상: 스케줄이 isAvailable=false로 점유되어야 함")
+    @DisplayName("✅ 예약 생성 - 정상: 스케줄이 조건부 UPDATE로 점유되어야 함")
     void createReservation_success_scheduleShouldBeOccupied() {
         ReservationRequest req = new ReservationRequest();
         req.setCounselorId(2L);
@@ -93,21 +112,23 @@ class ReservationServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(userRepository.findById(2L)).thenReturn(Optional.of(counselor));
         when(serviceItemRepository.findById(5L)).thenReturn(Optional.of(serviceItem));
-        when(scheduleRepository.findByIdWithLock(10L)).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.claimIfAvailable(10L)).thenReturn(1);
+        when(scheduleRepository.getReferenceById(10L)).thenReturn(schedule);
         when(reservationRepository.save(any())).thenReturn(reservation);
+        when(slotHoldService.hold(eq(10L), any())).thenReturn(true);
 
         reservationService.createReservation(1L, req);
 
         // ✅ 스케줄이 점유되었는지 확인
-        assertThat(schedule.isAvailable()).isFalse();
-        verify(scheduleRepository).save(schedule);
+        verify(scheduleRepository).claimIfAvailable(10L);
+        verify(slotHoldService).hold(eq(10L), any());
+        verify(reservationRepository).save(argThat(r -> r.getSchedule() == schedule));
         verify(eventPublisher, times(2)).publishNotification(any()); // 사용자 + 상담사 알림
     }
 
     @Test
-    @DisplayName("❌ 예약 생성 - 이미 예약된 스케줄 → CustomException")
+    @DisplayName("❌ 예약 생성 - 이미 예약된 스케줄 → 409 CustomException, 예약 저장 안 함")
     void createReservation_alreadyBooked() {
-        schedule.setAvailable(false); // 이미 점유됨
 
         ReservationRequest req = new ReservationRequest();
         req.setCounselorId(2L);
@@ -118,10 +139,35 @@ class ReservationServiceTest {
         when(userRepository.findById(1L)).thenReturn(Optional.of(user));
         when(userRepository.findById(2L)).thenReturn(Optional.of(counselor));
         when(serviceItemRepository.findById(5L)).thenReturn(Optional.of(serviceItem));
-        when(scheduleRepository.findByIdWithLock(10L)).thenReturn(Optional.of(schedule));
+        when(scheduleRepository.claimIfAvailable(10L)).thenReturn(0); // 이미 점유됨
+        when(scheduleRepository.existsById(10L)).thenReturn(true);
 
         assertThatThrownBy(() -> reservationService.createReservation(1L, req))
-                .isInstanceOf(CustomException.class);
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_ALREADY_BOOKED);
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("❌ 예약 생성 - 규칙 슬롯을 다른 요청이 먼저 저장/점유 → 존재 확인 없이 409 (스냅샷에 안 보여도 404 아님)")
+    void createReservation_ruleSlotLostRace_isAlreadyBooked() {
+        ReservationRequest req = new ReservationRequest();
+        req.setCounselorId(2L);
+        req.setServiceItemId(5L);
+        req.setRuleId(7L);
+        req.setReservationTime(LocalDateTime.now().plusDays(1));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(counselor));
+        when(serviceItemRepository.findById(5L)).thenReturn(Optional.of(serviceItem));
+        when(availabilityRuleService.materialize(2L, 7L, req.getReservationTime())).thenReturn(10L);
+        when(scheduleRepository.claimIfAvailable(10L)).thenReturn(0);
+
+        assertThatThrownBy(() -> reservationService.createReservation(1L, req))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_ALREADY_BOOKED);
+        verify(scheduleRepository, never()).existsById(any());
+        verify(reservationRepository, never()).save(any());
     }
 
     @Test
@@ -191,4 +237,66 @@ class ReservationServiceTest {
         assertThatThrownBy(() -> reservationService.updateStatus(1L, ReservationStatus.CONFIRMED))
                 .isInstanceOf(CustomException.class);
     }
+
+    // ===================== 결제 대기 선점 / 만료 =====================
+
+    @Test
+    @DisplayName("❌ 예약 생성 - 다른 예약의 선점 키가 남아 있으면 409 (트랜잭션 롤백으로 점유 취소)")
+    void createReservation_holdConflict() {
+        ReservationRequest req = new ReservationRequest();
+        req.setCounselorId(2L);
+        req.setServiceItemId(5L);
+        req.setScheduleId(10L);
+        req.setReservationTime(LocalDateTime.now().plusDays(1));
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(counselor));
+        when(serviceItemRepository.findById(5L)).thenReturn(Optional.of(serviceItem));
+        when(scheduleRepository.claimIfAvailable(10L)).thenReturn(1);
+        when(scheduleRepository.getReferenceById(10L)).thenReturn(schedule);
+        when(reservationRepository.save(any())).thenReturn(reservation);
+        when(slotHoldService.hold(eq(10L), any())).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.createReservation(1L, req))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.SCHEDULE_ALREADY_BOOKED);
+        verify(dailyStatsService, never()).recordReservation(any());
+        verify(eventPublisher, never()).publishNotification(any());
+    }
+
+    @Test
+    @DisplayName("✅ 결제 대기 만료 - 미결제 + 선점 만료 → 예약 취소, 스케줄 복구")
+    void expireUnpaidReservation_cancelsAndReopens() {
+        schedule.setAvailable(false);
+        when(reservationRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(reservation));
+        when(paymentRepository.existsByReservation_IdAndPaymentStatus(7L, PaymentStatus.PAID)).thenReturn(false);
+        when(slotHoldService.isHeld(10L, 7L)).thenReturn(false);
+
+        assertThat(reservationService.expireUnpaidReservation(7L)).isTrue();
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.CANCELLED);
+        assertThat(schedule.isAvailable()).isTrue();
+        verify(eventPublisher).publishNotification(any());
+    }
+
+    @Test
+    @DisplayName("✅ 결제 대기 만료 - 잠금 후 재확인 시 결제 완료된 예약은 그대로 둠")
+    void expireUnpaidReservation_paidMeanwhile() {
+        schedule.setAvailable(false);
+        when(reservationRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(reservation));
+        when(paymentRepository.existsByReservation_IdAndPaymentStatus(7L, PaymentStatus.PAID)).thenReturn(true);
+
+        assertThat(reservationService.expireUnpaidReservation(7L)).isFalse();
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+        assertThat(schedule.isAvailable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("✅ 결제 대기 만료 - 선점 TTL 이 남아 있으면 취소하지 않음")
+    void expireUnpaidReservation_stillHeld() {
+        when(reservationRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(reservation));
+        when(slotHoldService.isHeld(10L, 7L)).thenReturn(true);
+
+        assertThat(reservationService.expireUnpaidReservation(7L)).isFalse();
+        assertThat(reservation.getReservationStatus()).isEqualTo(ReservationStatus.RESERVED);
+    }
 }
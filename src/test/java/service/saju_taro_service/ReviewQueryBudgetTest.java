@@ -0,0 +1,126 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import service.saju_taro_service.domain.profile.Profile;
+import service.saju_taro_service.domain.reservation.Reservation;
+import service.saju_taro_service.domain.reservation.ReservationStatus;
+import service.saju_taro_service.domain.review.Review;
+import service.saju_taro_service.domain.serviceItem.ServiceItem;
+import service.saju_taro_service.domain.serviceItem.ServiceType;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.profile.ProfileResponse;
+import service.saju_taro_service.dto.review.ReviewResponse;
+import service.saju_taro_service.dto.user.CounselorDetailResponse;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.service.profile.ProfileService;
+import service.saju_taro_service.service.profile.ProfileTagIndex;
+import service.saju_taro_service.service.user.CounselorCacheEvictor;
+import service.saju_taro_service.service.user.CounselorService;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 상담사 후기 조회 쿼리 예산 테스트
+ * 후기 작성자 정보를 후기마다 따로 조회하지 않는지 검증 (N+1 회귀 방지)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CounselorService.class, ProfileService.class, ProfileTagIndex.class, EventPublisher.class, CounselorCacheEvictor.class, NoOpCacheManager.class})
+class ReviewQueryBudgetTest {
+
+    private static final int REVIEW_COUNT = 30;
+    private static final String N_PLUS_ONE = "후기 작성자 조회에서 N+1이 발생했습니다.";
+
+    @Autowired
+    CounselorService counselorService;
+    @Autowired
+    ProfileService profileService;
+    @Autowired
+    EntityManager em;
+
+    private QueryBudgetFixture fixture;
+    private User counselor;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new QueryBudgetFixture(em);
+
+        counselor = fixture.persistUser(UserRole.COUNSELOR);
+        em.persist(Profile.builder().counselor(counselor).bio("소개").tags("타로,연애").build());
+
+        ServiceItem item = new ServiceItem();
+        item.setServiceType(ServiceType.TAROT);
+        item.setTitle("타로 상담");
+        item.setDuration(30);
+        item.setPrice(30000);
+        em.persist(item);
+
+        // 서로 다른 작성자 30명의 후기
+        for (int i = 0; i < REVIEW_COUNT; i++) {
+            User reviewer = fixture.persistUser(UserRole.USER);
+            Reservation reservation = Reservation.builder()
+                    .user(reviewer)
+                    .counselor(counselor)
+                    .serviceItem(item)
+                    .reservationTime(LocalDateTime.now().minusDays(1).plusMinutes(i))
+                    .reservationStatus(ReservationStatus.COMPLETED)
+                    .build();
+            em.persist(reservation);
+            em.persist(Review.builder()
+                    .user(reviewer)
+                    .counselor(counselor)
+                    .reservation(reservation)
+                    .rating(5)
+                    .comment("후기" + i)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("✅ 상담사 후기 페이지 - 목록 + 개수 = SQL 2회, 작성자 이름/닉네임 포함")
+    void reviewPage_withinBudget() {
+        Page<ReviewResponse> page = fixture.withinBudget(2, N_PLUS_ONE, () -> counselorService.getReviewsByCounselor(counselor.getId(), 0, 20));
+
+        assertThat(page.getTotalElements()).isEqualTo(REVIEW_COUNT);
+        assertThat(page.getContent()).hasSize(20).allSatisfy(r -> {
+            assertThat(r.getUserName()).startsWith("테스트");
+            assertThat(r.getNickname()).startsWith("nick");
+        });
+    }
+
+    @Test
+    @DisplayName("✅ 상담사 상세 - 상담사 + 최신 후기 3개 = SQL 3회 이하")
+    void counselorDetail_withinBudget() {
+        CounselorDetailResponse res = fixture.withinBudget(3, N_PLUS_ONE, () -> counselorService.getCounselorDetail(counselor.getId()));
+
+        assertThat(res.getReviews()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("✅ 프로필 상세 - 후기는 요청한 페이지 크기만 포함")
+    void profileDetail_boundedReviews() {
+        ProfileResponse res = fixture.withinBudget(5, N_PLUS_ONE, () -> profileService.getProfile(counselor.getId(), 0, 10));
+
+        assertThat(res.getReviewCount()).isEqualTo(REVIEW_COUNT);
+        assertThat(res.getReviews()).hasSize(10)
+                .allSatisfy(r -> assertThat(r.getUserName()).isNotNull());
+    }
+
+
+}
@@ -0,0 +1,138 @@
+package service.saju_taro_service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.cache.support.NoOpCacheManager;
+import service.saju_taro_service.domain.schedule.Schedule;
+import service.saju_taro_service.domain.user.User;
+import service.saju_taro_service.domain.user.UserRole;
+import service.saju_taro_service.dto.schedule.ScheduleBulkRequest;
+import service.saju_taro_service.dto.schedule.ScheduleBulkResponse;
+import service.saju_taro_service.dto.schedule.ScheduleBulkResponse.ConflictReason;
+import service.saju_taro_service.dto.schedule.ScheduleRequest;
+import service.saju_taro_service.global.event.EventPublisher;
+import service.saju_taro_service.global.util.JwtPrincipal;
+import service.saju_taro_service.repository.ScheduleRepository;
+import service.saju_taro_service.service.scheduleService.ScheduleService;
+import service.saju_taro_service.service.scheduleService.DayAvailabilityService;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ✅ 스케줄 일괄 등록 테스트
+ * 한 달치 슬롯도 조회 2회 + 배치 INSERT 로 끝나는지, 슬롯별 충돌 사유가 정확한지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ScheduleService.class, DayAvailabilityService.class, NoOpCacheManager.class, EventPublisher.class})
+class ScheduleBulkCreateTest {
+
+    @Autowired
+    ScheduleService scheduleService;
+    @Autowired
+    ScheduleRepository scheduleRepository;
+    @Autowired
+    EntityManager em;
+
+    private Statistics statistics;
+    private User counselor;
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        counselor = User.builder()
+                .name("상담사").nickname("bulk").email("bulk@test.com").password("pw")
+                .phone("010-0000-0001").userRole(UserRole.COUNSELOR).build();
+        em.persist(counselor);
+
+        JwtPrincipal principal = new JwtPrincipal(counselor.getId(), "COUNSELOR");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("✅ 30일 × 16슬롯(480개) 일괄 등록 - JPA 쿼리 3회 (상담사, 기존 구간, 생성 결과)")
+    void monthOfSlots_fixedQueryBudget() {
+        List<ScheduleRequest> slots = new ArrayList<>();
+        for (int day = 0; day < 30; day++) {
+            for (int i = 0; i < 16; i++) {
+                LocalDateTime start = base.plusDays(day).plusMinutes(30L * i);
+                slots.add(slot(start, start.plusMinutes(30))); // 연속 슬롯 (끝 = 다음 시작)
+            }
+        }
+        em.flush();
+        em.clear();
+        statistics.clear();
+
+        ScheduleBulkResponse res = scheduleService.createSchedules(bulk(slots));
+
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+        assertThat(res.getCreated()).isEqualTo(480);
+        assertThat(res.getConflicts()).isEmpty();
+        assertThat(res.getSchedules()).allSatisfy(s -> {
+            assertThat(s.getId()).isNotNull();
+            assertThat(s.getCounselorId()).isEqualTo(counselor.getId());
+        });
+        assertThat(scheduleRepository.count()).isEqualTo(480);
+    }
+
+    @Test
+    @DisplayName("✅ 기존 스케줄 겹침 / 요청 내부 겹침 / 잘못된 구간 → 슬롯별 사유, 나머지는 등록")
+    void perSlotConflicts() {
+        Schedule existing = scheduleRepository.save(Schedule.builder()
+                .counselor(counselor).startTime(base.plusHours(2)).endTime(base.plusHours(3)).build());
+
+        ScheduleBulkResponse res = scheduleService.createSchedules(bulk(List.of(
+                slot(base, base.plusMinutes(30)),                               // 0 등록
+                slot(base.plusMinutes(15), base.plusMinutes(45)),               // 1 ← 0 과 겹침
+                slot(base.plusHours(2).plusMinutes(30), base.plusHours(3)),     // 2 ← 기존과 겹침
+                slot(base.plusHours(3), base.plusHours(3).plusMinutes(30)),     // 3 기존 끝에 맞닿음 → 등록
+                slot(base.plusHours(5), base.plusHours(4))                      // 4 시작 > 종료
+        )));
+
+        assertThat(res.getRequested()).isEqualTo(5);
+        assertThat(res.getCreated()).isEqualTo(2);
+        assertThat(res.getConflicts()).extracting("index", "reason", "conflictingScheduleId", "conflictingIndex")
+                .containsExactly(
+                        tuple(1, ConflictReason.REQUEST_OVERLAP, null, 0),
+                        tuple(2, ConflictReason.EXISTING_OVERLAP, existing.getId(), null),
+                        tuple(4, ConflictReason.INVALID_RANGE, null, null));
+        assertThat(scheduleRepository.count()).isEqualTo(3);
+    }
+
+    private ScheduleBulkRequest bulk(List<ScheduleRequest> slots) {
+        ScheduleBulkRequest req = new ScheduleBulkRequest();
+        req.setSlots(slots);
+        return req;
+    }
+
+    private ScheduleRequest slot(LocalDateTime start, LocalDateTime end) {
+        ScheduleRequest req = new ScheduleRequest();
+        req.setStartTime(start);
+        req.setEndTime(end);
+        return req;
+    }
+}
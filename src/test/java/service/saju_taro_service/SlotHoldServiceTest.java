@@ -0,0 +1,74 @@
+package service.saju_taro_service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import service.saju_taro_service.service.reservation.SlotHoldService;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SlotHoldServiceTest {
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    ValueOperations<String, Object> valueOps;
+
+    private SlotHoldService slotHoldService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        slotHoldService = new SlotHoldService(redisTemplate);
+        ReflectionTestUtils.setField(slotHoldService, "holdTtl", Duration.ofMinutes(10));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("✅ 선점 후 예약 트랜잭션 롤백 → 선점 키 삭제")
+    void rollback_releasesHold() {
+        when(valueOps.setIfAbsent("slot_hold:10", "7", Duration.ofMinutes(10))).thenReturn(true);
+        when(valueOps.get("slot_hold:10")).thenReturn("7");
+
+        assertThat(slotHoldService.hold(10L, 7L)).isTrue();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(redisTemplate).delete("slot_hold:10");
+    }
+
+    @Test
+    @DisplayName("✅ 커밋되면 선점 유지, 이미 다른 예약이 선점 중이면 false")
+    void commit_keepsHold_andConflictReturnsFalse() {
+        when(valueOps.setIfAbsent("slot_hold:10", "7", Duration.ofMinutes(10))).thenReturn(true);
+        when(valueOps.setIfAbsent("slot_hold:11", "8", Duration.ofMinutes(10))).thenReturn(false);
+
+        assertThat(slotHoldService.hold(10L, 7L)).isTrue();
+        assertThat(slotHoldService.hold(11L, 8L)).isFalse();
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        verify(redisTemplate, never()).delete(anyString());
+    }
+}
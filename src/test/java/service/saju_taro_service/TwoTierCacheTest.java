@@ -0,0 +1,135 @@
+package service.saju_taro_service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+import service.saju_taro_service.dto.user.CounselorResponse;
+import service.saju_taro_service.global.cache.CachedPage;
+import service.saju_taro_service.global.cache.TwoTierCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TwoTierCacheTest {
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    ValueOperations<String, Object> valueOps;
+    @Mock
+    SetOperations<String, Object> setOps;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOps);
+        when(redisTemplate.opsForSet()).thenReturn(setOps);
+        cache = new TwoTierCache("counselor-list",
+                Caffeine.newBuilder().maximumSize(100).build(),
+                redisTemplate, objectMapper,
+                objectMapper.getTypeFactory().constructParametricType(CachedPage.class, CounselorResponse.class),
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("✅ put → L1 적중 (Redis 조회 없음), Redis 에는 JSON 저장")
+    void localHit() {
+        Page<CounselorResponse> page = samplePage();
+        cache.put("rating:0:10", page);
+
+        assertThat(cache.get("rating:0:10").get()).isSameAs(page);
+        verify(valueOps, never()).get(anyString());
+        verify(valueOps).set(eq("cache:counselor-list:rating:0:10"), anyString(), eq(Duration.ofMinutes(5)));
+        verify(setOps).add("cache:counselor-list:keys", "cache:counselor-list:rating:0:10");
+        assertThat(cache.stats()).containsEntry("localHits", 1L).containsEntry("misses", 0L);
+    }
+
+    @Test
+    @DisplayName("✅ L1 미스 → Redis JSON 에서 Page 복원 후 L1 에 다시 채움")
+    void redisHit_restoresPage() throws Exception {
+        String json = objectMapper.writeValueAsString(CachedPage.from(samplePage()));
+        when(valueOps.get("cache:counselor-list:rating:0:10")).thenReturn(json);
+
+        Object first = cache.get("rating:0:10").get();
+        Object second = cache.get("rating:0:10").get();
+
+        assertThat(first).isInstanceOf(Page.class);
+        Page<?> restored = (Page<?>) first;
+        assertThat(restored.getTotalElements()).isEqualTo(25);
+        assertThat(restored.getSort().getOrderFor("averageRating")).isNotNull();
+        assertThat(restored.getContent()).first().isInstanceOf(CounselorResponse.class)
+                .extracting("name").isEqualTo("상담사1");
+        assertThat(second).isSameAs(first);
+        verify(valueOps, times(1)).get(anyString());
+        assertThat(cache.stats()).containsEntry("redisHits", 1L).containsEntry("localHits", 1L);
+    }
+
+    @Test
+    @DisplayName("✅ Redis 장애 시 예외 없이 미스 처리 → 원본 로더 호출")
+    void redisDown_fallsBackToLoader() {
+        when(valueOps.get(anyString())).thenThrow(new RedisConnectionFailureException("down"));
+        doThrow(new RedisConnectionFailureException("down")).when(valueOps).set(anyString(), any(), any(Duration.class));
+
+        Page<CounselorResponse> loaded = cache.get("rating:0:10", this::samplePage);
+
+        assertThat(loaded.getTotalElements()).isEqualTo(25);
+        assertThat(cache.get("rating:0:10").get()).isSameAs(loaded);
+        Map<String, Object> stats = cache.stats();
+        assertThat(stats).containsEntry("misses", 1L).containsEntry("localHits", 1L);
+    }
+
+    @Test
+    @DisplayName("✅ clear - L1 비우고 Redis 키 목록에 있던 키 모두 삭제")
+    @SuppressWarnings("unchecked")
+    void clear_removesIndexedKeys() {
+        cache.put("rating:0:10", samplePage());
+        when(setOps.members("cache:counselor-list:keys"))
+                .thenReturn(Set.of("cache:counselor-list:rating:0:10", "cache:counselor-list:reviews:0:10"));
+
+        cache.clear();
+
+        assertThat(cache.get("rating:0:10")).isNull();
+        ArgumentCaptor<java.util.Collection<String>> deleted = ArgumentCaptor.forClass(java.util.Collection.class);
+        verify(redisTemplate).delete(deleted.capture());
+        assertThat(deleted.getValue()).containsExactlyInAnyOrder(
+                "cache:counselor-list:rating:0:10", "cache:counselor-list:reviews:0:10");
+        verify(redisTemplate).delete("cache:counselor-list:keys");
+    }
+
+    private Page<CounselorResponse> samplePage() {
+        CounselorResponse c = new CounselorResponse();
+        c.setId(1L);
+        c.setName("상담사1");
+        c.setAverageRating(4.9);
+        c.setReviewCount(12);
+        return new PageImpl<>(List.of(c), PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "averageRating")), 25);
+    }
+}